@@ -0,0 +1,20 @@
+package config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import utils.AccountNumberGenerator;
+import utils.CheckDigitAccountNumberGenerator;
+
+@Configuration
+public class AccountNumberConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(AccountNumberGenerator.class)
+    public AccountNumberGenerator accountNumberGenerator(
+            @Value("${account.number.node-id:0}") int nodeId,
+            @Value("${account.number.accept-legacy:true}") boolean acceptLegacy) {
+        return new CheckDigitAccountNumberGenerator(nodeId, acceptLegacy);
+    }
+}
@@ -0,0 +1,16 @@
+package config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import repository.CustomerRepository;
+import utils.CustomerIdGenerator;
+
+@Configuration
+public class CustomerIdConfig {
+
+    @Bean
+    public CustomerIdGenerator customerIdGenerator(CustomerRepository customerRepository) {
+        return new CustomerIdGenerator(customerRepository::nextCustomerIdBlock,
+                customerRepository.getCustomerIdBlockSize());
+    }
+}
@@ -0,0 +1,30 @@
+package config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import repository.impl.AccountRepositoryImpl;
+import repository.ledger.LedgerEngine;
+import repository.ledger.LedgerWriteBehind;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+@Profile("ledger")
+public class LedgerConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public LedgerEngine ledgerEngine(AccountRepositoryImpl accountRepositoryImpl,
+                                     LedgerWriteBehind ledgerWriteBehind,
+                                     @Value("${ledger.directory:./ledger-wal}") String directory,
+                                     @Value("${ledger.shards:8}") int shards,
+                                     @Value("${ledger.checkpoint-interval-ms:60000}") long checkpointIntervalMillis)
+            throws IOException {
+        LedgerEngine engine = new LedgerEngine(Path.of(directory), shards, ledgerWriteBehind);
+        engine.recover(accountRepositoryImpl.findAll());
+        engine.start(checkpointIntervalMillis);
+        return engine;
+    }
+}
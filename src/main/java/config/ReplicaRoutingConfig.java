@@ -0,0 +1,73 @@
+package config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import controller.filter.ReadYourWritesFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import repository.routing.ReplicaRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@Profile("replica")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.routing.replica-urls}") List<String> replicaUrls,
+            @Value("${datasource.routing.replica-username:${spring.datasource.username}}") String username,
+            @Value("${datasource.routing.replica-password:${spring.datasource.password}}") String password,
+            @Value("${datasource.routing.replica-pool-size:10}") int poolSize,
+            @Value("${datasource.routing.max-lag-ms:1000}") long maxLagMillis) {
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setDriverClassName(properties.getDriverClassName());
+            replica.setMaximumPoolSize(poolSize);
+            replica.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+            replica.setReadOnly(true);
+            replicas.put(replica.getPoolName(), replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, maxLagMillis, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter() {
+        return new ReadYourWritesFilter();
+    }
+}
@@ -0,0 +1,15 @@
+package config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import utils.TransactionIdGenerator;
+
+@Configuration
+public class TransactionIdConfig {
+
+    @Bean
+    public TransactionIdGenerator transactionIdGenerator(@Value("${transaction.id.node-id:0}") int nodeId) {
+        return new TransactionIdGenerator(nodeId);
+    }
+}
@@ -0,0 +1,16 @@
+package config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import utils.TransactionStats;
+
+@Configuration
+public class TransactionStatsConfig {
+
+    private static final int HORIZON_SECONDS = 15 * 60;
+
+    @Bean
+    public TransactionStats transactionStats() {
+        return new TransactionStats(HORIZON_SECONDS);
+    }
+}
@@ -12,11 +12,17 @@ import model.dto.request.WithdrawRequest;
 import model.dto.response.AccountResponse;
 import model.dto.response.ApiResponse;
 import model.dto.response.BalanceResponse;
+import model.dto.response.CursorPageResponse;
+import model.dto.response.DailySummaryResponse;
+import model.dto.response.PeriodSummaryResponse;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import service.AccountService;
+import service.IdempotencyService;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -27,6 +33,7 @@ import java.util.List;
 public class AccountController {
 
     private final AccountService accountService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping
     @Operation(summary = "Create new account", description = "Creates a new bank account for a customer")
@@ -51,6 +58,31 @@ public class AccountController {
         }
     }
 
+    @GetMapping
+    @Operation(summary = "List accounts", description = "Retrieves accounts newest first, one page per call")
+    public ResponseEntity<ApiResponse<CursorPageResponse<AccountResponse>>> getAccounts(
+            @Parameter(description = "Account type filter") @RequestParam(required = false) String accountType,
+            @Parameter(description = "Active flag filter") @RequestParam(required = false) Boolean active,
+            @Parameter(description = "Continuation token from the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, capped by the server") @RequestParam(defaultValue = "50") int limit) {
+
+        log.info("Listing accounts - Type: {}, Active: {}, Limit: {}", accountType, active, limit);
+
+        try {
+            CursorPageResponse<AccountResponse> page = accountService.getAccounts(accountType, active, cursor, limit);
+            return ResponseEntity.ok(ApiResponse.success(page, page.getSize() + " accounts found"));
+        } catch (IllegalArgumentException e) {
+            log.warn("Account listing rejected - {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage(), "VALIDATION_ERROR"));
+        } catch (Exception e) {
+            log.error("Error listing accounts: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to retrieve accounts", "SYSTEM_ERROR"));
+        }
+    }
+
     @GetMapping("/{accountNumber}")
     @Operation(summary = "Get account by number", description = "Retrieves account information by account number")
     public ResponseEntity<ApiResponse<AccountResponse>> getAccountByNumber(
@@ -58,18 +90,8 @@ public class AccountController {
 
         log.info("Getting account - Account Number: {}", accountNumber);
 
-        try {
-            AccountResponse account = accountService.getAccountByNumber(accountNumber);
-            return ResponseEntity.ok(ApiResponse.success(account));
-        } catch (RuntimeException e) {
-            log.warn("Account not found - Account Number: {}", accountNumber);
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.error("Account not found", "ACCOUNT_NOT_FOUND"));
-        } catch (Exception e) {
-            log.error("Error getting account - Account Number: {}", accountNumber);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Failed to retrieve account", "SYSTEM_ERROR"));
-        }
+        AccountResponse account = accountService.getAccountByNumber(accountNumber);
+        return ResponseEntity.ok(ApiResponse.success(account));
     }
 
     @GetMapping("/customer/{customerId}")
@@ -91,31 +113,77 @@ public class AccountController {
     }
 
     @GetMapping("/{accountNumber}/balance")
-    @Operation(summary = "Get account balance", description = "Retrieves current balance for an account")
+    @Operation(summary = "Get account balance",
+            description = "Retrieves current balance for an account, or its end-of-day balance on a past date")
     public ResponseEntity<ApiResponse<BalanceResponse>> getBalance(
-            @Parameter(description = "Account number") @PathVariable String accountNumber) {
+            @Parameter(description = "Account number") @PathVariable String accountNumber,
+            @Parameter(description = "Balance at end of this day (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate asOf) {
+
+        log.info("Getting balance - Account Number: {}, As Of: {}", accountNumber, asOf);
+
+        BalanceResponse balance = asOf != null
+                ? accountService.getBalanceAsOf(accountNumber, asOf)
+                : accountService.getBalance(accountNumber);
+        return ResponseEntity.ok(ApiResponse.success(balance));
+    }
 
-        log.info("Getting balance - Account Number: {}", accountNumber);
+    @GetMapping("/{accountNumber}/summaries/daily")
+    @Operation(summary = "Get daily summaries",
+            description = "Retrieves per-day inflow, outflow and closing balance for an account")
+    public ResponseEntity<ApiResponse<List<DailySummaryResponse>>> getDailySummaries(
+            @Parameter(description = "Account number") @PathVariable String accountNumber,
+            @Parameter(description = "First day of the period (yyyy-MM-dd)")
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
+            @Parameter(description = "Last day of the period (yyyy-MM-dd)")
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate to) {
+
+        log.info("Getting daily summaries - Account Number: {}, From: {}, To: {}", accountNumber, from, to);
 
         try {
-            BalanceResponse balance = accountService.getBalance(accountNumber);
-            return ResponseEntity.ok(ApiResponse.success(balance));
-        } catch (RuntimeException e) {
-            log.warn("Account not found for balance - Account Number: {}", accountNumber);
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.error("Account not found", "ACCOUNT_NOT_FOUND"));
-        } catch (Exception e) {
-            log.error("Error getting balance - Account Number: {}", accountNumber);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Failed to retrieve balance", "SYSTEM_ERROR"));
+            List<DailySummaryResponse> summaries = accountService.getDailySummaries(accountNumber, from, to);
+            return ResponseEntity.ok(ApiResponse.success(summaries));
+        } catch (IllegalArgumentException e) {
+            log.warn("Daily summary lookup failed - Validation error: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage(), "VALIDATION_ERROR"));
+        }
+    }
+
+    @GetMapping("/{accountNumber}/summaries/period")
+    @Operation(summary = "Get period summary",
+            description = "Aggregates inflow, outflow and opening/closing balance over a period from daily summaries")
+    public ResponseEntity<ApiResponse<PeriodSummaryResponse>> getPeriodSummary(
+            @Parameter(description = "Account number") @PathVariable String accountNumber,
+            @Parameter(description = "First day of the period (yyyy-MM-dd)")
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
+            @Parameter(description = "Last day of the period (yyyy-MM-dd)")
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate to) {
+
+        log.info("Getting period summary - Account Number: {}, From: {}, To: {}", accountNumber, from, to);
+
+        try {
+            PeriodSummaryResponse summary = accountService.getPeriodSummary(accountNumber, from, to);
+            return ResponseEntity.ok(ApiResponse.success(summary));
+        } catch (IllegalArgumentException e) {
+            log.warn("Period summary lookup failed - Validation error: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage(), "VALIDATION_ERROR"));
         }
     }
 
     @PostMapping("/deposit")
     @Operation(summary = "Deposit money", description = "Deposits money into an account")
     public ResponseEntity<ApiResponse<AccountResponse>> deposit(
+            @Parameter(description = "Client key that makes retries return the original result")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody DepositRequest request) {
 
+        return idempotencyService.execute(idempotencyKey, request, AccountResponse.class,
+                () -> processDeposit(request));
+    }
+
+    private ResponseEntity<ApiResponse<AccountResponse>> processDeposit(DepositRequest request) {
         log.info("Processing deposit - Account: {}, Amount: {}",
                 request.getAccountNumber(), request.getAmount());
 
@@ -126,22 +194,21 @@ public class AccountController {
             log.warn("Deposit failed - Validation error: {}", e.getMessage());
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error(e.getMessage(), "VALIDATION_ERROR"));
-        } catch (RuntimeException e) {
-            log.warn("Deposit failed - Account not found: {}", request.getAccountNumber());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.error("Account not found", "ACCOUNT_NOT_FOUND"));
-        } catch (Exception e) {
-            log.error("Deposit failed - System error: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Deposit failed", "SYSTEM_ERROR"));
         }
     }
 
     @PostMapping("/withdraw")
     @Operation(summary = "Withdraw money", description = "Withdraws money from an account")
     public ResponseEntity<ApiResponse<AccountResponse>> withdraw(
+            @Parameter(description = "Client key that makes retries return the original result")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody WithdrawRequest request) {
 
+        return idempotencyService.execute(idempotencyKey, request, AccountResponse.class,
+                () -> processWithdraw(request));
+    }
+
+    private ResponseEntity<ApiResponse<AccountResponse>> processWithdraw(WithdrawRequest request) {
         log.info("Processing withdrawal - Account: {}, Amount: {}",
                 request.getAccountNumber(), request.getAmount());
 
@@ -152,17 +219,38 @@ public class AccountController {
             log.warn("Withdrawal failed - Validation/Business error: {}", e.getMessage());
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error(e.getMessage(), "BUSINESS_ERROR"));
-        } catch (RuntimeException e) {
-            log.warn("Withdrawal failed - Account not found: {}", request.getAccountNumber());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.error("Account not found", "ACCOUNT_NOT_FOUND"));
-        } catch (Exception e) {
-            log.error("Withdrawal failed - System error: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Withdrawal failed", "SYSTEM_ERROR"));
         }
     }
 
+    @PutMapping("/{accountNumber}/striping")
+    @Operation(summary = "Enable balance striping", description = "Spreads credits to a hot account across several sub-balance rows")
+    public ResponseEntity<ApiResponse<Void>> enableStriping(
+            @Parameter(description = "Account number") @PathVariable String accountNumber,
+            @Parameter(description = "Number of stripes") @RequestParam(defaultValue = "8") int stripes) {
+
+        log.info("Enabling striping - Account Number: {}, Stripes: {}", accountNumber, stripes);
+
+        try {
+            accountService.enableStriping(accountNumber, stripes);
+            return ResponseEntity.ok(ApiResponse.success(null, "Account striping enabled successfully"));
+        } catch (IllegalArgumentException e) {
+            log.warn("Enable striping failed - Validation error: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage(), "VALIDATION_ERROR"));
+        }
+    }
+
+    @DeleteMapping("/{accountNumber}/striping")
+    @Operation(summary = "Disable balance striping", description = "Folds sub-balance rows back into the account balance")
+    public ResponseEntity<ApiResponse<Void>> disableStriping(
+            @Parameter(description = "Account number") @PathVariable String accountNumber) {
+
+        log.info("Disabling striping - Account Number: {}", accountNumber);
+
+        accountService.disableStriping(accountNumber);
+        return ResponseEntity.ok(ApiResponse.success(null, "Account striping disabled successfully"));
+    }
+
     @DeleteMapping("/{accountNumber}")
     @Operation(summary = "Deactivate account", description = "Deactivates a bank account (soft delete)")
     public ResponseEntity<ApiResponse<Void>> deactivateAccount(
@@ -170,17 +258,7 @@ public class AccountController {
 
         log.info("Deactivating account - Account Number: {}", accountNumber);
 
-        try {
-            accountService.deactivateAccount(accountNumber);
-            return ResponseEntity.ok(ApiResponse.success(null, "Account deactivated successfully"));
-        } catch (RuntimeException e) {
-            log.warn("Account deactivation failed - Account not found: {}", accountNumber);
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.error("Account not found", "ACCOUNT_NOT_FOUND"));
-        } catch (Exception e) {
-            log.error("Account deactivation failed - System error: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Account deactivation failed", "SYSTEM_ERROR"));
-        }
+        accountService.deactivateAccount(accountNumber);
+        return ResponseEntity.ok(ApiResponse.success(null, "Account deactivated successfully"));
     }
 }
\ No newline at end of file
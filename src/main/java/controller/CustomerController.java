@@ -9,14 +9,13 @@ import lombok.extern.slf4j.Slf4j;
 import model.dto.request.CreateCustomerRequest;
 import model.dto.request.UpdateCustomerRequest;
 import model.dto.response.ApiResponse;
+import model.dto.response.CursorPageResponse;
 import model.dto.response.CustomerResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import service.CustomerService;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/v1/customers")
 @RequiredArgsConstructor
@@ -55,18 +54,8 @@ public class CustomerController {
 
         log.info("Getting customer - Customer ID: {}", customerId);
 
-        try {
-            CustomerResponse customer = customerService.getCustomerById(customerId);
-            return ResponseEntity.ok(ApiResponse.success(customer));
-        } catch (RuntimeException e) {
-            log.warn("Customer not found - Customer ID: {}", customerId);
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.error("Customer not found", "CUSTOMER_NOT_FOUND"));
-        } catch (Exception e) {
-            log.error("Error getting customer - Customer ID: {}", customerId);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Failed to retrieve customer", "SYSTEM_ERROR"));
-        }
+        CustomerResponse customer = customerService.getCustomerById(customerId);
+        return ResponseEntity.ok(ApiResponse.success(customer));
     }
 
     @GetMapping("/email/{email}")
@@ -76,18 +65,8 @@ public class CustomerController {
 
         log.info("Getting customer by email: {}", email);
 
-        try {
-            CustomerResponse customer = customerService.getCustomerByEmail(email);
-            return ResponseEntity.ok(ApiResponse.success(customer));
-        } catch (RuntimeException e) {
-            log.warn("Customer not found - Email: {}", email);
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.error("Customer not found", "CUSTOMER_NOT_FOUND"));
-        } catch (Exception e) {
-            log.error("Error getting customer by email: {}", email);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Failed to retrieve customer", "SYSTEM_ERROR"));
-        }
+        CustomerResponse customer = customerService.getCustomerByEmail(email);
+        return ResponseEntity.ok(ApiResponse.success(customer));
     }
 
     @PutMapping("/{customerId}")
@@ -105,14 +84,6 @@ public class CustomerController {
             log.warn("Customer update failed - Validation error: {}", e.getMessage());
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error(e.getMessage(), "VALIDATION_ERROR"));
-        } catch (RuntimeException e) {
-            log.warn("Customer update failed - Customer not found: {}", customerId);
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.error("Customer not found", "CUSTOMER_NOT_FOUND"));
-        } catch (Exception e) {
-            log.error("Customer update failed - System error: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Customer update failed", "SYSTEM_ERROR"));
         }
     }
 
@@ -123,32 +94,29 @@ public class CustomerController {
 
         log.info("Deactivating customer - Customer ID: {}", customerId);
 
-        try {
-            customerService.deactivateCustomer(customerId);
-            return ResponseEntity.ok(ApiResponse.success(null, "Customer deactivated successfully"));
-        } catch (RuntimeException e) {
-            log.warn("Customer deactivation failed - Customer not found: {}", customerId);
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.error("Customer not found", "CUSTOMER_NOT_FOUND"));
-        } catch (Exception e) {
-            log.error("Customer deactivation failed - System error: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Customer deactivation failed", "SYSTEM_ERROR"));
-        }
+        customerService.deactivateCustomer(customerId);
+        return ResponseEntity.ok(ApiResponse.success(null, "Customer deactivated successfully"));
     }
 
     @GetMapping
-    @Operation(summary = "Get all active customers", description = "Retrieves all active customers")
-    public ResponseEntity<ApiResponse<List<CustomerResponse>>> getAllActiveCustomers() {
+    @Operation(summary = "List customers", description = "Retrieves customers newest first, one page per call")
+    public ResponseEntity<ApiResponse<CursorPageResponse<CustomerResponse>>> getCustomers(
+            @Parameter(description = "Active flag filter") @RequestParam(required = false) Boolean active,
+            @Parameter(description = "Continuation token from the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, capped by the server") @RequestParam(defaultValue = "50") int limit) {
 
-        log.info("Getting all active customers");
+        log.info("Listing customers - Active: {}, Limit: {}", active, limit);
 
         try {
-            List<CustomerResponse> customers = customerService.getAllActiveCustomers();
-            return ResponseEntity.ok(ApiResponse.success(customers,
-                    customers.size() + " active customers found"));
+            CursorPageResponse<CustomerResponse> page = customerService.getCustomers(active, cursor, limit);
+            return ResponseEntity.ok(ApiResponse.success(page, page.getSize() + " customers found"));
+        } catch (IllegalArgumentException e) {
+            log.warn("Customer listing rejected - {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage(), "VALIDATION_ERROR"));
         } catch (Exception e) {
-            log.error("Error getting active customers: {}", e.getMessage());
+            log.error("Error listing customers: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("Failed to retrieve customers", "SYSTEM_ERROR"));
         }
@@ -1,22 +1,36 @@
 package controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import model.dto.request.BatchTransferRequest;
 import model.dto.request.TransferRequest;
 import model.dto.response.ApiResponse;
+import model.dto.response.BatchTransferResponse;
+import model.dto.response.CursorPageResponse;
 import model.dto.response.TransactionResponse;
+import model.dto.response.TransactionStatsResponse;
 import model.dto.response.TransferResponse;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import service.IdempotencyService;
 import service.TransactionService;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @RestController
 @RequestMapping("/api/v1/transactions")
@@ -26,12 +40,22 @@ import java.util.List;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     @PostMapping("/transfer")
     @Operation(summary = "Transfer money", description = "Transfers money between accounts")
     public ResponseEntity<ApiResponse<TransferResponse>> transferMoney(
+            @Parameter(description = "Client key that makes retries return the original result")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody TransferRequest request) {
 
+        return idempotencyService.execute(idempotencyKey, request, TransferResponse.class,
+                () -> processTransfer(request));
+    }
+
+    private ResponseEntity<ApiResponse<TransferResponse>> processTransfer(TransferRequest request) {
         log.info("Processing transfer - From: {}, To: {}, Amount: {}",
                 request.getFromAccountNumber(), request.getToAccountNumber(), request.getAmount());
 
@@ -42,14 +66,43 @@ public class TransactionController {
             log.warn("Transfer failed - Business error: {}", e.getMessage());
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error(e.getMessage(), "BUSINESS_ERROR"));
-        } catch (RuntimeException e) {
-            log.warn("Transfer failed - Account error: {}", e.getMessage());
+        }
+    }
+
+    @PostMapping("/transfers/batch")
+    @Operation(summary = "Batch transfer money",
+            description = "Transfers money for a batch of requests in one database transaction, per item or all-or-nothing")
+    public ResponseEntity<ApiResponse<BatchTransferResponse>> transferMoneyBatch(
+            @Valid @RequestBody BatchTransferRequest request) {
+
+        log.info("Processing batch transfer - Items: {}, Atomic: {}",
+                request.getTransfers() != null ? request.getTransfers().size() : 0, request.isAtomic());
+
+        try {
+            BatchTransferResponse batch = transactionService.transferMoneyBatch(request);
+            return ResponseEntity.ok(ApiResponse.success(batch,
+                    batch.getSuccessCount() + " of " + batch.getTotalCount() + " transfers completed"));
+        } catch (IllegalArgumentException e) {
+            log.warn("Batch transfer failed - Business error: {}", e.getMessage());
             return ResponseEntity.badRequest()
-                    .body(ApiResponse.error(e.getMessage(), "ACCOUNT_ERROR"));
+                    .body(ApiResponse.error(e.getMessage(), "BUSINESS_ERROR"));
         } catch (Exception e) {
-            log.error("Transfer failed - System error: {}", e.getMessage());
+            log.error("Batch transfer failed - System error: {}", e.getMessage());
             return ResponseEntity.status(500)
-                    .body(ApiResponse.error("Transfer failed", "SYSTEM_ERROR"));
+                    .body(ApiResponse.error("Batch transfer failed", "SYSTEM_ERROR"));
+        }
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get transaction throughput",
+            description = "Retrieves in-process event rates, amounts by type and failure ratios over 1s, 1m and 15m")
+    public ResponseEntity<ApiResponse<TransactionStatsResponse>> getTransactionStats() {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(transactionService.getTransactionStats()));
+        } catch (Exception e) {
+            log.error("Error getting transaction stats - {}", e.getMessage());
+            return ResponseEntity.status(500)
+                    .body(ApiResponse.error("Failed to retrieve transaction stats", "SYSTEM_ERROR"));
         }
     }
 
@@ -60,36 +113,30 @@ public class TransactionController {
 
         log.info("Getting transaction - Transaction ID: {}", transactionId);
 
-        try {
-            TransactionResponse transaction = transactionService.getTransactionById(transactionId);
-            return ResponseEntity.ok(ApiResponse.success(transaction));
-        } catch (RuntimeException e) {
-            log.warn("Transaction not found - Transaction ID: {}", transactionId);
-            return ResponseEntity.status(404)
-                    .body(ApiResponse.error("Transaction not found", "TRANSACTION_NOT_FOUND"));
-        } catch (Exception e) {
-            log.error("Error getting transaction - Transaction ID: {}", transactionId);
-            return ResponseEntity.status(500)
-                    .body(ApiResponse.error("Failed to retrieve transaction", "SYSTEM_ERROR"));
-        }
+        TransactionResponse transaction = transactionService.getTransactionById(transactionId);
+        return ResponseEntity.ok(ApiResponse.success(transaction));
     }
 
     @GetMapping("/account/{accountNumber}")
-    @Operation(summary = "Get account transaction history", description = "Retrieves transaction history for an account")
-    public ResponseEntity<ApiResponse<List<TransactionResponse>>> getAccountTransactionHistory(
+    @Operation(summary = "Get account transaction history",
+            description = "Retrieves transaction history for an account, newest first, one page per call")
+    public ResponseEntity<ApiResponse<CursorPageResponse<TransactionResponse>>> getAccountTransactionHistory(
             @Parameter(description = "Account number") @PathVariable String accountNumber,
-            @Parameter(description = "Limit number of transactions") @RequestParam(defaultValue = "50") int limit) {
+            @Parameter(description = "Continuation token from the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, capped by the server") @RequestParam(defaultValue = "50") int limit) {
 
-        log.info("Getting transaction history - Account: {}, Limit: {}", accountNumber, limit);
+        log.info("Getting transaction history - Account: {}, Limit: {}, Cursor: {}", accountNumber, limit, cursor);
 
         try {
-            List<TransactionResponse> transactions = transactionService.getAccountTransactionHistory(accountNumber, limit);
-            return ResponseEntity.ok(ApiResponse.success(transactions,
-                    transactions.size() + " transactions found"));
-        } catch (Exception e) {
-            log.error("Error getting transaction history - Account: {}", accountNumber);
-            return ResponseEntity.status(500)
-                    .body(ApiResponse.error("Failed to retrieve transaction history", "SYSTEM_ERROR"));
+            CursorPageResponse<TransactionResponse> page =
+                    transactionService.getAccountTransactionHistory(accountNumber, cursor, limit);
+            return ResponseEntity.ok(ApiResponse.success(page,
+                    page.getSize() + " transactions found"));
+        } catch (IllegalArgumentException e) {
+            log.warn("Transaction history rejected - {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage(), "VALIDATION_ERROR"));
         }
     }
 
@@ -114,6 +161,22 @@ public class TransactionController {
         }
     }
 
+    @GetMapping(value = "/date-range", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream transactions by date range",
+            description = "Streams transactions within a date range as newline-delimited JSON")
+    public void streamTransactionsByDateRange(
+            @Parameter(description = "Start date (yyyy-MM-dd HH:mm:ss)")
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") LocalDateTime startDate,
+            @Parameter(description = "End date (yyyy-MM-dd HH:mm:ss)")
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") LocalDateTime endDate,
+            HttpServletResponse response) throws IOException {
+
+        log.info("Streaming transactions by date range - Start: {}, End: {}", startDate, endDate);
+
+        streamTransactions(response, "date-range",
+                sink -> transactionService.streamTransactionsByDateRange(startDate, endDate, sink));
+    }
+
     @GetMapping("/status/{status}")
     @Operation(summary = "Get transactions by status", description = "Retrieves transactions by status")
     public ResponseEntity<ApiResponse<List<TransactionResponse>>> getTransactionsByStatus(
@@ -132,6 +195,19 @@ public class TransactionController {
         }
     }
 
+    @GetMapping(value = "/status/{status}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream transactions by status",
+            description = "Streams transactions with a status as newline-delimited JSON")
+    public void streamTransactionsByStatus(
+            @Parameter(description = "Transaction status") @PathVariable String status,
+            HttpServletResponse response) throws IOException {
+
+        log.info("Streaming transactions by status: {}", status);
+
+        streamTransactions(response, "status",
+                sink -> transactionService.streamTransactionsByStatus(status, sink));
+    }
+
     @PutMapping("/{transactionId}/status")
     @Operation(summary = "Update transaction status", description = "Updates the status of a transaction")
     public ResponseEntity<ApiResponse<Void>> updateTransactionStatus(
@@ -154,4 +230,49 @@ public class TransactionController {
                     .body(ApiResponse.error("Failed to update transaction status", "SYSTEM_ERROR"));
         }
     }
-}
\ No newline at end of file
+
+    private void streamTransactions(HttpServletResponse response, String query,
+                                    Consumer<Consumer<TransactionResponse>> producer) throws IOException {
+        long startNanos = System.nanoTime();
+        long[] rows = {0};
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream out = response.getOutputStream();
+
+        try {
+            producer.accept(transaction -> {
+                try {
+                    out.write(objectMapper.writeValueAsBytes(transaction));
+                    out.write('\n');
+                    if (rows[0]++ == 0) {
+                        out.flush();
+                        meterRegistry.timer("transaction.stream.first.byte", "query", query)
+                                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IllegalArgumentException e) {
+            if (response.isCommitted()) {
+                throw e;
+            }
+            log.warn("Transaction stream rejected - {}", e.getMessage());
+            response.setStatus(400);
+            out.write(objectMapper.writeValueAsBytes(ApiResponse.error(e.getMessage(), "VALIDATION_ERROR")));
+            out.write('\n');
+            return;
+        } catch (UncheckedIOException e) {
+            log.warn("Transaction stream aborted by client - Query: {}, Rows: {}", query, rows[0]);
+            return;
+        }
+
+        out.flush();
+        if (rows[0] == 0) {
+            meterRegistry.timer("transaction.stream.first.byte", "query", query)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+        meterRegistry.counter("transaction.stream.rows", "query", query).increment(rows[0]);
+        log.info("Transaction stream completed - Query: {}, Rows: {}, Duration: {} ms",
+                query, rows[0], TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+}
@@ -3,6 +3,7 @@ package controller.advice;
 import lombok.extern.slf4j.Slf4j;
 import model.dto.response.ApiResponse;
 import model.dto.response.ErrorResponse;
+import model.exception.DomainException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -50,6 +51,16 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage(), "BUSINESS_ERROR"));
     }
 
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<ApiResponse<Object>> handleDomainException(
+            DomainException ex) {
+
+        log.debug("Domain error: {}", ex.getMessage());
+
+        return ResponseEntity.status(ex.getStatus())
+                .body(ApiResponse.error(ex.getMessage(), ex.getErrorCode()));
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ApiResponse<Object>> handleRuntimeException(
             RuntimeException ex) {
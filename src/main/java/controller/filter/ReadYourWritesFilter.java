@@ -0,0 +1,35 @@
+package controller.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import repository.routing.ReadYourWrites;
+
+import java.io.IOException;
+import java.util.Set;
+
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String READ_YOUR_WRITES_HEADER = "X-Read-Your-Writes";
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!Boolean.parseBoolean(request.getHeader(READ_YOUR_WRITES_HEADER))
+                && !WRITE_METHODS.contains(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ReadYourWrites.enable();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package model.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchTransferRequest {
+
+    @NotEmpty(message = "At least one transfer is required")
+    @Size(max = 1000, message = "A batch cannot contain more than 1000 transfers")
+    private List<@Valid TransferRequest> transfers;
+
+    private boolean atomic;
+}
@@ -0,0 +1,20 @@
+package model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchTransferResponse {
+    private int totalCount;
+    private int successCount;
+    private int failedCount;
+    private boolean atomic;
+    private List<TransferResponse> results;
+}
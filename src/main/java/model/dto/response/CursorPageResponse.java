@@ -0,0 +1,36 @@
+package model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> items;
+    private int size;
+    private boolean hasMore;
+    private String nextCursor;
+
+    public static <E, T> CursorPageResponse<T> fromRows(List<E> rows, int pageSize,
+                                                       Function<E, T> mapper, Function<E, String> cursorOf) {
+        boolean hasMore = rows.size() > pageSize;
+        List<E> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        return CursorPageResponse.<T>builder()
+                .items(page.stream()
+                        .map(mapper)
+                        .collect(Collectors.toList()))
+                .size(page.size())
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? cursorOf.apply(page.get(page.size() - 1)) : null)
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailySummaryResponse {
+    private LocalDate date;
+    private BigDecimal inflow;
+    private BigDecimal outflow;
+    private BigDecimal netChange;
+    private long transactionCount;
+    private BigDecimal closingBalance;
+}
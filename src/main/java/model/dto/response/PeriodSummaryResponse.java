@@ -0,0 +1,30 @@
+package model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PeriodSummaryResponse {
+    private String accountNumber;
+    private LocalDate from;
+    private LocalDate to;
+    private BigDecimal openingBalance;
+    private BigDecimal closingBalance;
+    private BigDecimal totalInflow;
+    private BigDecimal totalOutflow;
+    private BigDecimal netChange;
+    private long transactionCount;
+    private int activeDays;
+    private Map<String, BigDecimal> inflowByType;
+    private Map<String, BigDecimal> outflowByType;
+    private Map<String, Long> countByType;
+}
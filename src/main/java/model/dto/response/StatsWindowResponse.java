@@ -0,0 +1,24 @@
+package model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatsWindowResponse {
+    private int seconds;
+    private long events;
+    private double eventsPerSecond;
+    private long failures;
+    private double failureRatio;
+    private Map<String, Long> eventsByType;
+    private Map<String, BigDecimal> amountByType;
+    private Map<String, Double> failureRatioByType;
+}
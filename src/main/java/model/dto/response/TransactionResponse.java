@@ -21,4 +21,5 @@ public class TransactionResponse {
     private String description;
     private LocalDateTime transactionDate;
     private String status;
+    private BigDecimal balanceAfter;
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionStatsResponse {
+    private LocalDateTime generatedAt;
+    private Map<String, StatsWindowResponse> windows;
+}
@@ -0,0 +1,23 @@
+package model.entity;
+
+import lombok.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyAccountSummary {
+    private String accountNumber;
+    private LocalDate summaryDate;
+    private String transactionType;
+    private int stripe;
+    private BigDecimal inflow;
+    private BigDecimal outflow;
+    private long creditCount;
+    private long debitCount;
+    private BigDecimal closingBalance;
+    private LocalDateTime closingAt;
+}
@@ -0,0 +1,17 @@
+package model.entity;
+
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+    private String idempotencyKey;
+    private String requestHash;
+    private Integer statusCode;
+    private String responseBody;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,50 @@
+package model.entity;
+
+import lombok.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Posting {
+    public static final String DEBIT = "DEBIT";
+    public static final String CREDIT = "CREDIT";
+
+    private Long id;
+    private String transactionId;
+    private String accountNumber;
+    private String counterpartyAccountNumber;
+    private String direction;
+    private BigDecimal amount;
+    private BigDecimal balanceAfter;
+    private String transactionType;
+    private String description;
+    private String status;
+    private LocalDateTime postedAt;
+
+    public static Posting debit(Transaction transaction, BigDecimal balanceAfter) {
+        return leg(transaction, transaction.getFromAccountNumber(), transaction.getToAccountNumber(), DEBIT, balanceAfter);
+    }
+
+    public static Posting credit(Transaction transaction, BigDecimal balanceAfter) {
+        return leg(transaction, transaction.getToAccountNumber(), transaction.getFromAccountNumber(), CREDIT, balanceAfter);
+    }
+
+    private static Posting leg(Transaction transaction, String accountNumber, String counterpartyAccountNumber,
+                               String direction, BigDecimal balanceAfter) {
+        return Posting.builder()
+                .transactionId(transaction.getTransactionId())
+                .accountNumber(accountNumber)
+                .counterpartyAccountNumber(counterpartyAccountNumber)
+                .direction(direction)
+                .amount(transaction.getAmount())
+                .balanceAfter(balanceAfter)
+                .transactionType(transaction.getTransactionType())
+                .description(transaction.getDescription())
+                .status(transaction.getStatus())
+                .postedAt(transaction.getTransactionDate() != null ? transaction.getTransactionDate() : LocalDateTime.now())
+                .build();
+    }
+}
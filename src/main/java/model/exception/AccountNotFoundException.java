@@ -0,0 +1,14 @@
+package model.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class AccountNotFoundException extends DomainException {
+
+    public AccountNotFoundException(String accountNumber) {
+        this("Account not found: ", accountNumber);
+    }
+
+    public AccountNotFoundException(String prefix, String accountNumber) {
+        super(prefix + accountNumber, HttpStatus.NOT_FOUND, "ACCOUNT_NOT_FOUND");
+    }
+}
@@ -0,0 +1,18 @@
+package model.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class CustomerNotFoundException extends DomainException {
+
+    public CustomerNotFoundException(String message) {
+        super(message, HttpStatus.NOT_FOUND, "CUSTOMER_NOT_FOUND");
+    }
+
+    public static CustomerNotFoundException byCustomerId(String customerId) {
+        return new CustomerNotFoundException("Customer not found: " + customerId);
+    }
+
+    public static CustomerNotFoundException byEmail(String email) {
+        return new CustomerNotFoundException("Customer not found with email: " + email);
+    }
+}
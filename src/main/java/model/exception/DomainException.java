@@ -0,0 +1,17 @@
+package model.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public abstract class DomainException extends RuntimeException {
+
+    private final HttpStatus status;
+    private final String errorCode;
+
+    protected DomainException(String message, HttpStatus status, String errorCode) {
+        super(message, null, false, false);
+        this.status = status;
+        this.errorCode = errorCode;
+    }
+}
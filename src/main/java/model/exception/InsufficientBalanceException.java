@@ -0,0 +1,10 @@
+package model.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InsufficientBalanceException extends DomainException {
+
+    public InsufficientBalanceException(String message) {
+        super(message, HttpStatus.UNPROCESSABLE_ENTITY, "INSUFFICIENT_BALANCE");
+    }
+}
@@ -0,0 +1,10 @@
+package model.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class TransactionNotFoundException extends DomainException {
+
+    public TransactionNotFoundException(String transactionId) {
+        super("Transaction not found: " + transactionId, HttpStatus.NOT_FOUND, "TRANSACTION_NOT_FOUND");
+    }
+}
@@ -1,10 +1,14 @@
 package repository;
 
 import model.entity.Account;
+import utils.KeysetCursor;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface AccountRepository extends BaseReadRepository<Account, Long>,
         BaseWriteRepository<Account, Long>,
@@ -17,5 +21,23 @@ public interface AccountRepository extends BaseReadRepository<Account, Long>,
 
     boolean updateBalance(String accountNumber, BigDecimal newBalance);
 
+    Optional<Account> creditBalance(String accountNumber, BigDecimal amount);
+
+    Optional<Account> debitBalance(String accountNumber, BigDecimal amount);
+
+    List<Account> lockByAccountNumbers(Collection<String> accountNumbers);
+
+    void applyBalanceDeltas(Map<String, BigDecimal> deltas);
+
+    boolean enableStriping(String accountNumber, int stripeCount);
+
+    boolean disableStriping(String accountNumber);
+
+    Set<String> refreshStripedAccounts();
+
+    void foldStripes(String accountNumber);
+
     List<Account> findActiveAccounts();
+
+    List<Account> findPage(String accountType, Boolean active, KeysetCursor after, int limit);
 }
\ No newline at end of file
@@ -11,5 +11,9 @@ public interface BaseReadRepository<T, ID> {
     boolean existsById(ID id);
 
     long count();
+
+    static <T> Optional<T> firstResult(List<T> rows) {
+        return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+    }
 }
 
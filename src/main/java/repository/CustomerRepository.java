@@ -1,6 +1,7 @@
 package repository;
 
 import model.entity.Customer;
+import utils.KeysetCursor;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,5 +15,9 @@ public interface CustomerRepository extends BaseReadRepository<Customer, Long>,
 
     List<Customer> findActiveCustomers();
 
-    String getLastCustomerId();
+    List<Customer> findPage(Boolean active, KeysetCursor after, int limit);
+
+    long nextCustomerIdBlock();
+
+    int getCustomerIdBlockSize();
 }
\ No newline at end of file
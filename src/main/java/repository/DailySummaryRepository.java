@@ -0,0 +1,23 @@
+package repository;
+
+import model.entity.DailyAccountSummary;
+import model.entity.Posting;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface DailySummaryRepository {
+    void addPostings(List<Posting> postings);
+
+    void removePostings(List<Posting> postings);
+
+    List<DailyAccountSummary> findByAccountAndDateRange(String accountNumber, LocalDate from, LocalDate to);
+
+    Optional<BigDecimal> findClosingBalanceBefore(String accountNumber, LocalDate date);
+
+    boolean isEmpty();
+
+    int rebuildDay(LocalDate day);
+}
@@ -0,0 +1,20 @@
+package repository;
+
+import model.entity.IdempotencyRecord;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotencyRepository {
+    Optional<IdempotencyRecord> findActive(String idempotencyKey);
+
+    boolean claim(String idempotencyKey, String requestHash, LocalDateTime expiresAt, LocalDateTime staleBefore);
+
+    boolean lockInProgress(String idempotencyKey, String requestHash);
+
+    boolean complete(String idempotencyKey, int statusCode, String responseBody);
+
+    void release(String idempotencyKey);
+
+    int deleteExpired(LocalDateTime now);
+}
@@ -0,0 +1,25 @@
+package repository;
+
+import model.entity.Posting;
+import utils.KeysetCursor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public interface PostingRepository {
+    void saveAll(List<Posting> postings);
+
+    List<Posting> transitionStatus(String transactionId, String status);
+
+    List<Posting> findHistoryPage(String accountNumber, KeysetCursor after, int limit);
+
+    void streamByAccountAndDateRange(String accountNumber, LocalDateTime startInclusive, LocalDateTime endExclusive,
+                                     Consumer<Posting> consumer);
+
+    Optional<BigDecimal> findBalanceBefore(String accountNumber, LocalDateTime endExclusive);
+
+    Optional<LocalDateTime> findOldestPostedAt();
+}
@@ -5,6 +5,7 @@ import model.entity.Transaction;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface TransactionRepository extends BaseReadRepository<Transaction, Long>, BaseWriteRepository<Transaction, Long> {
     Optional<Transaction> findByTransactionId(String transactionId);
@@ -15,7 +16,11 @@ public interface TransactionRepository extends BaseReadRepository<Transaction, L
 
     List<Transaction> findByStatus(String status);
 
-    boolean updateTransactionStatus(String transactionId, String status);
+    void streamByDateRange(LocalDateTime startDate, LocalDateTime endDate, Consumer<Transaction> consumer);
+
+    void streamByStatus(String status, Consumer<Transaction> consumer);
 
-    List<Transaction> getAccountTransactionHistory(String accountNumber, int limit);
+    void saveAll(List<Transaction> transactions);
+
+    boolean updateTransactionStatus(String transactionId, String status);
 }
\ No newline at end of file
@@ -0,0 +1,400 @@
+package repository.archive;
+
+import model.entity.Transaction;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+final class ArchiveFile {
+
+    static final int ID = 0;
+    static final int TRANSACTION_ID = 1;
+    static final int FROM_ACCOUNT = 2;
+    static final int TO_ACCOUNT = 3;
+    static final int AMOUNT = 4;
+    static final int TYPE = 5;
+    static final int DESCRIPTION = 6;
+    static final int DATE = 7;
+    static final int STATUS = 8;
+    static final int FROM_BALANCE = 9;
+    static final int TO_BALANCE = 10;
+
+    private static final int COLUMN_COUNT = 11;
+    private static final int MAGIC = 0x54584131;
+    private static final int TRAILER_BYTES = Long.BYTES + Integer.BYTES;
+
+    private ArchiveFile() {
+    }
+
+    record BlockMeta(int rowCount, LocalDateTime minDate, LocalDateTime maxDate, long offset, int[] columnLengths) {
+
+        boolean overlaps(LocalDateTime start, LocalDateTime end) {
+            return !maxDate.isBefore(start) && !minDate.isAfter(end);
+        }
+    }
+
+    record Footer(long rowCount, long maxId, List<BlockMeta> blocks, Map<String, int[]> accountBlocks) {
+    }
+
+    static final class Writer implements Closeable {
+        private final FileOutputStream file;
+        private final OutputStream out;
+        private final int blockRows;
+        private final List<ArchivedTransaction> block;
+        private final List<BlockMeta> blocks = new ArrayList<>();
+        private final Map<String, List<Integer>> accountBlocks = new TreeMap<>();
+        private long position;
+        private long rowCount;
+        private long maxId;
+
+        Writer(Path path, int blockRows) throws IOException {
+            this.file = new FileOutputStream(path.toFile());
+            this.out = new BufferedOutputStream(file, 1 << 16);
+            this.blockRows = blockRows;
+            this.block = new ArrayList<>(blockRows);
+            writeRaw(intBytes(MAGIC));
+        }
+
+        void append(ArchivedTransaction row) throws IOException {
+            block.add(row);
+            if (block.size() == blockRows) {
+                flushBlock();
+            }
+        }
+
+        Footer finish() throws IOException {
+            if (!block.isEmpty()) {
+                flushBlock();
+            }
+
+            Map<String, int[]> index = new HashMap<>();
+            accountBlocks.forEach((account, ids) -> index.put(account, ids.stream().mapToInt(Integer::intValue).toArray()));
+            Footer footer = new Footer(rowCount, maxId, List.copyOf(blocks), index);
+
+            long footerOffset = position;
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream data = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+                writeFooter(data);
+            }
+            writeRaw(bytes.toByteArray());
+            ByteBuffer trailer = ByteBuffer.allocate(TRAILER_BYTES).putLong(footerOffset).putInt(MAGIC);
+            writeRaw(trailer.array());
+
+            out.flush();
+            file.getFD().sync();
+            return footer;
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+
+        private void flushBlock() throws IOException {
+            int blockIndex = blocks.size();
+            long blockOffset = position;
+            int[] lengths = new int[COLUMN_COUNT];
+            for (int column = 0; column < COLUMN_COUNT; column++) {
+                byte[] encoded = encodeColumn(column);
+                lengths[column] = encoded.length;
+                writeRaw(encoded);
+            }
+
+            LocalDateTime minDate = block.get(0).transaction().getTransactionDate();
+            LocalDateTime maxDate = block.get(block.size() - 1).transaction().getTransactionDate();
+            blocks.add(new BlockMeta(block.size(), minDate, maxDate, blockOffset, lengths));
+
+            for (ArchivedTransaction row : block) {
+                indexAccount(row.transaction().getFromAccountNumber(), blockIndex);
+                indexAccount(row.transaction().getToAccountNumber(), blockIndex);
+                maxId = Math.max(maxId, row.transaction().getId());
+            }
+            rowCount += block.size();
+            block.clear();
+        }
+
+        private void indexAccount(String accountNumber, int blockIndex) {
+            if (accountNumber == null) {
+                return;
+            }
+            List<Integer> ids = accountBlocks.computeIfAbsent(accountNumber, key -> new ArrayList<>());
+            if (ids.isEmpty() || ids.get(ids.size() - 1) != blockIndex) {
+                ids.add(blockIndex);
+            }
+        }
+
+        private byte[] encodeColumn(int column) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+            try (DataOutputStream data = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+                long previous = 0;
+                for (ArchivedTransaction row : block) {
+                    Transaction transaction = row.transaction();
+                    switch (column) {
+                        case ID -> {
+                            data.writeLong(transaction.getId() - previous);
+                            previous = transaction.getId();
+                        }
+                        case DATE -> {
+                            long micros = toMicros(transaction.getTransactionDate());
+                            data.writeLong(micros - previous);
+                            previous = micros;
+                        }
+                        case TRANSACTION_ID -> writeString(data, transaction.getTransactionId());
+                        case FROM_ACCOUNT -> writeString(data, transaction.getFromAccountNumber());
+                        case TO_ACCOUNT -> writeString(data, transaction.getToAccountNumber());
+                        case AMOUNT -> writeDecimal(data, transaction.getAmount());
+                        case TYPE -> writeString(data, transaction.getTransactionType());
+                        case DESCRIPTION -> writeString(data, transaction.getDescription());
+                        case STATUS -> writeString(data, transaction.getStatus());
+                        case FROM_BALANCE -> writeDecimal(data, row.fromBalanceAfter());
+                        case TO_BALANCE -> writeDecimal(data, row.toBalanceAfter());
+                        default -> throw new IllegalStateException("Unknown archive column: " + column);
+                    }
+                }
+            } finally {
+                deflater.end();
+            }
+            return bytes.toByteArray();
+        }
+
+        private void writeFooter(DataOutputStream data) throws IOException {
+            data.writeLong(rowCount);
+            data.writeLong(maxId);
+            data.writeInt(blocks.size());
+            for (BlockMeta meta : blocks) {
+                data.writeInt(meta.rowCount());
+                data.writeLong(toMicros(meta.minDate()));
+                data.writeLong(toMicros(meta.maxDate()));
+                data.writeLong(meta.offset());
+                for (int length : meta.columnLengths()) {
+                    data.writeInt(length);
+                }
+            }
+            data.writeInt(accountBlocks.size());
+            for (Map.Entry<String, List<Integer>> entry : accountBlocks.entrySet()) {
+                data.writeUTF(entry.getKey());
+                data.writeInt(entry.getValue().size());
+                for (int blockIndex : entry.getValue()) {
+                    data.writeInt(blockIndex);
+                }
+            }
+        }
+
+        private void writeRaw(byte[] bytes) throws IOException {
+            out.write(bytes);
+            position += bytes.length;
+        }
+    }
+
+    static Footer readFooter(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer trailer = read(channel, size - TRAILER_BYTES, TRAILER_BYTES);
+            long footerOffset = trailer.getLong();
+            if (trailer.getInt() != MAGIC || read(channel, 0, Integer.BYTES).getInt() != MAGIC) {
+                throw new IOException("Not a transaction archive: " + path);
+            }
+
+            byte[] footerBytes = read(channel, footerOffset, (int) (size - TRAILER_BYTES - footerOffset)).array();
+            try (DataInputStream data = inflate(footerBytes, 0, footerBytes.length)) {
+                long rowCount = data.readLong();
+                long maxId = data.readLong();
+                int blockCount = data.readInt();
+                List<BlockMeta> blocks = new ArrayList<>(blockCount);
+                for (int i = 0; i < blockCount; i++) {
+                    int rows = data.readInt();
+                    LocalDateTime minDate = fromMicros(data.readLong());
+                    LocalDateTime maxDate = fromMicros(data.readLong());
+                    long offset = data.readLong();
+                    int[] lengths = new int[COLUMN_COUNT];
+                    for (int column = 0; column < COLUMN_COUNT; column++) {
+                        lengths[column] = data.readInt();
+                    }
+                    blocks.add(new BlockMeta(rows, minDate, maxDate, offset, lengths));
+                }
+
+                int accountCount = data.readInt();
+                Map<String, int[]> accountBlocks = new HashMap<>(accountCount * 2);
+                for (int i = 0; i < accountCount; i++) {
+                    String account = data.readUTF();
+                    int[] ids = new int[data.readInt()];
+                    for (int j = 0; j < ids.length; j++) {
+                        ids[j] = data.readInt();
+                    }
+                    accountBlocks.put(account, ids);
+                }
+                return new Footer(rowCount, maxId, blocks, accountBlocks);
+            }
+        }
+    }
+
+    static Block readBlock(FileChannel channel, BlockMeta meta) throws IOException {
+        int total = 0;
+        for (int length : meta.columnLengths()) {
+            total += length;
+        }
+        return new Block(meta, read(channel, meta.offset(), total).array());
+    }
+
+    static final class Block {
+        private final BlockMeta meta;
+        private final byte[] bytes;
+        private final Object[] columns = new Object[COLUMN_COUNT];
+
+        private Block(BlockMeta meta, byte[] bytes) {
+            this.meta = meta;
+            this.bytes = bytes;
+        }
+
+        int rowCount() {
+            return meta.rowCount();
+        }
+
+        long[] ids() throws IOException {
+            if (columns[ID] == null) {
+                columns[ID] = decodeDeltas(ID);
+            }
+            return (long[]) columns[ID];
+        }
+
+        LocalDateTime[] dates() throws IOException {
+            if (columns[DATE] == null) {
+                long[] micros = decodeDeltas(DATE);
+                LocalDateTime[] dates = new LocalDateTime[micros.length];
+                for (int i = 0; i < micros.length; i++) {
+                    dates[i] = fromMicros(micros[i]);
+                }
+                columns[DATE] = dates;
+            }
+            return (LocalDateTime[]) columns[DATE];
+        }
+
+        String[] strings(int column) throws IOException {
+            if (columns[column] == null) {
+                String[] values = new String[meta.rowCount()];
+                try (DataInputStream data = open(column)) {
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = data.readBoolean() ? data.readUTF() : null;
+                    }
+                }
+                columns[column] = values;
+            }
+            return (String[]) columns[column];
+        }
+
+        BigDecimal[] decimals(int column) throws IOException {
+            if (columns[column] == null) {
+                BigDecimal[] values = new BigDecimal[meta.rowCount()];
+                try (DataInputStream data = open(column)) {
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = data.readBoolean()
+                                ? new BigDecimal(BigInteger.valueOf(data.readLong()), data.readInt())
+                                : null;
+                    }
+                }
+                columns[column] = values;
+            }
+            return (BigDecimal[]) columns[column];
+        }
+
+        Transaction transaction(int row) throws IOException {
+            return Transaction.builder()
+                    .id(ids()[row])
+                    .transactionId(strings(TRANSACTION_ID)[row])
+                    .fromAccountNumber(strings(FROM_ACCOUNT)[row])
+                    .toAccountNumber(strings(TO_ACCOUNT)[row])
+                    .amount(decimals(AMOUNT)[row])
+                    .transactionType(strings(TYPE)[row])
+                    .description(strings(DESCRIPTION)[row])
+                    .transactionDate(dates()[row])
+                    .status(strings(STATUS)[row])
+                    .build();
+        }
+
+        private long[] decodeDeltas(int column) throws IOException {
+            long[] values = new long[meta.rowCount()];
+            try (DataInputStream data = open(column)) {
+                long previous = 0;
+                for (int i = 0; i < values.length; i++) {
+                    previous += data.readLong();
+                    values[i] = previous;
+                }
+            }
+            return values;
+        }
+
+        private DataInputStream open(int column) {
+            int offset = 0;
+            for (int i = 0; i < column; i++) {
+                offset += meta.columnLengths()[i];
+            }
+            return inflate(bytes, offset, meta.columnLengths()[column]);
+        }
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        data.writeBoolean(value != null);
+        if (value != null) {
+            data.writeUTF(value);
+        }
+    }
+
+    private static void writeDecimal(DataOutputStream data, BigDecimal value) throws IOException {
+        data.writeBoolean(value != null);
+        if (value != null) {
+            data.writeLong(value.unscaledValue().longValueExact());
+            data.writeInt(value.scale());
+        }
+    }
+
+    private static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static DataInputStream inflate(byte[] bytes, int offset, int length) {
+        return new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(bytes, offset, length)));
+    }
+
+    private static byte[] intBytes(int value) {
+        return ByteBuffer.allocate(Integer.BYTES).putInt(value).array();
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of archive at " + (position + buffer.position()));
+            }
+        }
+        return buffer.flip();
+    }
+}
@@ -0,0 +1,16 @@
+package repository.archive;
+
+import model.entity.Transaction;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+record ArchivedTransaction(Transaction transaction, BigDecimal fromBalanceAfter, BigDecimal toBalanceAfter) {
+
+    long checksum() {
+        return Objects.hash(transaction.getId(), transaction.getTransactionId(), transaction.getFromAccountNumber(),
+                transaction.getToAccountNumber(), transaction.getAmount(), transaction.getTransactionType(),
+                transaction.getDescription(), transaction.getTransactionDate(), transaction.getStatus(),
+                fromBalanceAfter, toBalanceAfter);
+    }
+}
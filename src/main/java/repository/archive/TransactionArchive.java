@@ -0,0 +1,281 @@
+package repository.archive;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import model.entity.Posting;
+import model.entity.Transaction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import utils.KeysetCursor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+
+@Component
+@Slf4j
+public class TransactionArchive {
+
+    static final String FILE_SUFFIX = ".txa";
+    static final String PENDING_SUFFIX = ".txa.pending";
+    private static final String COMPLETED = "COMPLETED";
+
+    private final Path directory;
+    private final ConcurrentSkipListMap<YearMonth, ArchiveFile.Footer> months = new ConcurrentSkipListMap<>();
+
+    public TransactionArchive(@Value("${transaction.archive.directory:./archive}") String directory) {
+        this.directory = Path.of(directory);
+    }
+
+    @PostConstruct
+    public void loadIndex() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                YearMonth month = monthOf(file, FILE_SUFFIX);
+                months.put(month, ArchiveFile.readFooter(file));
+            }
+        }
+        log.info("Transaction archive loaded - Months: {}, Rows: {}", months.size(),
+                months.values().stream().mapToLong(ArchiveFile.Footer::rowCount).sum());
+    }
+
+    public boolean isArchived(YearMonth month) {
+        return months.containsKey(month);
+    }
+
+    public boolean reaches(LocalDateTime start) {
+        return !months.isEmpty() && start.isBefore(months.lastKey().plusMonths(1).atDay(1).atStartOfDay());
+    }
+
+    public void scanDateRange(LocalDateTime startDate, LocalDateTime endDate, Consumer<Transaction> consumer) {
+        if (!reaches(startDate)) {
+            return;
+        }
+
+        for (Map.Entry<YearMonth, ArchiveFile.Footer> month : monthsDescending(YearMonth.from(endDate)).entrySet()) {
+            if (month.getKey().isBefore(YearMonth.from(startDate))) {
+                break;
+            }
+
+            withChannel(month.getKey(), channel -> {
+                List<ArchiveFile.BlockMeta> blocks = month.getValue().blocks();
+                for (int b = blocks.size() - 1; b >= 0; b--) {
+                    ArchiveFile.BlockMeta meta = blocks.get(b);
+                    if (!meta.overlaps(startDate, endDate)) {
+                        continue;
+                    }
+
+                    ArchiveFile.Block block = ArchiveFile.readBlock(channel, meta);
+                    LocalDateTime[] dates = block.dates();
+                    for (int row = block.rowCount() - 1; row >= 0; row--) {
+                        if (!dates[row].isBefore(startDate) && !dates[row].isAfter(endDate)) {
+                            consumer.accept(block.transaction(row));
+                        }
+                    }
+                }
+                return true;
+            });
+        }
+    }
+
+    public List<Posting> findAccountHistory(String accountNumber, KeysetCursor before, int limit) {
+        List<Posting> postings = new ArrayList<>(limit);
+        if (months.isEmpty() || limit <= 0) {
+            return postings;
+        }
+
+        YearMonth from = before != null ? YearMonth.from(before.getTimestamp()) : months.lastKey();
+        for (Map.Entry<YearMonth, ArchiveFile.Footer> month : monthsDescending(from).entrySet()) {
+            int[] blockIds = month.getValue().accountBlocks().get(accountNumber);
+            if (blockIds == null) {
+                continue;
+            }
+
+            boolean full = withChannel(month.getKey(), channel -> {
+                for (int i = blockIds.length - 1; i >= 0; i--) {
+                    ArchiveFile.Block block = ArchiveFile.readBlock(channel, month.getValue().blocks().get(blockIds[i]));
+                    for (int row = block.rowCount() - 1; row >= 0; row--) {
+                        if (before != null && !isBefore(block, row, before)) {
+                            continue;
+                        }
+                        Posting posting = postingFor(block, row, accountNumber);
+                        if (posting != null) {
+                            postings.add(posting);
+                            if (postings.size() == limit) {
+                                return true;
+                            }
+                        }
+                    }
+                }
+                return false;
+            });
+            if (full) {
+                break;
+            }
+        }
+        return postings;
+    }
+
+    public Optional<BigDecimal> findBalanceBefore(String accountNumber, LocalDateTime endExclusive) {
+        if (!reaches(endExclusive.minusNanos(1))) {
+            return Optional.empty();
+        }
+
+        BigDecimal[] unanchored = {null};
+        for (Map.Entry<YearMonth, ArchiveFile.Footer> month : monthsDescending(YearMonth.from(endExclusive)).entrySet()) {
+            int[] blockIds = month.getValue().accountBlocks().get(accountNumber);
+            if (blockIds == null) {
+                continue;
+            }
+
+            Optional<BigDecimal> balance = withChannel(month.getKey(), channel -> {
+                for (int i = blockIds.length - 1; i >= 0; i--) {
+                    ArchiveFile.BlockMeta meta = month.getValue().blocks().get(blockIds[i]);
+                    if (!meta.minDate().isBefore(endExclusive)) {
+                        continue;
+                    }
+
+                    ArchiveFile.Block block = ArchiveFile.readBlock(channel, meta);
+                    LocalDateTime[] dates = block.dates();
+                    for (int row = block.rowCount() - 1; row >= 0; row--) {
+                        if (!dates[row].isBefore(endExclusive)) {
+                            continue;
+                        }
+                        Posting posting = postingFor(block, row, accountNumber);
+                        if (posting == null) {
+                            continue;
+                        }
+                        BigDecimal sum = unanchored[0] != null ? unanchored[0] : BigDecimal.ZERO;
+                        if (posting.getBalanceAfter() != null) {
+                            return Optional.of(posting.getBalanceAfter().add(sum));
+                        }
+                        if (COMPLETED.equals(posting.getStatus())) {
+                            unanchored[0] = sum.add(Posting.CREDIT.equals(posting.getDirection())
+                                    ? posting.getAmount() : posting.getAmount().negate());
+                        }
+                    }
+                }
+                return Optional.<BigDecimal>empty();
+            });
+            if (balance.isPresent()) {
+                return balance;
+            }
+        }
+        return Optional.ofNullable(unanchored[0]);
+    }
+
+    ArchiveFile.Writer openWriter(YearMonth month, int blockRows) throws IOException {
+        Files.createDirectories(directory);
+        return new ArchiveFile.Writer(pendingFile(month), blockRows);
+    }
+
+    Optional<ArchiveFile.Footer> pendingFooter(YearMonth month) {
+        Path pending = pendingFile(month);
+        if (!Files.exists(pending)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(ArchiveFile.readFooter(pending));
+        } catch (IOException e) {
+            log.warn("Discarding incomplete archive file - Month: {}, Error: {}", month, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    long pendingChecksum(YearMonth month) throws IOException {
+        Path pending = pendingFile(month);
+        long checksum = 0;
+        try (FileChannel channel = FileChannel.open(pending, StandardOpenOption.READ)) {
+            for (ArchiveFile.BlockMeta meta : ArchiveFile.readFooter(pending).blocks()) {
+                ArchiveFile.Block block = ArchiveFile.readBlock(channel, meta);
+                BigDecimal[] fromBalances = block.decimals(ArchiveFile.FROM_BALANCE);
+                BigDecimal[] toBalances = block.decimals(ArchiveFile.TO_BALANCE);
+                for (int row = 0; row < block.rowCount(); row++) {
+                    checksum += new ArchivedTransaction(block.transaction(row), fromBalances[row], toBalances[row])
+                            .checksum();
+                }
+            }
+        }
+        return checksum;
+    }
+
+    void discardPending(YearMonth month) throws IOException {
+        Files.deleteIfExists(pendingFile(month));
+    }
+
+    void publish(YearMonth month) throws IOException {
+        Path target = directory.resolve(month + FILE_SUFFIX);
+        Files.move(pendingFile(month), target, StandardCopyOption.ATOMIC_MOVE);
+        months.put(month, ArchiveFile.readFooter(target));
+    }
+
+    private Path pendingFile(YearMonth month) {
+        return directory.resolve(month + PENDING_SUFFIX);
+    }
+
+    private NavigableMap<YearMonth, ArchiveFile.Footer> monthsDescending(YearMonth from) {
+        return months.headMap(from, true).descendingMap();
+    }
+
+    private <T> T withChannel(YearMonth month, ChannelReader<T> reader) {
+        try (FileChannel channel = FileChannel.open(directory.resolve(month + FILE_SUFFIX), StandardOpenOption.READ)) {
+            return reader.read(channel);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Transaction archive read failed for " + month, e);
+        }
+    }
+
+    private static boolean isBefore(ArchiveFile.Block block, int row, KeysetCursor before) throws IOException {
+        int compare = block.dates()[row].compareTo(before.getTimestamp());
+        return compare < 0 || (compare == 0 && block.ids()[row] < before.getId());
+    }
+
+    private static Posting postingFor(ArchiveFile.Block block, int row, String accountNumber) throws IOException {
+        // Striped credits carry no running balance, so a completed row counts as a posting even without one.
+        boolean completed = COMPLETED.equals(block.strings(ArchiveFile.STATUS)[row]);
+        BigDecimal fromBalance = block.decimals(ArchiveFile.FROM_BALANCE)[row];
+        if ((fromBalance != null || completed) && accountNumber.equals(block.strings(ArchiveFile.FROM_ACCOUNT)[row])) {
+            return archivedPosting(Posting.debit(block.transaction(row), fromBalance), block, row);
+        }
+
+        BigDecimal toBalance = block.decimals(ArchiveFile.TO_BALANCE)[row];
+        if ((toBalance != null || completed) && accountNumber.equals(block.strings(ArchiveFile.TO_ACCOUNT)[row])) {
+            return archivedPosting(Posting.credit(block.transaction(row), toBalance), block, row);
+        }
+        return null;
+    }
+
+    private static Posting archivedPosting(Posting posting, ArchiveFile.Block block, int row) throws IOException {
+        posting.setId(block.ids()[row]);
+        return posting;
+    }
+
+    private static YearMonth monthOf(Path file, String suffix) {
+        String name = file.getFileName().toString();
+        return YearMonth.parse(name.substring(0, name.length() - suffix.length()));
+    }
+
+    @FunctionalInterface
+    private interface ChannelReader<T> {
+        T read(FileChannel channel) throws IOException;
+    }
+}
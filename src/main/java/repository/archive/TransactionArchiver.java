@@ -0,0 +1,242 @@
+package repository.archive;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import model.entity.Transaction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import repository.partition.TransactionPartitionManager;
+import repository.queries.TransactionArchiveQueries;
+import repository.queries.TransactionPartitionQueries;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+@Component
+@ConditionalOnProperty(prefix = "transaction.archive", name = "enabled", havingValue = "true")
+@Slf4j
+public class TransactionArchiver {
+
+    private static final String TRANSACTIONS = "transactions";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionArchive transactionArchive;
+    private final MeterRegistry meterRegistry;
+    private final int hotMonths;
+    private final int blockRows;
+    private final int fetchSize;
+    private final int deleteBatchSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public TransactionArchiver(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               TransactionArchive transactionArchive,
+                               MeterRegistry meterRegistry,
+                               @Value("${transaction.archive.hot-months:24}") int hotMonths,
+                               @Value("${transaction.archive.block-rows:4096}") int blockRows,
+                               @Value("${transaction.stream.fetch-size:500}") int fetchSize,
+                               @Value("${transaction.archive.delete-batch-size:10000}") int deleteBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.transactionArchive = transactionArchive;
+        this.meterRegistry = meterRegistry;
+        this.hotMonths = hotMonths;
+        this.blockRows = blockRows;
+        this.fetchSize = fetchSize;
+        this.deleteBatchSize = deleteBatchSize;
+    }
+
+    @Scheduled(cron = "${transaction.archive.cron:0 0 3 2 * *}")
+    public void archiveClosedMonths() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Transaction archiver already running");
+            return;
+        }
+
+        try {
+            for (String partition : jdbcTemplate.queryForList(TransactionArchiveQueries.SELECT_DETACHED_PARTITIONS,
+                    String.class)) {
+                archiveDetachedPartition(partition);
+            }
+
+            LocalDateTime oldest = oldestTransactionDate(TRANSACTIONS);
+            YearMonth cutoff = YearMonth.now().minusMonths(hotMonths);
+            if (oldest == null || !YearMonth.from(oldest).isBefore(cutoff)) {
+                return;
+            }
+
+            for (YearMonth month = YearMonth.from(oldest); month.isBefore(cutoff); month = month.plusMonths(1)) {
+                archive(month, TRANSACTIONS);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Transaction archiving failed", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void archiveDetachedPartition(String partition) throws IOException {
+        YearMonth previous = null;
+        for (LocalDateTime oldest = oldestTransactionDate(partition); oldest != null;
+             oldest = oldestTransactionDate(partition)) {
+            YearMonth month = YearMonth.from(oldest);
+            if (month.equals(previous)) {
+                log.warn("Detached transaction partition kept - Partition: {}, Month not archived: {}", partition, month);
+                return;
+            }
+            archive(month, partition);
+            previous = month;
+        }
+
+        jdbcTemplate.execute(TransactionArchiveQueries.DROP_DETACHED_PARTITION.formatted(partition));
+        log.info("Detached transaction partition archived and dropped - Partition: {}", partition);
+    }
+
+    private void archive(YearMonth month, String table) throws IOException {
+        long startNanos = System.nanoTime();
+        LocalDateTime start = month.atDay(1).atStartOfDay();
+        LocalDateTime end = month.plusMonths(1).atDay(1).atStartOfDay();
+
+        ArchiveFile.Footer footer = transactionArchive.pendingFooter(month).orElse(null);
+        if (footer == null || !moveToArchive(month, table, start, end, footer)) {
+            transactionArchive.discardPending(month);
+            footer = writeMonth(month, table, start, end);
+            if (footer.rowCount() == 0) {
+                transactionArchive.discardPending(month);
+                return;
+            }
+            if (!moveToArchive(month, table, start, end, footer)) {
+                transactionArchive.discardPending(month);
+                log.warn("Transaction month changed while archiving - Month: {}, Table: {}", month, table);
+                return;
+            }
+        }
+
+        meterRegistry.counter("transaction.archive.rows").increment(footer.rowCount());
+        log.info("Transaction month archived - Month: {}, Rows: {}, Blocks: {}, Accounts: {}, Duration: {} ms",
+                month, footer.rowCount(), footer.blocks().size(), footer.accountBlocks().size(),
+                (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    private ArchiveFile.Footer writeMonth(YearMonth month, String table, LocalDateTime start, LocalDateTime end)
+            throws IOException {
+        try (ArchiveFile.Writer writer = transactionArchive.openWriter(month, blockRows)) {
+            readOnlyTransaction.executeWithoutResult(status -> scanMonth(
+                    TransactionArchiveQueries.SELECT_MONTH_FOR_ARCHIVE.formatted(table), start, end, row -> {
+                        try {
+                            writer.append(row);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }));
+            return writer.finish();
+        } catch (RuntimeException | IOException e) {
+            transactionArchive.discardPending(month);
+            throw e;
+        }
+    }
+
+    private boolean moveToArchive(YearMonth month, String table, LocalDateTime start, LocalDateTime end,
+                                  ArchiveFile.Footer footer) throws IOException {
+        long archived = transactionArchive.pendingChecksum(month);
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            long[] hot = {0};
+            scanMonth(TransactionArchiveQueries.LOCK_MONTH_FOR_ARCHIVE.formatted(table), start, end,
+                    row -> hot[0] += row.checksum());
+            if (hot[0] != archived) {
+                return false;
+            }
+
+            try {
+                transactionArchive.publish(month);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            removeHotRows(month, table, start, end, footer);
+            return true;
+        }));
+    }
+
+    private void scanMonth(String sql, LocalDateTime start, LocalDateTime end, Consumer<ArchivedTransaction> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            new ArgumentPreparedStatementSetter(new Object[]{start, end}).setValues(statement);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(new ArchivedTransaction(mapTransaction(rs),
+                rs.getBigDecimal("from_balance_after"), rs.getBigDecimal("to_balance_after"))));
+    }
+
+    private void removeHotRows(YearMonth month, String table, LocalDateTime start, LocalDateTime end,
+                               ArchiveFile.Footer footer) {
+        String partition = TransactionPartitionManager.partitionName(month);
+        boolean attached = TRANSACTIONS.equals(table)
+                && jdbcTemplate.queryForList(TransactionPartitionQueries.SELECT_TRANSACTION_PARTITIONS)
+                .stream()
+                .anyMatch(row -> partition.equals(row.get("partition_name"))
+                        && !Boolean.TRUE.equals(row.get("detach_pending")));
+
+        if (attached) {
+            deleteInBatches(TransactionArchiveQueries.DELETE_ARCHIVED_POSTINGS_BATCH.formatted(table),
+                    start, end, footer.maxId(), false);
+            jdbcTemplate.execute(TransactionArchiveQueries.DETACH_ARCHIVED_PARTITION.formatted(partition));
+            jdbcTemplate.execute(TransactionArchiveQueries.DROP_DETACHED_PARTITION.formatted(partition));
+            log.info("Archived transaction partition dropped - Partition: {}", partition);
+            return;
+        }
+
+        deleteInBatches(TransactionArchiveQueries.DELETE_ARCHIVED_BATCH.formatted(table, table),
+                start, end, footer.maxId(), true);
+    }
+
+    private LocalDateTime oldestTransactionDate(String table) {
+        return jdbcTemplate.queryForObject(TransactionArchiveQueries.SELECT_OLDEST_TRANSACTION_DATE.formatted(table),
+                LocalDateTime.class);
+    }
+
+    private void deleteInBatches(String sql, LocalDateTime start, LocalDateTime end, long maxId,
+                                 boolean includeTransactions) {
+        long lastId = 0;
+        while (true) {
+            Long batchMaxId = includeTransactions
+                    ? jdbcTemplate.queryForObject(sql, Long.class, start, end, lastId, maxId, deleteBatchSize, start, end)
+                    : jdbcTemplate.queryForObject(sql, Long.class, start, end, lastId, maxId, deleteBatchSize);
+            if (batchMaxId == null) {
+                return;
+            }
+            lastId = batchMaxId;
+        }
+    }
+
+    private static Transaction mapTransaction(ResultSet rs) throws java.sql.SQLException {
+        return Transaction.builder()
+                .id(rs.getLong("id"))
+                .transactionId(rs.getString("transaction_id"))
+                .fromAccountNumber(rs.getString("from_account_number"))
+                .toAccountNumber(rs.getString("to_account_number"))
+                .amount(rs.getBigDecimal("amount"))
+                .transactionType(rs.getString("transaction_type"))
+                .description(rs.getString("description"))
+                .transactionDate(rs.getTimestamp("transaction_date").toLocalDateTime())
+                .status(rs.getString("status"))
+                .build();
+    }
+}
@@ -0,0 +1,209 @@
+package repository.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import model.entity.Account;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import repository.AccountRepository;
+import repository.impl.AccountRepositoryImpl;
+import repository.routing.ReadYourWrites;
+import repository.routing.ReplicaRoutingDataSource;
+import utils.KeysetCursor;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@Repository
+@Primary
+@Profile("!ledger")
+@ConditionalOnProperty(prefix = "account.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class CachingAccountRepository implements AccountRepository {
+
+    private final AccountRepositoryImpl accountRepositoryImpl;
+    private final Cache<String, Account> accountsByNumber;
+    private final TransactionScopedInvalidation dirtyAccounts;
+    private final Optional<ReplicaRoutingDataSource> replicaRouting;
+
+    public CachingAccountRepository(AccountRepositoryImpl accountRepositoryImpl,
+                                    MeterRegistry meterRegistry,
+                                    Optional<ReplicaRoutingDataSource> replicaRouting,
+                                    @Value("${account.cache.maximum-size:10000}") long maximumSize,
+                                    @Value("${account.cache.ttl-seconds:10}") long ttlSeconds) {
+        this.accountRepositoryImpl = accountRepositoryImpl;
+        this.replicaRouting = replicaRouting;
+        this.accountsByNumber = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.dirtyAccounts = new TransactionScopedInvalidation("accounts", accountNumbers -> {
+            accountsByNumber.invalidateAll(accountNumbers);
+            log.debug("Account cache invalidated after completion - Accounts: {}", accountNumbers.size());
+        });
+
+        CaffeineCacheMetrics.monitor(meterRegistry, accountsByNumber, "accounts");
+        Gauge.builder("account.cache.hit.ratio", accountsByNumber, cache -> cache.stats().hitRate())
+                .description("Share of account lookups served from the in-process cache")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<Account> findByAccountNumber(String accountNumber) {
+        if (dirtyAccounts.isDirty(accountNumber) || ReadYourWrites.isActive()) {
+            return accountRepositoryImpl.findByAccountNumber(accountNumber);
+        }
+        if (replicaRouting.map(ReplicaRoutingDataSource::routesToReplica).orElse(false)) {
+            // Replica rows may lag the primary, so they are served but never cached.
+            Account cached = accountsByNumber.getIfPresent(accountNumber);
+            return cached != null
+                    ? Optional.of(copyOf(cached))
+                    : accountRepositoryImpl.findByAccountNumber(accountNumber);
+        }
+
+        Account account = accountsByNumber.get(accountNumber,
+                key -> accountRepositoryImpl.findByAccountNumber(key).orElse(null));
+        return Optional.ofNullable(account).map(CachingAccountRepository::copyOf);
+    }
+
+    @Override
+    public Account save(Account account) {
+        Account savedAccount = accountRepositoryImpl.save(account);
+        invalidate(savedAccount.getAccountNumber());
+        return savedAccount;
+    }
+
+    @Override
+    public boolean updateBalance(String accountNumber, BigDecimal newBalance) {
+        boolean updated = accountRepositoryImpl.updateBalance(accountNumber, newBalance);
+        invalidate(accountNumber);
+        return updated;
+    }
+
+    @Override
+    public Optional<Account> creditBalance(String accountNumber, BigDecimal amount) {
+        Optional<Account> account = accountRepositoryImpl.creditBalance(accountNumber, amount);
+        invalidate(accountNumber);
+        return account;
+    }
+
+    @Override
+    public Optional<Account> debitBalance(String accountNumber, BigDecimal amount) {
+        Optional<Account> account = accountRepositoryImpl.debitBalance(accountNumber, amount);
+        invalidate(accountNumber);
+        return account;
+    }
+
+    @Override
+    public List<Account> lockByAccountNumbers(Collection<String> accountNumbers) {
+        return accountRepositoryImpl.lockByAccountNumbers(accountNumbers);
+    }
+
+    @Override
+    public void applyBalanceDeltas(Map<String, BigDecimal> deltas) {
+        accountRepositoryImpl.applyBalanceDeltas(deltas);
+        deltas.keySet().forEach(this::invalidate);
+    }
+
+    @Override
+    public boolean enableStriping(String accountNumber, int stripeCount) {
+        boolean enabled = accountRepositoryImpl.enableStriping(accountNumber, stripeCount);
+        invalidate(accountNumber);
+        return enabled;
+    }
+
+    @Override
+    public boolean disableStriping(String accountNumber) {
+        boolean disabled = accountRepositoryImpl.disableStriping(accountNumber);
+        invalidate(accountNumber);
+        return disabled;
+    }
+
+    @Override
+    public Set<String> refreshStripedAccounts() {
+        return accountRepositoryImpl.refreshStripedAccounts();
+    }
+
+    @Override
+    public void foldStripes(String accountNumber) {
+        accountRepositoryImpl.foldStripes(accountNumber);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        Optional<Account> account = accountRepositoryImpl.findById(id);
+        accountRepositoryImpl.deleteById(id);
+        account.ifPresent(deleted -> invalidate(deleted.getAccountNumber()));
+    }
+
+    @Override
+    public Optional<Account> findById(Long id) {
+        return accountRepositoryImpl.findById(id);
+    }
+
+    @Override
+    public List<Account> findByCustomerId(String customerId) {
+        return accountRepositoryImpl.findByCustomerId(customerId);
+    }
+
+    @Override
+    public List<Account> findByAccountType(String accountType) {
+        return accountRepositoryImpl.findByAccountType(accountType);
+    }
+
+    @Override
+    public List<Account> findActiveAccounts() {
+        return accountRepositoryImpl.findActiveAccounts();
+    }
+
+    @Override
+    public List<Account> findPage(String accountType, Boolean active, KeysetCursor after, int limit) {
+        return accountRepositoryImpl.findPage(accountType, active, after, limit);
+    }
+
+    @Override
+    public List<Account> findAll() {
+        return accountRepositoryImpl.findAll();
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return accountRepositoryImpl.existsById(id);
+    }
+
+    @Override
+    public long count() {
+        return accountRepositoryImpl.count();
+    }
+
+    private void invalidate(String accountNumber) {
+        accountsByNumber.invalidate(accountNumber);
+        dirtyAccounts.markDirty(accountNumber);
+    }
+
+    private static Account copyOf(Account account) {
+        return Account.builder()
+                .id(account.getId())
+                .accountNumber(account.getAccountNumber())
+                .customerId(account.getCustomerId())
+                .balance(account.getBalance())
+                .accountType(account.getAccountType())
+                .createdAt(account.getCreatedAt())
+                .updatedAt(account.getUpdatedAt())
+                .isActive(account.getIsActive())
+                .build();
+    }
+}
@@ -0,0 +1,169 @@
+package repository.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import model.entity.Customer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import repository.CustomerRepository;
+import repository.impl.CustomerRepositoryImpl;
+import repository.routing.ReadYourWrites;
+import repository.routing.ReplicaRoutingDataSource;
+import utils.KeysetCursor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@Repository
+@Primary
+@ConditionalOnProperty(prefix = "customer.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CachingCustomerRepository implements CustomerRepository {
+
+    private final CustomerRepositoryImpl customerRepositoryImpl;
+    private final CustomerIndexCache cache;
+    private final TransactionScopedInvalidation dirtyCustomers;
+    private final Counter hits;
+    private final Counter misses;
+    private final Optional<ReplicaRoutingDataSource> replicaRouting;
+
+    public CachingCustomerRepository(CustomerRepositoryImpl customerRepositoryImpl,
+                                     MeterRegistry meterRegistry,
+                                     Optional<ReplicaRoutingDataSource> replicaRouting,
+                                     @Value("${customer.cache.maximum-size:10000}") int maximumSize,
+                                     @Value("${customer.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.customerRepositoryImpl = customerRepositoryImpl;
+        this.replicaRouting = replicaRouting;
+        this.cache = new CustomerIndexCache(maximumSize, Duration.ofSeconds(ttlSeconds));
+        this.dirtyCustomers = new TransactionScopedInvalidation("customers",
+                customerIds -> customerIds.forEach(cache::invalidate));
+
+        this.hits = Counter.builder("customer.cache.gets").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("customer.cache.gets").tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder("customer.cache.evictions", cache, CustomerIndexCache::evictions)
+                .description("Customers evicted by the LRU bound")
+                .register(meterRegistry);
+        Gauge.builder("customer.cache.size", cache, CustomerIndexCache::size)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<Customer> findByCustomerId(String customerId) {
+        return lookup(() -> cache.getByCustomerId(customerId),
+                () -> customerRepositoryImpl.findByCustomerId(customerId));
+    }
+
+    @Override
+    public Optional<Customer> findByEmail(String email) {
+        return lookup(() -> cache.getByEmail(email),
+                () -> customerRepositoryImpl.findByEmail(email));
+    }
+
+    @Override
+    public Optional<Customer> findByNationalId(String nationalId) {
+        return lookup(() -> cache.getByNationalId(nationalId),
+                () -> customerRepositoryImpl.findByNationalId(nationalId));
+    }
+
+    @Override
+    public Customer save(Customer customer) {
+        Customer savedCustomer = customerRepositoryImpl.save(customer);
+        invalidate(savedCustomer.getCustomerId());
+        return savedCustomer;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        Optional<String> customerId = cache.customerIdOf(id)
+                .or(() -> customerRepositoryImpl.findById(id).map(Customer::getCustomerId));
+        customerRepositoryImpl.deleteById(id);
+        customerId.ifPresent(this::invalidate);
+    }
+
+    @Override
+    public Optional<Customer> findById(Long id) {
+        return customerRepositoryImpl.findById(id);
+    }
+
+    @Override
+    public List<Customer> findActiveCustomers() {
+        return customerRepositoryImpl.findActiveCustomers();
+    }
+
+    @Override
+    public List<Customer> findPage(Boolean active, KeysetCursor after, int limit) {
+        return customerRepositoryImpl.findPage(active, after, limit);
+    }
+
+    @Override
+    public long nextCustomerIdBlock() {
+        return customerRepositoryImpl.nextCustomerIdBlock();
+    }
+
+    @Override
+    public int getCustomerIdBlockSize() {
+        return customerRepositoryImpl.getCustomerIdBlockSize();
+    }
+
+    @Override
+    public List<Customer> findAll() {
+        return customerRepositoryImpl.findAll();
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return customerRepositoryImpl.existsById(id);
+    }
+
+    @Override
+    public long count() {
+        return customerRepositoryImpl.count();
+    }
+
+    private Optional<Customer> lookup(Supplier<Optional<Customer>> cached, Supplier<Optional<Customer>> loader) {
+        if (ReadYourWrites.isActive()) {
+            return loader.get();
+        }
+
+        Optional<Customer> hit = cached.get().filter(customer -> !dirtyCustomers.isDirty(customer.getCustomerId()));
+        if (hit.isPresent()) {
+            hits.increment();
+            return hit.map(CachingCustomerRepository::copyOf);
+        }
+
+        misses.increment();
+        long generation = cache.generation();
+        Optional<Customer> loaded = loader.get();
+        if (replicaRouting.map(ReplicaRoutingDataSource::routesToReplica).orElse(false)) {
+            return loaded;
+        }
+        loaded.filter(customer -> !dirtyCustomers.isDirty(customer.getCustomerId()))
+                .ifPresent(customer -> cache.putIfUnchanged(copyOf(customer), generation));
+        return loaded;
+    }
+
+    private void invalidate(String customerId) {
+        cache.invalidate(customerId);
+        dirtyCustomers.markDirty(customerId);
+    }
+
+    private static Customer copyOf(Customer customer) {
+        return Customer.builder()
+                .id(customer.getId())
+                .customerId(customer.getCustomerId())
+                .firstName(customer.getFirstName())
+                .lastName(customer.getLastName())
+                .email(customer.getEmail())
+                .phoneNumber(customer.getPhoneNumber())
+                .nationalId(customer.getNationalId())
+                .createdAt(customer.getCreatedAt())
+                .updatedAt(customer.getUpdatedAt())
+                .isActive(customer.getIsActive())
+                .build();
+    }
+}
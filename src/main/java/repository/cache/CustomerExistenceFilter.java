@@ -0,0 +1,175 @@
+package repository.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import model.entity.Customer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import repository.queries.CustomerQueries;
+import utils.BloomFilter;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+@Component
+@DependsOn("schemaInitializer")
+@Slf4j
+public class CustomerExistenceFilter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private final AtomicReference<Queue<CustomerKeys>> recentAdditions =
+            new AtomicReference<>(new ConcurrentLinkedQueue<>());
+
+    private volatile Filters current;
+    private volatile Filters building;
+    private volatile boolean uniqueKeysEnforced;
+
+    public CustomerExistenceFilter(JdbcTemplate jdbcTemplate,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${customer.bloom.enabled:true}") boolean enabled,
+                                   @Value("${customer.bloom.expected-insertions:1000000}") long expectedInsertions,
+                                   @Value("${customer.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+
+        rebuild();
+        registerMetrics("email", filters -> filters.emails);
+        registerMetrics("national_id", filters -> filters.nationalIds);
+    }
+
+    @Scheduled(fixedDelayString = "${customer.bloom.rebuild-interval-ms:3600000}",
+            initialDelayString = "${customer.bloom.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        Filters rebuilt = new Filters(new BloomFilter(expectedInsertions, falsePositiveRate),
+                new BloomFilter(expectedInsertions, falsePositiveRate));
+        building = rebuilt;
+        Queue<CustomerKeys> added = recentAdditions.getAndSet(new ConcurrentLinkedQueue<>());
+        try {
+            jdbcTemplate.query(CustomerQueries.SELECT_ACTIVE_CUSTOMER_KEYS, rs -> {
+                rebuilt.add(rs.getString("email"), rs.getString("national_id"));
+            });
+            added.forEach(keys -> rebuilt.add(keys.email(), keys.nationalId()));
+            current = rebuilt;
+        } catch (RuntimeException e) {
+            recentAdditions.get().addAll(added);
+            throw e;
+        } finally {
+            building = null;
+        }
+
+        uniqueKeysEnforced = uniqueKeysEnforced();
+        if (!uniqueKeysEnforced) {
+            log.warn("Customer unique indexes are missing or invalid - existence filter negatives will be verified");
+        }
+        log.info("Customer existence filter built - Bits: {}, Hashes: {}, Duration: {} ms",
+                rebuilt.emails.bitSize(), rebuilt.emails.hashCount(), (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    public void add(Customer customer) {
+        String email = customer.getEmail();
+        String nationalId = customer.getNationalId();
+        recentAdditions.get().add(new CustomerKeys(email, nationalId));
+
+        Filters pending = building;
+        if (pending != null) {
+            pending.add(email, nationalId);
+        }
+        Filters active = current;
+        if (active != null && active != pending) {
+            active.add(email, nationalId);
+        }
+    }
+
+    public boolean mightContainEmail(String email) {
+        return mightContain("email", email, filters -> filters.emails);
+    }
+
+    public boolean mightContainNationalId(String nationalId) {
+        return mightContain("national_id", nationalId, filters -> filters.nationalIds);
+    }
+
+    public void recordFalsePositive(String key) {
+        meterRegistry.counter("customer.bloom.lookups", "filter", key, "result", "false_positive").increment();
+    }
+
+    private boolean mightContain(String key, String value, Function<Filters, BloomFilter> selector) {
+        Filters active = current;
+        if (active == null || value == null || !uniqueKeysEnforced) {
+            return true;
+        }
+
+        boolean probable = selector.apply(active).mightContain(value);
+        meterRegistry.counter("customer.bloom.lookups", "filter", key, "result", probable ? "probable" : "absent")
+                .increment();
+        return probable;
+    }
+
+    private boolean uniqueKeysEnforced() {
+        Integer valid = jdbcTemplate.queryForObject(CustomerQueries.COUNT_VALID_CUSTOMER_UNIQUE_INDEXES, Integer.class);
+        return valid != null && valid == 2;
+    }
+
+    private void registerMetrics(String key, Function<Filters, BloomFilter> selector) {
+        Gauge.builder("customer.bloom.memory.bytes", this, filter -> selector.apply(filter.current).bitSize() / 8.0)
+                .tag("filter", key)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("customer.bloom.false.positive.rate", this,
+                        filter -> selector.apply(filter.current).expectedFalsePositiveRate())
+                .tag("filter", key)
+                .description("Estimated false-positive rate from the current bit fill")
+                .register(meterRegistry);
+        Gauge.builder("customer.bloom.false.positive.target", () -> falsePositiveRate)
+                .tag("filter", key)
+                .register(meterRegistry);
+    }
+
+    private record CustomerKeys(String email, String nationalId) {
+    }
+
+    private static final class Filters {
+        private final BloomFilter emails;
+        private final BloomFilter nationalIds;
+
+        private Filters(BloomFilter emails, BloomFilter nationalIds) {
+            this.emails = emails;
+            this.nationalIds = nationalIds;
+        }
+
+        private void add(String email, String nationalId) {
+            if (email != null) {
+                emails.put(email);
+            }
+            if (nationalId != null) {
+                nationalIds.put(nationalId);
+            }
+        }
+    }
+}
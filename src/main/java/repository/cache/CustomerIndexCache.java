@@ -0,0 +1,119 @@
+package repository.cache;
+
+import model.entity.Customer;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+class CustomerIndexCache {
+
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final Map<String, Entry> byCustomerId;
+    private final Map<String, String> customerIdByEmail = new HashMap<>();
+    private final Map<String, String> customerIdByNationalId = new HashMap<>();
+    private final Map<Long, String> customerIdById = new HashMap<>();
+    private long evictions;
+    private long generation;
+
+    CustomerIndexCache(int maximumSize, Duration ttl) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttl.toNanos();
+        this.byCustomerId = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    synchronized Optional<Customer> getByCustomerId(String customerId) {
+        return Optional.ofNullable(live(customerId));
+    }
+
+    synchronized Optional<Customer> getByEmail(String email) {
+        return Optional.ofNullable(customerIdByEmail.get(email)).map(this::live);
+    }
+
+    synchronized Optional<Customer> getByNationalId(String nationalId) {
+        return Optional.ofNullable(customerIdByNationalId.get(nationalId)).map(this::live);
+    }
+
+    synchronized Optional<String> customerIdOf(Long id) {
+        return Optional.ofNullable(customerIdById.get(id));
+    }
+
+    synchronized long generation() {
+        return generation;
+    }
+
+    synchronized boolean putIfUnchanged(Customer customer, long expectedGeneration) {
+        if (generation != expectedGeneration) {
+            return false;
+        }
+
+        remove(customer.getCustomerId());
+        byCustomerId.put(customer.getCustomerId(), new Entry(customer, System.nanoTime() + ttlNanos));
+        index(customer);
+
+        while (byCustomerId.size() > maximumSize) {
+            String eldest = byCustomerId.keySet().iterator().next();
+            remove(eldest);
+            evictions++;
+        }
+        return true;
+    }
+
+    synchronized void invalidate(String customerId) {
+        generation++;
+        remove(customerId);
+    }
+
+    synchronized int size() {
+        return byCustomerId.size();
+    }
+
+    synchronized long evictions() {
+        return evictions;
+    }
+
+    private Customer live(String customerId) {
+        Entry entry = byCustomerId.get(customerId);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtNanos() - System.nanoTime() <= 0) {
+            remove(customerId);
+            return null;
+        }
+        return entry.customer();
+    }
+
+    private void index(Customer customer) {
+        if (customer.getEmail() != null) {
+            customerIdByEmail.put(customer.getEmail(), customer.getCustomerId());
+        }
+        if (customer.getNationalId() != null) {
+            customerIdByNationalId.put(customer.getNationalId(), customer.getCustomerId());
+        }
+        if (customer.getId() != null) {
+            customerIdById.put(customer.getId(), customer.getCustomerId());
+        }
+    }
+
+    private void remove(String customerId) {
+        Entry entry = byCustomerId.remove(customerId);
+        if (entry == null) {
+            return;
+        }
+
+        Customer removed = entry.customer();
+        customerIdByEmail.remove(removed.getEmail(), customerId);
+        customerIdByNationalId.remove(removed.getNationalId(), customerId);
+        customerIdById.remove(removed.getId(), customerId);
+    }
+
+    private record Entry(Customer customer, long expiresAtNanos) {
+    }
+}
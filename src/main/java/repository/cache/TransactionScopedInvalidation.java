@@ -0,0 +1,49 @@
+package repository.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+class TransactionScopedInvalidation {
+
+    private final String resourceKey;
+    private final Consumer<Set<String>> afterCompletion;
+
+    TransactionScopedInvalidation(String name, Consumer<Set<String>> afterCompletion) {
+        this.resourceKey = TransactionScopedInvalidation.class.getName() + "." + name;
+        this.afterCompletion = afterCompletion;
+    }
+
+    void markDirty(String key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            dirtyKeys().add(key);
+        }
+    }
+
+    boolean isDirty(String key) {
+        Object dirty = TransactionSynchronizationManager.getResource(resourceKey);
+        return dirty instanceof Set<?> dirtyKeys && dirtyKeys.contains(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> dirtyKeys() {
+        Set<String> dirtyKeys = (Set<String>) TransactionSynchronizationManager.getResource(resourceKey);
+        if (dirtyKeys != null) {
+            return dirtyKeys;
+        }
+
+        Set<String> created = new HashSet<>();
+        TransactionSynchronizationManager.bindResource(resourceKey, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+                afterCompletion.accept(created);
+            }
+        });
+        return created;
+    }
+}
@@ -1,26 +1,46 @@
 
 package repository.impl;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import model.entity.Account;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 import repository.AccountRepository;
+import repository.BaseReadRepository;
 import repository.queries.AccountQueries;
+import utils.KeysetCursor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 @Repository
+@DependsOn("schemaInitializer")
 @RequiredArgsConstructor
 @Slf4j
 public class AccountRepositoryImpl implements AccountRepository {
 
     private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Integer> stripedAccounts = new ConcurrentHashMap<>();
+    private final AtomicLong stripeCursor = new AtomicLong();
 
     private final RowMapper<Account> accountRowMapper = (rs, rowNum) ->
             Account.builder()
@@ -34,6 +54,22 @@ public class AccountRepositoryImpl implements AccountRepository {
                     .isActive(rs.getBoolean("is_active"))
                     .build();
 
+    @PostConstruct
+    public void initialize() {
+        refreshStripedAccounts();
+    }
+
+    @Override
+    public Set<String> refreshStripedAccounts() {
+        Map<String, Integer> current = new ConcurrentHashMap<>();
+        jdbcTemplate.query(AccountQueries.SELECT_STRIPED_ACCOUNTS, (RowCallbackHandler) rs -> {
+            current.put(rs.getString("account_number"), rs.getInt("stripe_count"));
+        });
+        stripedAccounts.keySet().retainAll(current.keySet());
+        stripedAccounts.putAll(current);
+        return Set.copyOf(current.keySet());
+    }
+
     @Override
     public Account save(Account account) {
         if (account.getId() == null) {
@@ -41,7 +77,7 @@ public class AccountRepositoryImpl implements AccountRepository {
             account.setCreatedAt(now);
             account.setUpdatedAt(now);
 
-            jdbcTemplate.update(AccountQueries.INSERT_ACCOUNT,
+            Account savedAccount = jdbcTemplate.queryForObject(AccountQueries.INSERT_ACCOUNT, accountRowMapper,
                     account.getAccountNumber(),
                     account.getCustomerId(),
                     account.getBalance(),
@@ -52,46 +88,41 @@ public class AccountRepositoryImpl implements AccountRepository {
             );
 
             log.info("New account created: {}", account.getAccountNumber());
-        } else {
-            update(account);
+            return savedAccount;
         }
-        return account;
+        return update(account);
     }
 
     @Override
     public Optional<Account> findById(Long id) {
-        try {
-            Account account = jdbcTemplate.queryForObject(AccountQueries.SELECT_ACCOUNT_BY_ID, accountRowMapper, id);
-            return Optional.of(account);
-        } catch (Exception e) {
-            log.warn("Account not found - ID: {}", id);
-            return Optional.empty();
-        }
+        return BaseReadRepository.firstResult(jdbcTemplate.query(AccountQueries.SELECT_ACCOUNT_BY_ID, accountRowMapper, id))
+                .map(this::withStripedBalance);
     }
 
     @Override
     public Optional<Account> findByAccountNumber(String accountNumber) {
-        try {
-            Account account = jdbcTemplate.queryForObject(AccountQueries.SELECT_ACCOUNT_BY_NUMBER, accountRowMapper, accountNumber);
-            return Optional.of(account);
-        } catch (Exception e) {
-            log.warn("Account not found - Account Number: {}", accountNumber);
-            return Optional.empty();
-        }
+        String sql = stripedAccounts.containsKey(accountNumber)
+                ? AccountQueries.SELECT_STRIPED_ACCOUNT_BY_NUMBER
+                : AccountQueries.SELECT_ACCOUNT_BY_NUMBER;
+        return BaseReadRepository.firstResult(jdbcTemplate.query(sql, accountRowMapper, accountNumber));
     }
 
     @Override
     public List<Account> findByCustomerId(String customerId) {
-        return jdbcTemplate.query(AccountQueries.SELECT_ACCOUNTS_BY_CUSTOMER_ID, accountRowMapper, customerId);
+        return withStripedBalances(jdbcTemplate.query(AccountQueries.SELECT_ACCOUNTS_BY_CUSTOMER_ID, accountRowMapper, customerId));
     }
 
     @Override
     public List<Account> findByAccountType(String accountType) {
-        return jdbcTemplate.query(AccountQueries.SELECT_ACCOUNTS_BY_TYPE, accountRowMapper, accountType);
+        return withStripedBalances(jdbcTemplate.query(AccountQueries.SELECT_ACCOUNTS_BY_TYPE, accountRowMapper, accountType));
     }
 
     @Override
     public boolean updateBalance(String accountNumber, BigDecimal newBalance) {
+        if (stripedAccounts.containsKey(accountNumber)) {
+            foldStripes(accountNumber);
+        }
+
         int rowsAffected = jdbcTemplate.update(AccountQueries.UPDATE_ACCOUNT_BALANCE,
                 newBalance, LocalDateTime.now(), accountNumber);
 
@@ -104,14 +135,156 @@ public class AccountRepositoryImpl implements AccountRepository {
         return false;
     }
 
+    @Override
+    public Optional<Account> creditBalance(String accountNumber, BigDecimal amount) {
+        Integer stripeCount = stripedAccounts.get(accountNumber);
+        if (stripeCount != null) {
+            int stripeIndex = (int) Math.floorMod(stripeCursor.getAndIncrement(), (long) stripeCount);
+            Optional<Account> credited = jdbcTemplate.query(AccountQueries.CREDIT_ACCOUNT_STRIPE, accountRowMapper,
+                            amount, LocalDateTime.now(), accountNumber, stripeIndex, accountNumber)
+                    .stream()
+                    .findFirst();
+
+            if (credited.isPresent()) {
+                log.info("Account stripe credited - Account: {}, Stripe: {}, Amount: {}", accountNumber, stripeIndex, amount);
+                return credited;
+            }
+            stripedAccounts.remove(accountNumber);
+        }
+
+        Optional<Account> account = jdbcTemplate.query(AccountQueries.CREDIT_ACCOUNT_BALANCE, accountRowMapper,
+                        amount, LocalDateTime.now(), accountNumber)
+                .stream()
+                .findFirst();
+
+        if (account.isPresent()) {
+            log.info("Account credited - Account: {}, Amount: {}", accountNumber, amount);
+        } else {
+            log.warn("Credit failed - Account: {}", accountNumber);
+        }
+        return account;
+    }
+
+    @Override
+    public Optional<Account> debitBalance(String accountNumber, BigDecimal amount) {
+        if (stripedAccounts.containsKey(accountNumber)) {
+            foldStripes(accountNumber);
+        }
+
+        Optional<Account> account = jdbcTemplate.query(AccountQueries.DEBIT_ACCOUNT_BALANCE, accountRowMapper,
+                        amount, LocalDateTime.now(), accountNumber, amount)
+                .stream()
+                .findFirst();
+
+        if (account.isPresent()) {
+            log.info("Account debited - Account: {}, Amount: {}", accountNumber, amount);
+        } else {
+            log.warn("Debit failed - Account: {}", accountNumber);
+        }
+        return account;
+    }
+
+    @Override
+    public List<Account> lockByAccountNumbers(Collection<String> accountNumbers) {
+        String[] sortedNumbers = accountNumbers.stream()
+                .distinct()
+                .sorted()
+                .toArray(String[]::new);
+
+        for (String accountNumber : sortedNumbers) {
+            if (stripedAccounts.containsKey(accountNumber)) {
+                foldStripes(accountNumber);
+            }
+        }
+
+        Timer.Sample lockWait = Timer.start(meterRegistry);
+        List<Account> locked = jdbcTemplate.query(AccountQueries.LOCK_ACCOUNTS_BY_NUMBERS,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", sortedNumbers)),
+                accountRowMapper);
+        lockWait.stop(meterRegistry.timer("account.lock.wait"));
+        return locked;
+    }
+
+    @Override
+    public void applyBalanceDeltas(Map<String, BigDecimal> deltas) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batchArgs = deltas.entrySet()
+                .stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new Object[]{entry.getValue(), now, entry.getKey()})
+                .collect(Collectors.toList());
+
+        jdbcTemplate.batchUpdate(AccountQueries.APPLY_ACCOUNT_BALANCE_DELTA, batchArgs);
+        log.info("Account balance deltas applied - Accounts: {}", batchArgs.size());
+    }
+
+    @Override
+    public boolean enableStriping(String accountNumber, int stripeCount) {
+        jdbcTemplate.update(AccountQueries.INSERT_ACCOUNT_STRIPES, LocalDateTime.now(), stripeCount, accountNumber);
+
+        Integer stripes = jdbcTemplate.queryForObject(AccountQueries.COUNT_ACCOUNT_STRIPES, Integer.class, accountNumber);
+        if (stripes == null || stripes == 0) {
+            log.warn("Striping failed - Account: {}", accountNumber);
+            return false;
+        }
+
+        stripedAccounts.put(accountNumber, stripes);
+        log.info("Account striping enabled - Account: {}, Stripes: {}", accountNumber, stripes);
+        return true;
+    }
+
+    @Override
+    public boolean disableStriping(String accountNumber) {
+        LocalDateTime now = LocalDateTime.now();
+        int rowsAffected = jdbcTemplate.update(AccountQueries.REMOVE_ACCOUNT_STRIPES, accountNumber, now, accountNumber);
+        stripedAccounts.remove(accountNumber);
+
+        if (rowsAffected > 0) {
+            log.info("Account striping disabled - Account: {}", accountNumber);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void foldStripes(String accountNumber) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(AccountQueries.FOLD_ACCOUNT_STRIPES, accountNumber, now, accountNumber, now, accountNumber);
+        log.debug("Account stripes folded - Account: {}", accountNumber);
+    }
+
     @Override
     public List<Account> findActiveAccounts() {
-        return jdbcTemplate.query(AccountQueries.SELECT_ACTIVE_ACCOUNTS, accountRowMapper);
+        return withStripedBalances(jdbcTemplate.query(AccountQueries.SELECT_ACTIVE_ACCOUNTS, accountRowMapper));
+    }
+
+    @Override
+    public List<Account> findPage(String accountType, Boolean active, KeysetCursor after, int limit) {
+        List<String> filters = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        if (accountType != null) {
+            filters.add(AccountQueries.ACCOUNT_TYPE_FILTER);
+            args.add(accountType);
+        }
+        if (active != null) {
+            filters.add(AccountQueries.ACCOUNT_ACTIVE_FILTER);
+            args.add(active);
+        }
+        if (after != null) {
+            filters.add(AccountQueries.ACCOUNT_KEYSET_FILTER);
+            args.add(after.getTimestamp());
+            args.add(after.getId());
+        }
+        args.add(limit);
+
+        String sql = AccountQueries.SELECT_ACCOUNTS_PAGE.formatted(
+                filters.isEmpty() ? "TRUE" : String.join(" AND ", filters));
+        return withStripedBalances(jdbcTemplate.query(sql, accountRowMapper, args.toArray()));
     }
 
     @Override
     public List<Account> findAll() {
-        return jdbcTemplate.query(AccountQueries.SELECT_ALL_ACCOUNTS, accountRowMapper);
+        return withStripedBalances(jdbcTemplate.query(AccountQueries.SELECT_ALL_ACCOUNTS, accountRowMapper));
     }
 
     @Override
@@ -132,10 +305,49 @@ public class AccountRepositoryImpl implements AccountRepository {
         return count != null ? count : 0;
     }
 
-    private void update(Account account) {
+    private List<Account> withStripedBalances(List<Account> accounts) {
+        if (stripedAccounts.isEmpty()) {
+            return accounts;
+        }
+
+        String[] stripedNumbers = accounts.stream()
+                .map(Account::getAccountNumber)
+                .filter(stripedAccounts::containsKey)
+                .distinct()
+                .toArray(String[]::new);
+        if (stripedNumbers.length == 0) {
+            return accounts;
+        }
+
+        Map<String, BigDecimal> stripedBalances = new HashMap<>();
+        jdbcTemplate.query(AccountQueries.SUM_STRIPES_BY_ACCOUNT_NUMBERS,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", stripedNumbers)),
+                (RowCallbackHandler) rs -> stripedBalances.put(rs.getString("account_number"), rs.getBigDecimal("striped_balance")));
+        accounts.forEach(account -> {
+            BigDecimal striped = stripedBalances.get(account.getAccountNumber());
+            if (striped != null) {
+                account.setBalance(account.getBalance().add(striped));
+            }
+        });
+        return accounts;
+    }
+
+    private Account withStripedBalance(Account account) {
+        if (stripedAccounts.containsKey(account.getAccountNumber())) {
+            BigDecimal striped = jdbcTemplate.queryForObject(AccountQueries.SUM_ACCOUNT_STRIPES, BigDecimal.class,
+                    account.getAccountNumber());
+            account.setBalance(account.getBalance().add(striped != null ? striped : BigDecimal.ZERO));
+        }
+        return account;
+    }
+
+    private Account update(Account account) {
+        if (stripedAccounts.containsKey(account.getAccountNumber())) {
+            foldStripes(account.getAccountNumber());
+        }
         account.setUpdatedAt(LocalDateTime.now());
 
-        jdbcTemplate.update(AccountQueries.UPDATE_ACCOUNT,
+        Account updatedAccount = jdbcTemplate.queryForObject(AccountQueries.UPDATE_ACCOUNT, accountRowMapper,
                 account.getCustomerId(),
                 account.getBalance(),
                 account.getAccountType(),
@@ -145,5 +357,6 @@ public class AccountRepositoryImpl implements AccountRepository {
         );
 
         log.info("Account updated - ID: {}", account.getId());
+        return updatedAccount;
     }
 }
\ No newline at end of file
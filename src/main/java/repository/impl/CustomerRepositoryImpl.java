@@ -1,15 +1,21 @@
 package repository.impl;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import model.entity.Customer;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
+import repository.BaseReadRepository;
 import repository.CustomerRepository;
+import repository.cache.CustomerExistenceFilter;
 import repository.queries.CustomerQueries;
+import utils.KeysetCursor;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -20,6 +26,7 @@ import java.util.Optional;
 public class CustomerRepositoryImpl implements CustomerRepository {
 
     private final JdbcTemplate jdbcTemplate;
+    private final CustomerExistenceFilter customerExistenceFilter;
 
     private final RowMapper<Customer> customerRowMapper = (rs, rowNum) ->
             Customer.builder()
@@ -37,88 +44,56 @@ public class CustomerRepositoryImpl implements CustomerRepository {
 
     @Override
     public Customer save(Customer customer) {
-        if (customer.getId() == null) {
-            LocalDateTime now = LocalDateTime.now();
-            customer.setCreatedAt(now);
-            customer.setUpdatedAt(now);
-
-            jdbcTemplate.update(CustomerQueries.INSERT_CUSTOMER,
-                    customer.getCustomerId(),
-                    customer.getFirstName(),
-                    customer.getLastName(),
-                    customer.getEmail(),
-                    customer.getPhoneNumber(),
-                    customer.getNationalId(),
-                    customer.getCreatedAt(),
-                    customer.getUpdatedAt(),
-                    customer.getIsActive()
-            );
-
-            log.info("New customer created: {}", customer.getCustomerId());
-        } else {
-            update(customer);
+        customerExistenceFilter.add(customer);
+
+        try {
+            return customer.getId() == null ? insert(customer) : update(customer);
+        } catch (DuplicateKeyException e) {
+            String constraint = String.valueOf(e.getMostSpecificCause().getMessage());
+            if (constraint.contains("uq_customers_active_email")) {
+                throw new IllegalArgumentException("Email already exists: " + customer.getEmail(), e);
+            }
+            if (constraint.contains("uq_customers_active_national_id")) {
+                throw new IllegalArgumentException("National ID already exists: " + customer.getNationalId(), e);
+            }
+            throw e;
         }
-        return customer;
     }
 
     @Override
     public Optional<Customer> findById(Long id) {
-        try {
-            Customer customer = jdbcTemplate.queryForObject(
-                    CustomerQueries.SELECT_CUSTOMER_BY_ID,
-                    customerRowMapper,
-                    id
-            );
-            return Optional.of(customer);
-        } catch (Exception e) {
-            log.warn("Customer not found - ID: {}", id);
-            return Optional.empty();
-        }
+        return BaseReadRepository.firstResult(jdbcTemplate.query(
+                CustomerQueries.SELECT_CUSTOMER_BY_ID,
+                customerRowMapper,
+                id
+        ));
     }
 
     @Override
     public Optional<Customer> findByCustomerId(String customerId) {
-        try {
-            Customer customer = jdbcTemplate.queryForObject(
-                    CustomerQueries.SELECT_CUSTOMER_BY_CUSTOMER_ID,
-                    customerRowMapper,
-                    customerId
-            );
-            return Optional.of(customer);
-        } catch (Exception e) {
-            log.warn("Customer not found - Customer ID: {}", customerId);
-            return Optional.empty();
-        }
+        return BaseReadRepository.firstResult(jdbcTemplate.query(
+                CustomerQueries.SELECT_CUSTOMER_BY_CUSTOMER_ID,
+                customerRowMapper,
+                customerId
+        ));
     }
 
     @Override
     public Optional<Customer> findByEmail(String email) {
-        try {
-            Customer customer = jdbcTemplate.queryForObject(
-                    CustomerQueries.SELECT_CUSTOMER_BY_EMAIL,
-                    customerRowMapper,
-                    email
-            );
-            return Optional.of(customer);
-        } catch (Exception e) {
-            log.warn("Customer not found - Email: {}", email);
-            return Optional.empty();
-        }
+        return BaseReadRepository.firstResult(jdbcTemplate.query(
+                CustomerQueries.SELECT_CUSTOMER_BY_EMAIL,
+                customerRowMapper,
+                email
+        ));
     }
 
     @Override
     public Optional<Customer> findByNationalId(String nationalId) {
-        try {
-            Customer customer = jdbcTemplate.queryForObject(
-                    CustomerQueries.SELECT_CUSTOMER_BY_NATIONAL_ID,
-                    customerRowMapper,
-                    nationalId
-            );
-            return Optional.of(customer);
-        } catch (Exception e) {
-            log.warn("Customer not found - National ID: {}", nationalId);
-            return Optional.empty();
-        }
+        return BaseReadRepository.firstResult(jdbcTemplate.query(
+                CustomerQueries.SELECT_CUSTOMER_BY_NATIONAL_ID,
+                customerRowMapper,
+                nationalId
+        ));
     }
 
     @Override
@@ -127,12 +102,48 @@ public class CustomerRepositoryImpl implements CustomerRepository {
     }
 
     @Override
-    public String getLastCustomerId() {
-        Customer customer = jdbcTemplate.queryForObject(
-                CustomerQueries.SELECT_GET_LAST_CUSTOMER,
-                customerRowMapper
-        );
-        return customer != null ? customer.getCustomerId() : null;
+    public List<Customer> findPage(Boolean active, KeysetCursor after, int limit) {
+        List<String> filters = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        if (active != null) {
+            filters.add(CustomerQueries.CUSTOMER_ACTIVE_FILTER);
+            args.add(active);
+        }
+        if (after != null) {
+            filters.add(CustomerQueries.CUSTOMER_KEYSET_FILTER);
+            args.add(after.getTimestamp());
+            args.add(after.getId());
+        }
+        args.add(limit);
+
+        String sql = CustomerQueries.SELECT_CUSTOMERS_PAGE.formatted(
+                filters.isEmpty() ? "TRUE" : String.join(" AND ", filters));
+        return jdbcTemplate.query(sql, customerRowMapper, args.toArray());
+    }
+
+    @PostConstruct
+    public void initialize() {
+        jdbcTemplate.execute(CustomerQueries.CREATE_CUSTOMER_ID_SEQUENCE);
+        jdbcTemplate.queryForObject(CustomerQueries.ALIGN_CUSTOMER_ID_SEQUENCE, Long.class);
+    }
+
+    @Override
+    public long nextCustomerIdBlock() {
+        Long blockStart = jdbcTemplate.queryForObject(CustomerQueries.NEXT_CUSTOMER_ID_BLOCK, Long.class);
+        if (blockStart == null) {
+            throw new IllegalStateException("Customer ID sequence returned no value");
+        }
+        log.debug("Customer ID block allocated - Start: {}", blockStart);
+        return blockStart;
+    }
+
+    @Override
+    public int getCustomerIdBlockSize() {
+        Long blockSize = jdbcTemplate.queryForObject(CustomerQueries.SELECT_CUSTOMER_ID_BLOCK_SIZE, Long.class);
+        if (blockSize == null || blockSize < 1) {
+            throw new IllegalStateException("Customer ID sequence has no positive increment");
+        }
+        return Math.toIntExact(blockSize);
     }
 
     @Override
@@ -159,19 +170,56 @@ public class CustomerRepositoryImpl implements CustomerRepository {
     }
 
     public boolean isEmailExists(String email) {
+        if (!customerExistenceFilter.mightContainEmail(email)) {
+            return false;
+        }
+
         Integer count = jdbcTemplate.queryForObject(CustomerQueries.EXISTS_CUSTOMER_BY_EMAIL, Integer.class, email);
-        return count != null && count > 0;
+        boolean exists = count != null && count > 0;
+        if (!exists) {
+            customerExistenceFilter.recordFalsePositive("email");
+        }
+        return exists;
     }
 
     public boolean isNationalIdExists(String nationalId) {
+        if (!customerExistenceFilter.mightContainNationalId(nationalId)) {
+            return false;
+        }
+
         Integer count = jdbcTemplate.queryForObject(CustomerQueries.EXISTS_CUSTOMER_BY_NATIONAL_ID, Integer.class, nationalId);
-        return count != null && count > 0;
+        boolean exists = count != null && count > 0;
+        if (!exists) {
+            customerExistenceFilter.recordFalsePositive("national_id");
+        }
+        return exists;
+    }
+
+    private Customer insert(Customer customer) {
+        LocalDateTime now = LocalDateTime.now();
+        customer.setCreatedAt(now);
+        customer.setUpdatedAt(now);
+
+        Customer savedCustomer = jdbcTemplate.queryForObject(CustomerQueries.INSERT_CUSTOMER, customerRowMapper,
+                customer.getCustomerId(),
+                customer.getFirstName(),
+                customer.getLastName(),
+                customer.getEmail(),
+                customer.getPhoneNumber(),
+                customer.getNationalId(),
+                customer.getCreatedAt(),
+                customer.getUpdatedAt(),
+                customer.getIsActive()
+        );
+
+        log.info("New customer created: {}", customer.getCustomerId());
+        return savedCustomer;
     }
 
-    private void update(Customer customer) {
+    private Customer update(Customer customer) {
         customer.setUpdatedAt(LocalDateTime.now());
 
-        jdbcTemplate.update(CustomerQueries.UPDATE_CUSTOMER,
+        Customer updatedCustomer = jdbcTemplate.queryForObject(CustomerQueries.UPDATE_CUSTOMER, customerRowMapper,
                 customer.getFirstName(),
                 customer.getLastName(),
                 customer.getEmail(),
@@ -182,5 +230,6 @@ public class CustomerRepositoryImpl implements CustomerRepository {
         );
 
         log.info("Customer updated - ID: {}", customer.getId());
+        return updatedCustomer;
     }
 }
\ No newline at end of file
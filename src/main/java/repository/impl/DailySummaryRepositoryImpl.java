@@ -0,0 +1,160 @@
+package repository.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import model.entity.DailyAccountSummary;
+import model.entity.Posting;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import repository.BaseReadRepository;
+import repository.DailySummaryRepository;
+import repository.queries.DailySummaryQueries;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+@Repository
+@DependsOn("schemaInitializer")
+@RequiredArgsConstructor
+@Slf4j
+public class DailySummaryRepositoryImpl implements DailySummaryRepository {
+
+    private static final String COMPLETED = "COMPLETED";
+    private static final Comparator<DailyAccountSummary> SUMMARY_KEY_ORDER =
+            Comparator.comparing(DailyAccountSummary::getAccountNumber)
+                    .thenComparing(DailyAccountSummary::getSummaryDate)
+                    .thenComparing(DailyAccountSummary::getTransactionType)
+                    .thenComparingInt(DailyAccountSummary::getStripe);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${account.summary.stripes:8}")
+    private int stripes;
+
+    private final RowMapper<DailyAccountSummary> summaryRowMapper = (rs, rowNum) -> {
+        Timestamp closingAt = rs.getTimestamp("closing_at");
+        return DailyAccountSummary.builder()
+                .accountNumber(rs.getString("account_number"))
+                .summaryDate(rs.getDate("summary_date").toLocalDate())
+                .transactionType(rs.getString("transaction_type"))
+                .inflow(rs.getBigDecimal("inflow"))
+                .outflow(rs.getBigDecimal("outflow"))
+                .creditCount(rs.getLong("credit_count"))
+                .debitCount(rs.getLong("debit_count"))
+                .closingBalance(rs.getBigDecimal("closing_balance"))
+                .closingAt(closingAt != null ? closingAt.toLocalDateTime() : null)
+                .build();
+    };
+
+    @Override
+    public void addPostings(List<Posting> postings) {
+        upsert(postings, false);
+    }
+
+    @Override
+    public void removePostings(List<Posting> postings) {
+        upsert(postings, true);
+    }
+
+    @Override
+    public List<DailyAccountSummary> findByAccountAndDateRange(String accountNumber, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(DailySummaryQueries.SELECT_ACCOUNT_SUMMARIES_IN_RANGE, summaryRowMapper,
+                accountNumber, from, to);
+    }
+
+    @Override
+    public Optional<BigDecimal> findClosingBalanceBefore(String accountNumber, LocalDate date) {
+        return BaseReadRepository.firstResult(jdbcTemplate.queryForList(DailySummaryQueries.SELECT_CLOSING_BALANCE_BEFORE,
+                BigDecimal.class, accountNumber, date));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return !Boolean.TRUE.equals(jdbcTemplate.queryForObject(DailySummaryQueries.SELECT_ANY_SUMMARY, Boolean.class));
+    }
+
+    @Override
+    public int rebuildDay(LocalDate day) {
+        jdbcTemplate.queryForList(DailySummaryQueries.LOCK_SUMMARY_DAY, day.toString());
+        jdbcTemplate.update(DailySummaryQueries.DELETE_DAY_SUMMARIES, day);
+        return jdbcTemplate.update(DailySummaryQueries.REBUILD_DAY_SUMMARIES,
+                day, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+    }
+
+    private void upsert(List<Posting> postings, boolean reverse) {
+        Map<DailyAccountSummary, DailyAccountSummary> deltas = new TreeMap<>(SUMMARY_KEY_ORDER);
+        for (Posting posting : postings) {
+            DailyAccountSummary key = DailyAccountSummary.builder()
+                    .accountNumber(posting.getAccountNumber())
+                    .summaryDate(posting.getPostedAt().toLocalDate())
+                    .transactionType(posting.getTransactionType())
+                    .stripe(stripeOf(posting))
+                    .inflow(BigDecimal.ZERO)
+                    .outflow(BigDecimal.ZERO)
+                    .build();
+            accumulate(deltas.computeIfAbsent(key, k -> k), posting, reverse);
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        SortedSet<LocalDate> days = new TreeSet<>();
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        for (DailyAccountSummary delta : deltas.values()) {
+            days.add(delta.getSummaryDate());
+            batchArgs.add(new Object[]{
+                    delta.getAccountNumber(),
+                    delta.getSummaryDate(),
+                    delta.getTransactionType(),
+                    delta.getStripe(),
+                    delta.getInflow(),
+                    delta.getOutflow(),
+                    delta.getCreditCount(),
+                    delta.getDebitCount(),
+                    delta.getClosingBalance(),
+                    delta.getClosingAt()
+            });
+        }
+        for (LocalDate day : days) {
+            jdbcTemplate.queryForList(DailySummaryQueries.LOCK_SUMMARY_DAY_SHARED, day.toString());
+        }
+        jdbcTemplate.batchUpdate(DailySummaryQueries.UPSERT_DAILY_SUMMARY, batchArgs);
+    }
+
+    private int stripeOf(Posting posting) {
+        return stripes > 1 ? Math.floorMod(posting.getTransactionId().hashCode(), stripes) : 0;
+    }
+
+    private static void accumulate(DailyAccountSummary delta, Posting posting, boolean reverse) {
+        if (!reverse && posting.getBalanceAfter() != null
+                && (delta.getClosingAt() == null || !posting.getPostedAt().isBefore(delta.getClosingAt()))) {
+            delta.setClosingBalance(posting.getBalanceAfter());
+            delta.setClosingAt(posting.getPostedAt());
+        }
+        if (!reverse && !COMPLETED.equals(posting.getStatus())) {
+            return;
+        }
+
+        BigDecimal amount = reverse ? posting.getAmount().negate() : posting.getAmount();
+        int count = reverse ? -1 : 1;
+        if (Posting.CREDIT.equals(posting.getDirection())) {
+            delta.setInflow(delta.getInflow().add(amount));
+            delta.setCreditCount(delta.getCreditCount() + count);
+        } else {
+            delta.setOutflow(delta.getOutflow().add(amount));
+            delta.setDebitCount(delta.getDebitCount() + count);
+        }
+    }
+}
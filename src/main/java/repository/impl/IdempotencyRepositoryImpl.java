@@ -0,0 +1,75 @@
+package repository.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import model.entity.IdempotencyRecord;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import repository.IdempotencyRepository;
+import repository.queries.IdempotencyQueries;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+@DependsOn("schemaInitializer")
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyRepositoryImpl implements IdempotencyRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final RowMapper<IdempotencyRecord> idempotencyRowMapper = (rs, rowNum) ->
+            IdempotencyRecord.builder()
+                    .idempotencyKey(rs.getString("idempotency_key"))
+                    .requestHash(rs.getString("request_hash"))
+                    .statusCode((Integer) rs.getObject("status_code"))
+                    .responseBody(rs.getString("response_body"))
+                    .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                    .expiresAt(rs.getTimestamp("expires_at").toLocalDateTime())
+                    .build();
+
+    @Override
+    public Optional<IdempotencyRecord> findActive(String idempotencyKey) {
+        return jdbcTemplate.query(IdempotencyQueries.SELECT_ACTIVE_IDEMPOTENCY_KEY, idempotencyRowMapper,
+                        idempotencyKey, LocalDateTime.now())
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public boolean claim(String idempotencyKey, String requestHash, LocalDateTime expiresAt, LocalDateTime staleBefore) {
+        int rowsAffected = jdbcTemplate.update(IdempotencyQueries.CLAIM_IDEMPOTENCY_KEY,
+                idempotencyKey, requestHash, LocalDateTime.now(), expiresAt, staleBefore);
+        return rowsAffected > 0;
+    }
+
+    @Override
+    public boolean lockInProgress(String idempotencyKey, String requestHash) {
+        return !jdbcTemplate.queryForList(IdempotencyQueries.LOCK_IN_PROGRESS_IDEMPOTENCY_KEY, String.class,
+                idempotencyKey, requestHash).isEmpty();
+    }
+
+    @Override
+    public boolean complete(String idempotencyKey, int statusCode, String responseBody) {
+        int rowsAffected = jdbcTemplate.update(IdempotencyQueries.COMPLETE_IDEMPOTENCY_KEY,
+                statusCode, responseBody, idempotencyKey);
+        return rowsAffected > 0;
+    }
+
+    @Override
+    public void release(String idempotencyKey) {
+        jdbcTemplate.update(IdempotencyQueries.RELEASE_IDEMPOTENCY_KEY, idempotencyKey);
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now) {
+        int rowsAffected = jdbcTemplate.update(IdempotencyQueries.DELETE_EXPIRED_IDEMPOTENCY_KEYS, now);
+        if (rowsAffected > 0) {
+            log.info("Expired idempotency keys removed: {}", rowsAffected);
+        }
+        return rowsAffected;
+    }
+}
@@ -0,0 +1,152 @@
+package repository.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import model.entity.Posting;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import repository.PostingRepository;
+import repository.archive.TransactionArchive;
+import repository.queries.PostingQueries;
+import utils.KeysetCursor;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Repository
+@DependsOn("schemaInitializer")
+@RequiredArgsConstructor
+@Slf4j
+public class PostingRepositoryImpl implements PostingRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionArchive transactionArchive;
+
+    @Value("${transaction.stream.fetch-size:500}")
+    private int streamFetchSize;
+
+    private final RowMapper<Posting> postingRowMapper = (rs, rowNum) ->
+            Posting.builder()
+                    .id(rs.getLong("id"))
+                    .transactionId(rs.getString("transaction_id"))
+                    .accountNumber(rs.getString("account_number"))
+                    .counterpartyAccountNumber(rs.getString("counterparty_account_number"))
+                    .direction(rs.getString("direction"))
+                    .amount(rs.getBigDecimal("amount"))
+                    .balanceAfter(rs.getBigDecimal("balance_after"))
+                    .transactionType(rs.getString("transaction_type"))
+                    .description(rs.getString("description"))
+                    .status(rs.getString("status"))
+                    .postedAt(rs.getTimestamp("posted_at").toLocalDateTime())
+                    .build();
+
+    @Override
+    public void saveAll(List<Posting> postings) {
+        if (postings.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(postings.size());
+        for (Posting posting : postings) {
+            batchArgs.add(new Object[]{
+                    posting.getTransactionId(),
+                    posting.getAccountNumber(),
+                    posting.getCounterpartyAccountNumber(),
+                    posting.getDirection(),
+                    posting.getAmount(),
+                    posting.getBalanceAfter(),
+                    posting.getTransactionType(),
+                    posting.getDescription(),
+                    posting.getStatus(),
+                    posting.getPostedAt()
+            });
+        }
+
+        jdbcTemplate.batchUpdate(PostingQueries.INSERT_POSTING_BATCH, batchArgs);
+    }
+
+    @Override
+    public List<Posting> transitionStatus(String transactionId, String status) {
+        return jdbcTemplate.query(PostingQueries.TRANSITION_POSTING_STATUS, postingRowMapper,
+                status, transactionId, status);
+    }
+
+    @Override
+    public List<Posting> findHistoryPage(String accountNumber, KeysetCursor after, int limit) {
+        List<Posting> postings = after == null
+                ? jdbcTemplate.query(PostingQueries.SELECT_ACCOUNT_POSTINGS_FIRST_PAGE, postingRowMapper,
+                        accountNumber, limit)
+                : jdbcTemplate.query(PostingQueries.SELECT_ACCOUNT_POSTINGS_NEXT_PAGE, postingRowMapper,
+                        accountNumber, after.getTimestamp(), after.getId(), limit);
+        if (postings.size() >= limit) {
+            return postings;
+        }
+
+        Set<String> hotLegs = postings.stream().map(PostingRepositoryImpl::leg).collect(Collectors.toSet());
+        List<Posting> combined = new ArrayList<>(postings);
+        for (Posting archived : transactionArchive.findAccountHistory(accountNumber, after, limit)) {
+            if (combined.size() == limit) {
+                break;
+            }
+            if (!hotLegs.contains(leg(archived))) {
+                combined.add(archived);
+            }
+        }
+        return combined;
+    }
+
+    @Override
+    public void streamByAccountAndDateRange(String accountNumber, LocalDateTime startInclusive,
+                                            LocalDateTime endExclusive, Consumer<Posting> consumer) {
+        int[] rowNum = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(PostingQueries.SELECT_ACCOUNT_POSTINGS_IN_RANGE,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(streamFetchSize);
+            new ArgumentPreparedStatementSetter(new Object[]{accountNumber, startInclusive, endExclusive})
+                    .setValues(statement);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(postingRowMapper.mapRow(rs, rowNum[0]++)));
+    }
+
+    @Override
+    public Optional<BigDecimal> findBalanceBefore(String accountNumber, LocalDateTime endExclusive) {
+        Map<String, Object> row = jdbcTemplate.queryForMap(PostingQueries.SELECT_BALANCE_BEFORE,
+                accountNumber, endExclusive, accountNumber, endExclusive);
+        BigDecimal anchor = (BigDecimal) row.get("anchor_balance");
+        BigDecimal unanchored = (BigDecimal) row.get("unanchored");
+        if (anchor != null) {
+            return Optional.of(anchor.add(unanchored));
+        }
+
+        Optional<BigDecimal> archived = transactionArchive.findBalanceBefore(accountNumber, endExclusive);
+        if (((Number) row.get("unanchored_count")).longValue() == 0) {
+            return archived;
+        }
+        return Optional.of(archived.orElse(BigDecimal.ZERO).add(unanchored));
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestPostedAt() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(PostingQueries.SELECT_OLDEST_POSTED_AT,
+                LocalDateTime.class));
+    }
+
+    private static String leg(Posting posting) {
+        return posting.getTransactionId() + ':' + posting.getDirection();
+    }
+}
@@ -4,22 +4,45 @@ package repository.impl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import model.entity.Transaction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
+import repository.BaseReadRepository;
 import repository.TransactionRepository;
+import repository.archive.TransactionArchive;
 import repository.queries.TransactionQueries;
+import utils.TransactionIdGenerator;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 @Slf4j
 public class TransactionRepositoryImpl implements TransactionRepository {
 
+    private static final Duration ISSUE_DATE_TOLERANCE = Duration.ofDays(1);
+
     private final JdbcTemplate jdbcTemplate;
+    private final TransactionArchive transactionArchive;
+
+    @Value("${transaction.stream.fetch-size:500}")
+    private int streamFetchSize;
 
     private final RowMapper<Transaction> transactionRowMapper = (rs, rowNum) ->
             Transaction.builder()
@@ -39,7 +62,8 @@ public class TransactionRepositoryImpl implements TransactionRepository {
         if (transaction.getId() == null) {
             transaction.setTransactionDate(LocalDateTime.now());
 
-            jdbcTemplate.update(TransactionQueries.INSERT_TRANSACTION,
+            Transaction savedTransaction = jdbcTemplate.queryForObject(TransactionQueries.INSERT_TRANSACTION,
+                    transactionRowMapper,
                     transaction.getTransactionId(),
                     transaction.getFromAccountNumber(),
                     transaction.getToAccountNumber(),
@@ -51,23 +75,78 @@ public class TransactionRepositoryImpl implements TransactionRepository {
             );
 
             log.info("New transaction saved: {}", transaction.getTransactionId());
+            return savedTransaction;
         }
         return transaction;
     }
 
+    @Override
+    public void saveAll(List<Transaction> transactions) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batchArgs = new ArrayList<>(transactions.size());
+
+        for (Transaction transaction : transactions) {
+            if (transaction.getTransactionDate() == null) {
+                transaction.setTransactionDate(now);
+            }
+            batchArgs.add(new Object[]{
+                    transaction.getTransactionId(),
+                    transaction.getFromAccountNumber(),
+                    transaction.getToAccountNumber(),
+                    transaction.getAmount(),
+                    transaction.getTransactionType(),
+                    transaction.getDescription(),
+                    transaction.getTransactionDate(),
+                    transaction.getStatus()
+            });
+        }
+
+        jdbcTemplate.batchUpdate(TransactionQueries.INSERT_TRANSACTION_BATCH, batchArgs);
+        log.info("Transactions saved in batch: {}", transactions.size());
+    }
+
+    public List<Transaction> insertAll(List<Transaction> transactions) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object> args = new ArrayList<>(transactions.size() * 8);
+
+        for (Transaction transaction : transactions) {
+            if (transaction.getTransactionDate() == null) {
+                transaction.setTransactionDate(now);
+            }
+            args.add(transaction.getTransactionId());
+            args.add(transaction.getFromAccountNumber());
+            args.add(transaction.getToAccountNumber());
+            args.add(transaction.getAmount());
+            args.add(transaction.getTransactionType());
+            args.add(transaction.getDescription());
+            args.add(transaction.getTransactionDate());
+            args.add(transaction.getStatus());
+        }
+
+        String sql = TransactionQueries.INSERT_TRANSACTIONS_MULTI_ROW.formatted(
+                String.join(", ", Collections.nCopies(transactions.size(), TransactionQueries.TRANSACTION_VALUES_ROW)));
+        return jdbcTemplate.query(sql, transactionRowMapper, args.toArray());
+    }
+
     @Override
     public Optional<Transaction> findByTransactionId(String transactionId) {
-        try {
-            Transaction transaction = jdbcTemplate.queryForObject(
-                    TransactionQueries.SELECT_TRANSACTION_BY_TRANSACTION_ID,
+        Optional<LocalDateTime> issuedAt = issuedAt(transactionId);
+        if (issuedAt.isPresent()) {
+            Optional<Transaction> transaction = BaseReadRepository.firstResult(jdbcTemplate.query(
+                    TransactionQueries.SELECT_TRANSACTION_BY_TRANSACTION_ID_IN_RANGE,
                     transactionRowMapper,
-                    transactionId
-            );
-            return Optional.of(transaction);
-        } catch (Exception e) {
-            log.warn("Transaction not found - Transaction ID: {}", transactionId);
-            return Optional.empty();
+                    transactionId, issuedAt.get().minus(ISSUE_DATE_TOLERANCE), issuedAt.get().plus(ISSUE_DATE_TOLERANCE)
+            ));
+            if (transaction.isPresent()) {
+                return transaction;
+            }
         }
+
+        return BaseReadRepository.firstResult(jdbcTemplate.query(
+                TransactionQueries.SELECT_TRANSACTION_BY_TRANSACTION_ID,
+                transactionRowMapper,
+                transactionId
+        ));
     }
 
     @Override
@@ -81,11 +160,22 @@ public class TransactionRepositoryImpl implements TransactionRepository {
 
     @Override
     public List<Transaction> findByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
-        return jdbcTemplate.query(
+        List<Transaction> transactions = jdbcTemplate.query(
                 TransactionQueries.SELECT_TRANSACTIONS_BY_DATE_RANGE,
                 transactionRowMapper,
                 startDate, endDate
         );
+        if (transactionArchive.reaches(startDate)) {
+            Set<Long> hotIds = transactions.stream().map(Transaction::getId).collect(Collectors.toSet());
+            List<Transaction> combined = new ArrayList<>(transactions);
+            transactionArchive.scanDateRange(startDate, endDate, archived -> {
+                if (!hotIds.contains(archived.getId())) {
+                    combined.add(archived);
+                }
+            });
+            return combined;
+        }
+        return transactions;
     }
 
     @Override
@@ -97,12 +187,40 @@ public class TransactionRepositoryImpl implements TransactionRepository {
         );
     }
 
+    @Override
+    public void streamByDateRange(LocalDateTime startDate, LocalDateTime endDate, Consumer<Transaction> consumer) {
+        Set<Long> archivedHotIds = new HashSet<>();
+        stream(TransactionQueries.SELECT_TRANSACTIONS_BY_DATE_RANGE, transaction -> {
+            if (transactionArchive.isArchived(YearMonth.from(transaction.getTransactionDate()))) {
+                archivedHotIds.add(transaction.getId());
+            }
+            consumer.accept(transaction);
+        }, startDate, endDate);
+        transactionArchive.scanDateRange(startDate, endDate, archived -> {
+            if (!archivedHotIds.contains(archived.getId())) {
+                consumer.accept(archived);
+            }
+        });
+    }
+
+    @Override
+    public void streamByStatus(String status, Consumer<Transaction> consumer) {
+        stream(TransactionQueries.SELECT_TRANSACTIONS_BY_STATUS, consumer, status);
+    }
+
     @Override
     public boolean updateTransactionStatus(String transactionId, String status) {
-        int rowsAffected = jdbcTemplate.update(
-                TransactionQueries.UPDATE_TRANSACTION_STATUS,
-                status, transactionId
-        );
+        Optional<LocalDateTime> issuedAt = issuedAt(transactionId);
+        int rowsAffected = issuedAt.isPresent()
+                ? jdbcTemplate.update(TransactionQueries.UPDATE_TRANSACTION_STATUS_IN_RANGE, status, transactionId,
+                        issuedAt.get().minus(ISSUE_DATE_TOLERANCE), issuedAt.get().plus(ISSUE_DATE_TOLERANCE))
+                : 0;
+        if (rowsAffected == 0) {
+            rowsAffected = jdbcTemplate.update(
+                    TransactionQueries.UPDATE_TRANSACTION_STATUS,
+                    status, transactionId
+            );
+        }
 
         if (rowsAffected > 0) {
             log.info("Transaction status updated - Transaction: {}, Status: {}", transactionId, status);
@@ -113,25 +231,13 @@ public class TransactionRepositoryImpl implements TransactionRepository {
         return false;
     }
 
-    @Override
-    public List<Transaction> getAccountTransactionHistory(String accountNumber, int limit) {
-        String sql = TransactionQueries.SELECT_TRANSACTIONS_BY_ACCOUNT + " LIMIT " + limit;
-        return jdbcTemplate.query(sql, transactionRowMapper, accountNumber, accountNumber);
-    }
-
     @Override
     public Optional<Transaction> findById(Long id) {
-        try {
-            Transaction transaction = jdbcTemplate.queryForObject(
-                    TransactionQueries.SELECT_TRANSACTION_BY_ID,
-                    transactionRowMapper,
-                    id
-            );
-            return Optional.of(transaction);
-        } catch (Exception e) {
-            log.warn("Transaction not found - ID: {}", id);
-            return Optional.empty();
-        }
+        return BaseReadRepository.firstResult(jdbcTemplate.query(
+                TransactionQueries.SELECT_TRANSACTION_BY_ID,
+                transactionRowMapper,
+                id
+        ));
     }
 
     @Override
@@ -147,7 +253,24 @@ public class TransactionRepositoryImpl implements TransactionRepository {
 
     @Override
     public long count() {
-        Integer count = jdbcTemplate.queryForObject(TransactionQueries.COUNT_ALL_TRANSACTIONS, Integer.class);
+        Long count = jdbcTemplate.queryForObject(TransactionQueries.COUNT_ALL_TRANSACTIONS, Long.class);
         return count != null ? count : 0;
     }
-}
\ No newline at end of file
+
+    private static Optional<LocalDateTime> issuedAt(String transactionId) {
+        return TransactionIdGenerator.issuedAt(transactionId)
+                .map(instant -> LocalDateTime.ofInstant(instant, ZoneId.systemDefault()))
+                .filter(issuedAt -> issuedAt.isBefore(LocalDateTime.now().plus(ISSUE_DATE_TOLERANCE)));
+    }
+
+    private void stream(String sql, Consumer<Transaction> consumer, Object... args) {
+        int[] rowNum = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(streamFetchSize);
+            new ArgumentPreparedStatementSetter(args).setValues(statement);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(transactionRowMapper.mapRow(rs, rowNum[0]++)));
+    }
+}
@@ -0,0 +1,179 @@
+package repository.journal;
+
+import lombok.extern.slf4j.Slf4j;
+import model.entity.Transaction;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import repository.TransactionRepository;
+import repository.impl.TransactionRepositoryImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+@Repository
+@Primary
+@Profile("!ledger")
+@ConditionalOnProperty(prefix = "transaction.journal", name = "enabled", havingValue = "true")
+@Slf4j
+public class JournalingTransactionRepository implements TransactionRepository {
+
+    private static final String PENDING = "PENDING";
+    private static final String FAILED = "FAILED";
+
+    private final TransactionJournal transactionJournal;
+    private final TransactionRepositoryImpl transactionRepositoryImpl;
+    private final TransactionTemplate compensation;
+
+    public JournalingTransactionRepository(TransactionJournal transactionJournal,
+                                           TransactionRepositoryImpl transactionRepositoryImpl,
+                                           PlatformTransactionManager transactionManager) {
+        this.transactionJournal = transactionJournal;
+        this.transactionRepositoryImpl = transactionRepositoryImpl;
+        this.compensation = new TransactionTemplate(transactionManager);
+        this.compensation.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public Transaction save(Transaction transaction) {
+        if (transaction.getId() != null) {
+            return transactionRepositoryImpl.save(transaction);
+        }
+        if (transaction.getTransactionDate() == null) {
+            transaction.setTransactionDate(LocalDateTime.now());
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return await(transactionJournal.append(transaction));
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new JournaledHeader(transaction));
+        return transaction;
+    }
+
+    @Override
+    public void saveAll(List<Transaction> transactions) {
+        transactionRepositoryImpl.saveAll(transactions);
+    }
+
+    @Override
+    public Optional<Transaction> findByTransactionId(String transactionId) {
+        return transactionRepositoryImpl.findByTransactionId(transactionId);
+    }
+
+    @Override
+    public List<Transaction> findByAccountNumber(String accountNumber) {
+        return transactionRepositoryImpl.findByAccountNumber(accountNumber);
+    }
+
+    @Override
+    public List<Transaction> findByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
+        return transactionRepositoryImpl.findByDateRange(startDate, endDate);
+    }
+
+    @Override
+    public List<Transaction> findByStatus(String status) {
+        return transactionRepositoryImpl.findByStatus(status);
+    }
+
+    @Override
+    public void streamByDateRange(LocalDateTime startDate, LocalDateTime endDate, Consumer<Transaction> consumer) {
+        transactionRepositoryImpl.streamByDateRange(startDate, endDate, consumer);
+    }
+
+    @Override
+    public void streamByStatus(String status, Consumer<Transaction> consumer) {
+        transactionRepositoryImpl.streamByStatus(status, consumer);
+    }
+
+    @Override
+    public boolean updateTransactionStatus(String transactionId, String status) {
+        return transactionRepositoryImpl.updateTransactionStatus(transactionId, status);
+    }
+
+    @Override
+    public Optional<Transaction> findById(Long id) {
+        return transactionRepositoryImpl.findById(id);
+    }
+
+    @Override
+    public List<Transaction> findAll() {
+        return transactionRepositoryImpl.findAll();
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return transactionRepositoryImpl.existsById(id);
+    }
+
+    @Override
+    public long count() {
+        return transactionRepositoryImpl.count();
+    }
+
+    private static Transaction await(CompletableFuture<Transaction> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Transaction journal write failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private final class JournaledHeader implements TransactionSynchronization {
+        private final Transaction transaction;
+        private final String status;
+        private boolean journaled;
+
+        private JournaledHeader(Transaction transaction) {
+            this.transaction = transaction;
+            this.status = transaction.getStatus();
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            Transaction pending = Transaction.builder()
+                    .transactionId(transaction.getTransactionId())
+                    .fromAccountNumber(transaction.getFromAccountNumber())
+                    .toAccountNumber(transaction.getToAccountNumber())
+                    .amount(transaction.getAmount())
+                    .transactionType(transaction.getTransactionType())
+                    .description(transaction.getDescription())
+                    .transactionDate(transaction.getTransactionDate())
+                    .status(PENDING)
+                    .build();
+            transaction.setId(await(transactionJournal.append(pending)).getId());
+            journaled = true;
+
+            if (!transactionRepositoryImpl.updateTransactionStatus(transaction.getTransactionId(), status)) {
+                throw new IllegalStateException("Journaled transaction not found: " + transaction.getTransactionId());
+            }
+        }
+
+        @Override
+        public void afterCompletion(int completionStatus) {
+            if (!journaled || completionStatus == STATUS_COMMITTED) {
+                return;
+            }
+            try {
+                compensation.executeWithoutResult(tx ->
+                        transactionRepositoryImpl.updateTransactionStatus(transaction.getTransactionId(), FAILED));
+            } catch (RuntimeException e) {
+                log.error("Journaled transaction left pending after rollback - Transaction ID: {}, Error: {}",
+                        transaction.getTransactionId(), e.getMessage());
+            }
+        }
+    }
+}
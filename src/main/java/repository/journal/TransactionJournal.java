@@ -0,0 +1,191 @@
+package repository.journal;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import model.entity.Transaction;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import repository.impl.TransactionRepositoryImpl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(prefix = "transaction.journal", name = "enabled", havingValue = "true")
+@Slf4j
+public class TransactionJournal implements DisposableBean {
+
+    private final TransactionRepositoryImpl transactionRepositoryImpl;
+    private final BlockingQueue<Entry> queue;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final long offerTimeoutMillis;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer flushTimer;
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    public TransactionJournal(TransactionRepositoryImpl transactionRepositoryImpl,
+                              MeterRegistry meterRegistry,
+                              @Value("${transaction.journal.capacity:10000}") int capacity,
+                              @Value("${transaction.journal.max-batch-size:500}") int maxBatchSize,
+                              @Value("${transaction.journal.max-delay-ms:5}") long maxDelayMillis,
+                              @Value("${transaction.journal.offer-timeout-ms:1000}") long offerTimeoutMillis) {
+        this.transactionRepositoryImpl = transactionRepositoryImpl;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.offerTimeoutMillis = offerTimeoutMillis;
+
+        Gauge.builder("transaction.journal.queue.depth", queue, Collection::size)
+                .description("Transactions waiting to be flushed")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("transaction.journal.batch.size")
+                .description("Transactions written per flush")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("transaction.journal.flush.latency")
+                .description("Time to insert and commit one journal batch")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+
+        this.flusher = new Thread(this::runFlusher, "transaction-journal");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    public CompletableFuture<Transaction> append(Transaction transaction) {
+        Entry entry = new Entry(transaction);
+        if (!running) {
+            entry.future.completeExceptionally(new IllegalStateException("Transaction journal is shutting down"));
+            return entry.future;
+        }
+
+        try {
+            if (!queue.offer(entry, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                entry.future.completeExceptionally(new IllegalStateException("Transaction journal is full"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            entry.future.completeExceptionally(e);
+        }
+        return entry.future;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+
+        Entry abandoned;
+        while ((abandoned = queue.poll()) != null) {
+            abandoned.future.completeExceptionally(new IllegalStateException("Transaction journal is shutting down"));
+        }
+    }
+
+    private void runFlusher() {
+        List<Entry> batch = new ArrayList<>(maxBatchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collectBatch(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(entry -> entry.future.completeExceptionally(e));
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void collectBatch(List<Entry> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + maxDelayNanos;
+
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                return;
+            }
+
+            Entry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<Entry> batch) {
+        long startNanos = System.nanoTime();
+
+        try {
+            insert(batch);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                fail(batch.get(0), e);
+            } else {
+                log.warn("Transaction journal batch failed, retrying rows individually - Batch size: {}, Error: {}",
+                        batch.size(), e.getMessage());
+                batch.forEach(this::insertSingle);
+            }
+        } finally {
+            flushTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            batchSizeSummary.record(batch.size());
+        }
+    }
+
+    private void insert(List<Entry> entries) {
+        List<Transaction> transactions = entries.stream()
+                .map(entry -> entry.transaction)
+                .collect(Collectors.toList());
+        Map<String, Transaction> savedById = transactionRepositoryImpl.insertAll(transactions)
+                .stream()
+                .collect(Collectors.toMap(Transaction::getTransactionId, Function.identity(), (first, second) -> first));
+
+        entries.forEach(entry -> entry.future.complete(
+                savedById.getOrDefault(entry.transaction.getTransactionId(), entry.transaction)));
+    }
+
+    private void insertSingle(Entry entry) {
+        try {
+            insert(List.of(entry));
+        } catch (RuntimeException e) {
+            fail(entry, e);
+        }
+    }
+
+    private void fail(Entry entry, RuntimeException e) {
+        log.error("Transaction journal write failed - Transaction ID: {}, Error: {}",
+                entry.transaction.getTransactionId(), e.getMessage());
+        entry.future.completeExceptionally(e);
+    }
+
+    private static final class Entry {
+        private final Transaction transaction;
+        private final CompletableFuture<Transaction> future = new CompletableFuture<>();
+
+        private Entry(Transaction transaction) {
+            this.transaction = transaction;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package repository.ledger;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import model.entity.Account;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import repository.AccountRepository;
+import repository.impl.AccountRepositoryImpl;
+import utils.KeysetCursor;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Repository
+@Primary
+@Profile("ledger")
+@RequiredArgsConstructor
+@Slf4j
+public class LedgerAccountRepository implements AccountRepository {
+
+    private static final Comparator<Account> NEWEST_FIRST =
+            Comparator.comparing(Account::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private static final Comparator<Account> KEYSET_ORDER = NEWEST_FIRST
+            .thenComparing(Account::getId, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final LedgerEngine ledgerEngine;
+    private final AccountRepositoryImpl accountRepositoryImpl;
+
+    @Override
+    public Account save(Account account) {
+        Account savedAccount = accountRepositoryImpl.save(account);
+        LedgerSynchronization.afterCommit(() -> ledgerEngine.put(savedAccount));
+        return savedAccount;
+    }
+
+    @Override
+    public Optional<Account> findById(Long id) {
+        return ledgerEngine.accounts()
+                .filter(account -> id.equals(account.getId()))
+                .findFirst();
+    }
+
+    @Override
+    public Optional<Account> findByAccountNumber(String accountNumber) {
+        return ledgerEngine.find(accountNumber)
+                .filter(Account::getIsActive);
+    }
+
+    @Override
+    public List<Account> findByCustomerId(String customerId) {
+        return ledgerEngine.accounts()
+                .filter(account -> account.getIsActive() && customerId.equals(account.getCustomerId()))
+                .sorted(NEWEST_FIRST)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Account> findByAccountType(String accountType) {
+        return ledgerEngine.accounts()
+                .filter(account -> account.getIsActive() && accountType.equals(account.getAccountType()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean updateBalance(String accountNumber, BigDecimal newBalance) {
+        return ledgerEngine.setBalance(accountNumber, newBalance);
+    }
+
+    @Override
+    public Optional<Account> creditBalance(String accountNumber, BigDecimal amount) {
+        return reserve(accountNumber, amount, false);
+    }
+
+    @Override
+    public Optional<Account> debitBalance(String accountNumber, BigDecimal amount) {
+        return reserve(accountNumber, amount.negate(), true);
+    }
+
+    @Override
+    public List<Account> lockByAccountNumbers(Collection<String> accountNumbers) {
+        return new HashSet<>(accountNumbers).stream()
+                .sorted()
+                .map(this::findByAccountNumber)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void applyBalanceDeltas(Map<String, BigDecimal> deltas) {
+        LedgerCommit commit = new LedgerCommit();
+        try {
+            deltas.entrySet()
+                    .stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .forEach(entry -> {
+                        BigDecimal delta = entry.getValue();
+                        boolean guarded = delta.signum() < 0;
+                        ledgerEngine.reserve(entry.getKey(), delta, guarded)
+                                .orElseThrow(() -> new IllegalStateException(
+                                        "Balance delta could not be applied - Account: " + entry.getKey()));
+                        commit.addLeg(entry.getKey(), delta, guarded);
+                    });
+        } catch (RuntimeException e) {
+            ledgerEngine.release(commit);
+            throw e;
+        }
+        LedgerSynchronization.enlist(ledgerEngine, commit);
+    }
+
+    @Override
+    public boolean enableStriping(String accountNumber, int stripeCount) {
+        log.info("Striping not required for ledger shards - Account: {}", accountNumber);
+        return findByAccountNumber(accountNumber).isPresent();
+    }
+
+    @Override
+    public boolean disableStriping(String accountNumber) {
+        return findByAccountNumber(accountNumber).isPresent();
+    }
+
+    @Override
+    public Set<String> refreshStripedAccounts() {
+        return Set.of();
+    }
+
+    @Override
+    public void foldStripes(String accountNumber) {
+    }
+
+    @Override
+    public List<Account> findActiveAccounts() {
+        return ledgerEngine.accounts()
+                .filter(Account::getIsActive)
+                .sorted(NEWEST_FIRST)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Account> findPage(String accountType, Boolean active, KeysetCursor after, int limit) {
+        Account probe = after != null ? keysetProbe(after) : null;
+        return ledgerEngine.accounts()
+                .filter(account -> accountType == null || accountType.equals(account.getAccountType()))
+                .filter(account -> active == null || active.equals(account.getIsActive()))
+                .filter(account -> probe == null || KEYSET_ORDER.compare(account, probe) > 0)
+                .sorted(KEYSET_ORDER)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Account> findAll() {
+        return ledgerEngine.accounts()
+                .sorted(NEWEST_FIRST)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        accountRepositoryImpl.deleteById(id);
+        findById(id).ifPresent(account -> LedgerSynchronization.afterCommit(() -> ledgerEngine.put(Account.builder()
+                .id(account.getId())
+                .accountNumber(account.getAccountNumber())
+                .customerId(account.getCustomerId())
+                .balance(account.getBalance())
+                .accountType(account.getAccountType())
+                .createdAt(account.getCreatedAt())
+                .updatedAt(account.getUpdatedAt())
+                .isActive(false)
+                .build())));
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return findById(id).map(Account::getIsActive).orElse(false);
+    }
+
+    @Override
+    public long count() {
+        return ledgerEngine.accounts()
+                .filter(Account::getIsActive)
+                .count();
+    }
+
+    private Optional<Account> reserve(String accountNumber, BigDecimal delta, boolean guarded) {
+        Optional<Account> account = ledgerEngine.reserve(accountNumber, delta, guarded);
+        account.ifPresent(reserved -> LedgerSynchronization.enlist(ledgerEngine,
+                new LedgerCommit().addLeg(accountNumber, delta, guarded)));
+        return account;
+    }
+
+    private static Account keysetProbe(KeysetCursor cursor) {
+        return Account.builder()
+                .createdAt(cursor.getTimestamp())
+                .id(cursor.getId())
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package repository.ledger;
+
+import model.entity.Posting;
+import model.entity.Transaction;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class LedgerCommit {
+    private final List<Leg> legs = new ArrayList<>();
+    private final List<Transaction> transactions = new ArrayList<>();
+    private final List<Posting> postings = new ArrayList<>();
+
+    public LedgerCommit addLeg(String accountNumber, BigDecimal delta, boolean guarded) {
+        legs.add(new Leg(accountNumber, delta, guarded, true));
+        return this;
+    }
+
+    public LedgerCommit addTransaction(Transaction transaction) {
+        transactions.add(transaction);
+        return this;
+    }
+
+    public LedgerCommit addPostings(List<Posting> postings) {
+        this.postings.addAll(postings);
+        return this;
+    }
+
+    public LedgerCommit addAll(LedgerCommit other) {
+        legs.addAll(other.legs);
+        transactions.addAll(other.transactions);
+        postings.addAll(other.postings);
+        return this;
+    }
+
+    public List<Leg> legs() {
+        return Collections.unmodifiableList(legs);
+    }
+
+    public List<Transaction> transactions() {
+        return Collections.unmodifiableList(transactions);
+    }
+
+    public List<Posting> postings() {
+        return Collections.unmodifiableList(postings);
+    }
+
+    public boolean contains(Posting posting) {
+        return postings.stream().anyMatch(enlisted -> enlisted == posting);
+    }
+
+    public boolean isEmpty() {
+        return legs.isEmpty() && transactions.isEmpty() && postings.isEmpty();
+    }
+
+    public LedgerCommit reversal() {
+        LedgerCommit reversal = new LedgerCommit();
+        for (int i = legs.size() - 1; i >= 0; i--) {
+            Leg leg = legs.get(i);
+            reversal.legs.add(new Leg(leg.accountNumber(), leg.delta().negate(), false, false));
+        }
+        for (Transaction transaction : transactions) {
+            reversal.transactions.add(Transaction.builder()
+                    .id(transaction.getId())
+                    .transactionId(transaction.getTransactionId())
+                    .fromAccountNumber(transaction.getFromAccountNumber())
+                    .toAccountNumber(transaction.getToAccountNumber())
+                    .amount(transaction.getAmount())
+                    .transactionType(transaction.getTransactionType())
+                    .description(transaction.getDescription())
+                    .transactionDate(transaction.getTransactionDate())
+                    .status("FAILED")
+                    .build());
+        }
+        for (Posting posting : postings) {
+            reversal.postings.add(Posting.builder()
+                    .transactionId(posting.getTransactionId())
+                    .accountNumber(posting.getAccountNumber())
+                    .counterpartyAccountNumber(posting.getCounterpartyAccountNumber())
+                    .direction(posting.getDirection())
+                    .amount(posting.getAmount())
+                    .balanceAfter(posting.getBalanceAfter())
+                    .transactionType(posting.getTransactionType())
+                    .description(posting.getDescription())
+                    .status("FAILED")
+                    .postedAt(posting.getPostedAt())
+                    .build());
+        }
+        return reversal;
+    }
+
+    public record Leg(String accountNumber, BigDecimal delta, boolean guarded, boolean reserved) {
+    }
+}
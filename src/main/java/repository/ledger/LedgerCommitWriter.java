@@ -0,0 +1,231 @@
+package repository.ledger;
+
+import lombok.extern.slf4j.Slf4j;
+import model.entity.Account;
+import model.entity.Posting;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+@Slf4j
+class LedgerCommitWriter implements AutoCloseable {
+    private static final int MAX_BATCH_SIZE = 512;
+
+    private final LedgerWriteAheadLog writeAheadLog;
+    private final List<LedgerShard> shards;
+    private final LedgerListener listener;
+    private final BlockingQueue<Command<?>> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private volatile boolean running;
+
+    LedgerCommitWriter(LedgerWriteAheadLog writeAheadLog, List<LedgerShard> shards, LedgerListener listener) {
+        this.writeAheadLog = writeAheadLog;
+        this.shards = shards;
+        this.listener = listener;
+        this.writer = new Thread(this::runWriter, "ledger-commit-writer");
+        this.writer.setDaemon(true);
+    }
+
+    int replay() throws IOException {
+        Set<String> recoveredAccounts = new HashSet<>();
+        int replayed = writeAheadLog.replay(record -> {
+            switch (record.getType()) {
+                case LedgerRecord.ACCOUNT -> {
+                    Account account = record.toAccount();
+                    LedgerShard.of(shards, account.getAccountNumber()).load(account);
+                }
+                case LedgerRecord.BALANCE -> replayBalance(record.getBalanceAccountNumber(),
+                        balance -> record.getBalanceAmount(), record.getBalanceUpdatedAt(), recoveredAccounts);
+                case LedgerRecord.COMMIT -> {
+                    for (LedgerCommit.Leg leg : record.getCommitLegs()) {
+                        replayBalance(leg.accountNumber(), balance -> balance.add(leg.delta()),
+                                record.getCommittedAt(), recoveredAccounts);
+                    }
+                    record.getCommitTransactions().forEach(listener::onTransaction);
+                    List<Posting> postings = record.getCommitPostings();
+                    if (!postings.isEmpty()) {
+                        listener.onPostings(postings);
+                    }
+                }
+                default -> log.warn("Unknown ledger record type skipped: {}", record.getType());
+            }
+        });
+
+        recoveredAccounts.stream()
+                .map(accountNumber -> LedgerShard.of(shards, accountNumber).get(accountNumber))
+                .forEach(listener::onBalanceChanged);
+        return replayed;
+    }
+
+    void start() throws IOException {
+        writeAheadLog.open();
+        running = true;
+        writer.start();
+    }
+
+    CompletableFuture<Void> commit(LedgerCommit commit) {
+        LocalDateTime committedAt = LocalDateTime.now();
+        return submit(LedgerRecord.ofCommit(committedAt, commit), () -> {
+            commit.transactions().forEach(listener::onTransaction);
+            if (!commit.postings().isEmpty()) {
+                listener.onPostings(commit.postings());
+            }
+            Map<LedgerShard, List<LedgerCommit.Leg>> legsByShard = new LinkedHashMap<>();
+            for (LedgerCommit.Leg leg : commit.legs()) {
+                legsByShard.computeIfAbsent(LedgerShard.of(shards, leg.accountNumber()), shard -> new ArrayList<>()).add(leg);
+            }
+            return CompletableFuture.allOf(legsByShard.entrySet()
+                    .stream()
+                    .map(entry -> entry.getKey().submit(() -> entry.getKey().apply(entry.getValue(), committedAt)))
+                    .toArray(CompletableFuture[]::new));
+        });
+    }
+
+    CompletableFuture<Void> setBalance(String accountNumber, BigDecimal newBalance) {
+        LocalDateTime updatedAt = LocalDateTime.now();
+        LedgerShard shard = LedgerShard.of(shards, accountNumber);
+        return submit(LedgerRecord.ofBalance(accountNumber, newBalance, updatedAt),
+                () -> shard.submit(() -> shard.setBalance(accountNumber, newBalance, updatedAt)));
+    }
+
+    CompletableFuture<Void> put(Account account) {
+        LedgerShard shard = LedgerShard.of(shards, account.getAccountNumber());
+        return submit(LedgerRecord.ofAccount(account), () -> shard.submit(() -> shard.put(account)));
+    }
+
+    CompletableFuture<Checkpoint> checkpoint() {
+        return submit(null, () -> {
+            long firstSegment;
+            try {
+                firstSegment = writeAheadLog.rotate();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            List<CompletableFuture<List<Account>>> snapshots = shards.stream()
+                    .map(shard -> shard.submit(shard::snapshot))
+                    .toList();
+            return CompletableFuture.allOf(snapshots.toArray(CompletableFuture[]::new))
+                    .thenApply(ignored -> new Checkpoint(firstSegment, snapshots.stream()
+                            .flatMap(snapshot -> snapshot.join().stream())
+                            .toList()));
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Command<?> abandoned;
+        while ((abandoned = queue.poll()) != null) {
+            abandoned.future.completeExceptionally(new IllegalStateException("Ledger commit writer is shutting down"));
+        }
+        writeAheadLog.close();
+    }
+
+    private <T> CompletableFuture<T> submit(LedgerRecord record, Supplier<CompletableFuture<T>> dispatch) {
+        Command<T> command = new Command<>(record, dispatch);
+        if (!running) {
+            command.future.completeExceptionally(new IllegalStateException("Ledger commit writer is not running"));
+            return command.future;
+        }
+        queue.add(command);
+        return command.future;
+    }
+
+    private void replayBalance(String accountNumber, UnaryOperator<BigDecimal> balance, LocalDateTime updatedAt,
+                               Set<String> recoveredAccounts) {
+        LedgerShard shard = LedgerShard.of(shards, accountNumber);
+        Account current = shard.get(accountNumber);
+        if (current != null) {
+            shard.load(LedgerShard.withBalance(current, balance.apply(current.getBalance()), updatedAt));
+            recoveredAccounts.add(accountNumber);
+        }
+    }
+
+    private void runWriter() {
+        List<Command<?>> batch = new ArrayList<>(MAX_BATCH_SIZE);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                Command<?> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+
+                for (Command<?> command : batch) {
+                    if (command.record != null) {
+                        writeAheadLog.append(command.record);
+                    }
+                }
+                writeAheadLog.flush();
+
+                // Shards receive applies in log order, so every shard sees commits in the same sequence.
+                // Checkpoints go last so their snapshot barrier follows every record sealed by the rotation.
+                batch.stream().filter(command -> command.record != null).forEach(Command::dispatch);
+                batch.stream().filter(command -> command.record == null).forEach(Command::dispatch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+                return;
+            } catch (IOException e) {
+                log.error("Ledger write-ahead log flush failed, commit writer stopped: {}", e.getMessage());
+                running = false;
+                queue.drainTo(batch);
+                batch.forEach(command -> command.future.completeExceptionally(e));
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    record Checkpoint(long firstSegment, List<Account> accounts) {
+    }
+
+    private static final class Command<T> {
+        private final LedgerRecord record;
+        private final Supplier<CompletableFuture<T>> dispatch;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private Command(LedgerRecord record, Supplier<CompletableFuture<T>> dispatch) {
+            this.record = record;
+            this.dispatch = dispatch;
+        }
+
+        private void dispatch() {
+            try {
+                dispatch.get().whenComplete((result, error) -> {
+                    if (error != null) {
+                        future.completeExceptionally(error);
+                    } else {
+                        future.complete(result);
+                    }
+                });
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
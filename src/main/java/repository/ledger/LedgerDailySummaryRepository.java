@@ -0,0 +1,59 @@
+package repository.ledger;
+
+import lombok.RequiredArgsConstructor;
+import model.entity.DailyAccountSummary;
+import model.entity.Posting;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import repository.DailySummaryRepository;
+import repository.impl.DailySummaryRepositoryImpl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Repository
+@Primary
+@Profile("ledger")
+@RequiredArgsConstructor
+public class LedgerDailySummaryRepository implements DailySummaryRepository {
+
+    private final LedgerEngine ledgerEngine;
+    private final DailySummaryRepositoryImpl dailySummaryRepositoryImpl;
+
+    @Override
+    public void addPostings(List<Posting> postings) {
+        // Postings enlisted in the ledger commit are summarised by LedgerWriteBehind when their rows are written.
+        dailySummaryRepositoryImpl.addPostings(postings.stream()
+                .filter(posting -> !LedgerSynchronization.isEnlisted(ledgerEngine, posting))
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public void removePostings(List<Posting> postings) {
+        dailySummaryRepositoryImpl.removePostings(postings);
+    }
+
+    @Override
+    public List<DailyAccountSummary> findByAccountAndDateRange(String accountNumber, LocalDate from, LocalDate to) {
+        return dailySummaryRepositoryImpl.findByAccountAndDateRange(accountNumber, from, to);
+    }
+
+    @Override
+    public Optional<BigDecimal> findClosingBalanceBefore(String accountNumber, LocalDate date) {
+        return dailySummaryRepositoryImpl.findClosingBalanceBefore(accountNumber, date);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return dailySummaryRepositoryImpl.isEmpty();
+    }
+
+    @Override
+    public int rebuildDay(LocalDate day) {
+        return dailySummaryRepositoryImpl.rebuildDay(day);
+    }
+}
@@ -0,0 +1,166 @@
+package repository.ledger;
+
+import lombok.extern.slf4j.Slf4j;
+import model.entity.Account;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+public class LedgerEngine implements AutoCloseable {
+
+    private final List<LedgerShard> shards;
+    private final LedgerWriteAheadLog writeAheadLog;
+    private final LedgerCommitWriter commitWriter;
+    private final LedgerListener listener;
+    private ScheduledExecutorService checkpointScheduler;
+
+    public LedgerEngine(Path directory, int shardCount, LedgerListener listener) throws IOException {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Ledger shard count must be positive: " + shardCount);
+        }
+
+        this.listener = listener;
+        List<LedgerShard> partitions = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            partitions.add(new LedgerShard(i, listener));
+        }
+        this.shards = List.copyOf(partitions);
+        this.writeAheadLog = new LedgerWriteAheadLog(directory, "ledger");
+        this.commitWriter = new LedgerCommitWriter(writeAheadLog, this.shards, listener);
+    }
+
+    public void recover(Collection<Account> baseline) throws IOException {
+        baseline.forEach(account -> shardFor(account.getAccountNumber()).load(account));
+
+        int replayed = commitWriter.replay();
+        log.info("Ledger recovered - Accounts: {}, Replayed records: {}", baseline.size(), replayed);
+    }
+
+    public void start(long checkpointIntervalMillis) throws IOException {
+        shards.forEach(LedgerShard::start);
+        commitWriter.start();
+        if (!writeAheadLog.hasSnapshot()) {
+            checkpoint();
+        }
+
+        if (checkpointIntervalMillis > 0) {
+            checkpointScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "ledger-checkpoint");
+                thread.setDaemon(true);
+                return thread;
+            });
+            checkpointScheduler.scheduleWithFixedDelay(this::checkpointQuietly,
+                    checkpointIntervalMillis, checkpointIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+        log.info("Ledger started - Shards: {}", shards.size());
+    }
+
+    public Optional<Account> find(String accountNumber) {
+        return Optional.ofNullable(shardFor(accountNumber).get(accountNumber));
+    }
+
+    public Stream<Account> accounts() {
+        return shards.stream().flatMap(shard -> shard.accounts().stream());
+    }
+
+    public Optional<Account> reserve(String accountNumber, BigDecimal delta, boolean guarded) {
+        LedgerShard shard = shardFor(accountNumber);
+        return await(shard.submit(() -> shard.reserve(accountNumber, delta, guarded)));
+    }
+
+    public void release(LedgerCommit commit) {
+        Map<LedgerShard, List<LedgerCommit.Leg>> legsByShard = commit.legs()
+                .stream()
+                .filter(LedgerCommit.Leg::reserved)
+                .collect(Collectors.groupingBy(leg -> shardFor(leg.accountNumber())));
+        await(CompletableFuture.allOf(legsByShard.entrySet()
+                .stream()
+                .map(entry -> entry.getKey().submit(() -> entry.getKey().release(entry.getValue())))
+                .toArray(CompletableFuture[]::new)));
+    }
+
+    public void commit(LedgerCommit commit) {
+        if (commit.isEmpty()) {
+            return;
+        }
+        await(commitWriter.commit(commit));
+    }
+
+    public boolean setBalance(String accountNumber, BigDecimal newBalance) {
+        if (find(accountNumber).filter(Account::getIsActive).isEmpty()) {
+            return false;
+        }
+        await(commitWriter.setBalance(accountNumber, newBalance));
+        return true;
+    }
+
+    public Account put(Account account) {
+        await(commitWriter.put(account));
+        return account;
+    }
+
+    public void checkpoint() throws IOException {
+        LedgerCommitWriter.Checkpoint checkpoint = await(commitWriter.checkpoint());
+
+        listener.flush();
+
+        int released = writeAheadLog.writeSnapshot(checkpoint.firstSegment(), checkpoint.accounts()
+                .stream()
+                .map(LedgerRecord::ofAccount)
+                .toList());
+        log.debug("Ledger checkpoint completed - Accounts: {}, Segments released: {}",
+                checkpoint.accounts().size(), released);
+    }
+
+    public void shutdown() throws IOException {
+        checkpointQuietly();
+        close();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (checkpointScheduler != null) {
+            checkpointScheduler.shutdownNow();
+        }
+        commitWriter.close();
+        shards.forEach(LedgerShard::close);
+        log.info("Ledger stopped");
+    }
+
+    private void checkpointQuietly() {
+        try {
+            checkpoint();
+        } catch (Exception e) {
+            log.warn("Ledger checkpoint failed, segments retained: {}", e.getMessage());
+        }
+    }
+
+    private LedgerShard shardFor(String accountNumber) {
+        return LedgerShard.of(shards, accountNumber);
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Ledger operation failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package repository.ledger;
+
+import model.entity.Account;
+import model.entity.Posting;
+import model.entity.Transaction;
+
+import java.util.List;
+
+public interface LedgerListener {
+    void onBalanceChanged(Account account);
+
+    void onTransaction(Transaction transaction);
+
+    void onPostings(List<Posting> postings);
+
+    void flush();
+}
@@ -0,0 +1,59 @@
+package repository.ledger;
+
+import lombok.RequiredArgsConstructor;
+import model.entity.Posting;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import repository.PostingRepository;
+import repository.impl.PostingRepositoryImpl;
+import utils.KeysetCursor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+@Repository
+@Primary
+@Profile("ledger")
+@RequiredArgsConstructor
+public class LedgerPostingRepository implements PostingRepository {
+
+    private final LedgerEngine ledgerEngine;
+    private final PostingRepositoryImpl postingRepositoryImpl;
+
+    @Override
+    public void saveAll(List<Posting> postings) {
+        if (!postings.isEmpty()) {
+            LedgerSynchronization.enlist(ledgerEngine, new LedgerCommit().addPostings(postings));
+        }
+    }
+
+    @Override
+    public List<Posting> transitionStatus(String transactionId, String status) {
+        return postingRepositoryImpl.transitionStatus(transactionId, status);
+    }
+
+    @Override
+    public List<Posting> findHistoryPage(String accountNumber, KeysetCursor after, int limit) {
+        return postingRepositoryImpl.findHistoryPage(accountNumber, after, limit);
+    }
+
+    @Override
+    public void streamByAccountAndDateRange(String accountNumber, LocalDateTime startInclusive, LocalDateTime endExclusive,
+                                            Consumer<Posting> consumer) {
+        postingRepositoryImpl.streamByAccountAndDateRange(accountNumber, startInclusive, endExclusive, consumer);
+    }
+
+    @Override
+    public Optional<BigDecimal> findBalanceBefore(String accountNumber, LocalDateTime endExclusive) {
+        return postingRepositoryImpl.findBalanceBefore(accountNumber, endExclusive);
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestPostedAt() {
+        return postingRepositoryImpl.findOldestPostedAt();
+    }
+}
@@ -0,0 +1,212 @@
+package repository.ledger;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import model.entity.Account;
+import model.entity.Posting;
+import model.entity.Transaction;
+
+import java.math.BigDecimal;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LedgerRecord {
+    public static final String ACCOUNT = "ACCOUNT";
+    public static final String BALANCE = "BALANCE";
+    public static final String COMMIT = "COMMIT";
+
+    private static final String SEPARATOR = "|";
+    private static final String NULL_FIELD = "~";
+    private static final int LEG_FIELDS = 2;
+    private static final int TRANSACTION_FIELDS = 8;
+    private static final int POSTING_FIELDS = 10;
+
+    private final String type;
+    private final String[] fields;
+
+    public static LedgerRecord ofAccount(Account account) {
+        return new LedgerRecord(ACCOUNT, new String[]{
+                account.getId() != null ? account.getId().toString() : null,
+                account.getAccountNumber(),
+                account.getCustomerId(),
+                account.getBalance() != null ? account.getBalance().toPlainString() : null,
+                account.getAccountType(),
+                account.getCreatedAt() != null ? account.getCreatedAt().toString() : null,
+                account.getUpdatedAt() != null ? account.getUpdatedAt().toString() : null,
+                account.getIsActive() != null ? account.getIsActive().toString() : null
+        });
+    }
+
+    public static LedgerRecord ofBalance(String accountNumber, BigDecimal balance, LocalDateTime updatedAt) {
+        return new LedgerRecord(BALANCE, new String[]{
+                accountNumber,
+                balance.toPlainString(),
+                updatedAt.toString()
+        });
+    }
+
+    public static LedgerRecord ofCommit(LocalDateTime committedAt, LedgerCommit commit) {
+        List<String> fields = new ArrayList<>(3 + commit.legs().size() * LEG_FIELDS
+                + commit.transactions().size() * TRANSACTION_FIELDS + commit.postings().size() * POSTING_FIELDS);
+        fields.add(committedAt.toString());
+        fields.add(Integer.toString(commit.legs().size()));
+        for (LedgerCommit.Leg leg : commit.legs()) {
+            fields.add(leg.accountNumber());
+            fields.add(leg.delta().toPlainString());
+        }
+        fields.add(Integer.toString(commit.transactions().size()));
+        for (Transaction transaction : commit.transactions()) {
+            fields.add(transaction.getTransactionId());
+            fields.add(transaction.getFromAccountNumber());
+            fields.add(transaction.getToAccountNumber());
+            fields.add(transaction.getAmount() != null ? transaction.getAmount().toPlainString() : null);
+            fields.add(transaction.getTransactionType());
+            fields.add(transaction.getDescription());
+            fields.add(transaction.getTransactionDate() != null ? transaction.getTransactionDate().toString() : null);
+            fields.add(transaction.getStatus());
+        }
+        for (Posting posting : commit.postings()) {
+            fields.add(posting.getTransactionId());
+            fields.add(posting.getAccountNumber());
+            fields.add(posting.getCounterpartyAccountNumber());
+            fields.add(posting.getDirection());
+            fields.add(posting.getAmount().toPlainString());
+            fields.add(posting.getBalanceAfter() != null ? posting.getBalanceAfter().toPlainString() : null);
+            fields.add(posting.getTransactionType());
+            fields.add(posting.getDescription());
+            fields.add(posting.getStatus());
+            fields.add(posting.getPostedAt().toString());
+        }
+        return new LedgerRecord(COMMIT, fields.toArray(new String[0]));
+    }
+
+    public Account toAccount() {
+        return Account.builder()
+                .id(fields[0] != null ? Long.valueOf(fields[0]) : null)
+                .accountNumber(fields[1])
+                .customerId(fields[2])
+                .balance(fields[3] != null ? new BigDecimal(fields[3]) : null)
+                .accountType(fields[4])
+                .createdAt(fields[5] != null ? LocalDateTime.parse(fields[5]) : null)
+                .updatedAt(fields[6] != null ? LocalDateTime.parse(fields[6]) : null)
+                .isActive(fields[7] != null ? Boolean.valueOf(fields[7]) : null)
+                .build();
+    }
+
+    public String getBalanceAccountNumber() {
+        return fields[0];
+    }
+
+    public BigDecimal getBalanceAmount() {
+        return new BigDecimal(fields[1]);
+    }
+
+    public LocalDateTime getBalanceUpdatedAt() {
+        return LocalDateTime.parse(fields[2]);
+    }
+
+    public LocalDateTime getCommittedAt() {
+        return LocalDateTime.parse(fields[0]);
+    }
+
+    public List<LedgerCommit.Leg> getCommitLegs() {
+        int count = Integer.parseInt(fields[1]);
+        List<LedgerCommit.Leg> legs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int offset = 2 + i * LEG_FIELDS;
+            legs.add(new LedgerCommit.Leg(fields[offset], new BigDecimal(fields[offset + 1]), false, false));
+        }
+        return legs;
+    }
+
+    public List<Transaction> getCommitTransactions() {
+        int countOffset = transactionCountOffset();
+        int count = Integer.parseInt(fields[countOffset]);
+        List<Transaction> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int offset = countOffset + 1 + i * TRANSACTION_FIELDS;
+            transactions.add(Transaction.builder()
+                    .transactionId(fields[offset])
+                    .fromAccountNumber(fields[offset + 1])
+                    .toAccountNumber(fields[offset + 2])
+                    .amount(fields[offset + 3] != null ? new BigDecimal(fields[offset + 3]) : null)
+                    .transactionType(fields[offset + 4])
+                    .description(fields[offset + 5])
+                    .transactionDate(fields[offset + 6] != null ? LocalDateTime.parse(fields[offset + 6]) : null)
+                    .status(fields[offset + 7])
+                    .build());
+        }
+        return transactions;
+    }
+
+    public List<Posting> getCommitPostings() {
+        List<Posting> postings = new ArrayList<>();
+        int countOffset = transactionCountOffset();
+        int start = countOffset + 1 + Integer.parseInt(fields[countOffset]) * TRANSACTION_FIELDS;
+        for (int offset = start; offset < fields.length; offset += POSTING_FIELDS) {
+            postings.add(Posting.builder()
+                    .transactionId(fields[offset])
+                    .accountNumber(fields[offset + 1])
+                    .counterpartyAccountNumber(fields[offset + 2])
+                    .direction(fields[offset + 3])
+                    .amount(new BigDecimal(fields[offset + 4]))
+                    .balanceAfter(fields[offset + 5] != null ? new BigDecimal(fields[offset + 5]) : null)
+                    .transactionType(fields[offset + 6])
+                    .description(fields[offset + 7])
+                    .status(fields[offset + 8])
+                    .postedAt(LocalDateTime.parse(fields[offset + 9]))
+                    .build());
+        }
+        return postings;
+    }
+
+    public String encode() {
+        StringBuilder line = new StringBuilder(type);
+        for (String field : fields) {
+            line.append(SEPARATOR).append(field != null ? URLEncoder.encode(field, StandardCharsets.UTF_8) : NULL_FIELD);
+        }
+        return line.append(SEPARATOR).append(Long.toHexString(checksum(line))).toString();
+    }
+
+    public static Optional<LedgerRecord> decode(String line) {
+        int checksumStart = line.lastIndexOf(SEPARATOR);
+        if (checksumStart <= 0) {
+            return Optional.empty();
+        }
+
+        String payload = line.substring(0, checksumStart);
+        try {
+            if (Long.parseLong(line.substring(checksumStart + 1), 16) != checksum(payload)) {
+                return Optional.empty();
+            }
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+
+        String[] parts = payload.split("\\|", -1);
+        String[] fields = new String[parts.length - 1];
+        for (int i = 1; i < parts.length; i++) {
+            fields[i - 1] = NULL_FIELD.equals(parts[i]) ? null : URLDecoder.decode(parts[i], StandardCharsets.UTF_8);
+        }
+        return Optional.of(new LedgerRecord(parts[0], fields));
+    }
+
+    private int transactionCountOffset() {
+        return 2 + Integer.parseInt(fields[1]) * LEG_FIELDS;
+    }
+
+    private static long checksum(CharSequence payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload.toString().getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,192 @@
+package repository.ledger;
+
+import lombok.extern.slf4j.Slf4j;
+import model.entity.Account;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Slf4j
+class LedgerShard implements AutoCloseable {
+
+    private final Map<String, Account> accounts = new ConcurrentHashMap<>();
+    private final Map<String, BigDecimal> holds = new HashMap<>();
+    private final BlockingQueue<Command<?>> queue = new LinkedBlockingQueue<>();
+    private final LedgerListener listener;
+    private final Thread writer;
+    private volatile boolean running;
+
+    LedgerShard(int index, LedgerListener listener) {
+        this.listener = listener;
+        this.writer = new Thread(this::runWriter, "ledger-shard-" + index);
+        this.writer.setDaemon(true);
+    }
+
+    static LedgerShard of(List<LedgerShard> shards, String accountNumber) {
+        return shards.get(Math.floorMod(accountNumber.hashCode(), shards.size()));
+    }
+
+    Account get(String accountNumber) {
+        return accounts.get(accountNumber);
+    }
+
+    Collection<Account> accounts() {
+        return accounts.values();
+    }
+
+    void load(Account account) {
+        accounts.put(account.getAccountNumber(), account);
+    }
+
+    void start() {
+        running = true;
+        writer.start();
+    }
+
+    <T> CompletableFuture<T> submit(Supplier<T> operation) {
+        Command<T> command = new Command<>(operation, new CompletableFuture<>());
+        if (!running) {
+            command.future().completeExceptionally(new IllegalStateException("Ledger shard is not running"));
+            return command.future();
+        }
+        queue.add(command);
+        return command.future();
+    }
+
+    Optional<Account> reserve(String accountNumber, BigDecimal delta, boolean guarded) {
+        Account current = accounts.get(accountNumber);
+        if (current == null || !Boolean.TRUE.equals(current.getIsActive())) {
+            return Optional.empty();
+        }
+
+        BigDecimal held = holds.getOrDefault(accountNumber, BigDecimal.ZERO);
+        BigDecimal projected = current.getBalance().add(held).add(delta);
+        if (guarded && projected.signum() < 0) {
+            return Optional.empty();
+        }
+        if (delta.signum() < 0) {
+            holds.put(accountNumber, held.add(delta));
+        }
+        return Optional.of(withBalance(current, projected, LocalDateTime.now()));
+    }
+
+    Void release(List<LedgerCommit.Leg> legs) {
+        for (LedgerCommit.Leg leg : legs) {
+            if (leg.reserved() && leg.delta().signum() < 0) {
+                releaseHold(leg.accountNumber(), leg.delta());
+            }
+        }
+        return null;
+    }
+
+    Void apply(List<LedgerCommit.Leg> legs, LocalDateTime committedAt) {
+        for (LedgerCommit.Leg leg : legs) {
+            Account current = accounts.get(leg.accountNumber());
+            if (current == null) {
+                log.error("Committed ledger leg references unknown account - Account: {}, Delta: {}",
+                        leg.accountNumber(), leg.delta());
+                continue;
+            }
+
+            Account updated = withBalance(current, current.getBalance().add(leg.delta()), committedAt);
+            accounts.put(updated.getAccountNumber(), updated);
+            if (leg.reserved() && leg.delta().signum() < 0) {
+                releaseHold(leg.accountNumber(), leg.delta());
+            }
+            listener.onBalanceChanged(updated);
+        }
+        return null;
+    }
+
+    Void setBalance(String accountNumber, BigDecimal newBalance, LocalDateTime updatedAt) {
+        Account current = accounts.get(accountNumber);
+        if (current != null) {
+            Account updated = withBalance(current, newBalance, updatedAt);
+            accounts.put(accountNumber, updated);
+            listener.onBalanceChanged(updated);
+        }
+        return null;
+    }
+
+    Void put(Account account) {
+        accounts.put(account.getAccountNumber(), account);
+        return null;
+    }
+
+    List<Account> snapshot() {
+        return List.copyOf(accounts.values());
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Command<?> abandoned;
+        while ((abandoned = queue.poll()) != null) {
+            abandoned.future().completeExceptionally(new IllegalStateException("Ledger shard is shutting down"));
+        }
+    }
+
+    static Account withBalance(Account account, BigDecimal balance, LocalDateTime updatedAt) {
+        return Account.builder()
+                .id(account.getId())
+                .accountNumber(account.getAccountNumber())
+                .customerId(account.getCustomerId())
+                .balance(balance)
+                .accountType(account.getAccountType())
+                .createdAt(account.getCreatedAt())
+                .updatedAt(updatedAt)
+                .isActive(account.getIsActive())
+                .build();
+    }
+
+    private void releaseHold(String accountNumber, BigDecimal delta) {
+        BigDecimal remaining = holds.getOrDefault(accountNumber, BigDecimal.ZERO).subtract(delta);
+        if (remaining.signum() >= 0) {
+            holds.remove(accountNumber);
+        } else {
+            holds.put(accountNumber, remaining);
+        }
+    }
+
+    private void runWriter() {
+        while (running || !queue.isEmpty()) {
+            try {
+                Command<?> command = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (command != null) {
+                    command.run();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+                return;
+            }
+        }
+    }
+
+    private record Command<T>(Supplier<T> operation, CompletableFuture<T> future) {
+        private void run() {
+            try {
+                future.complete(operation.get());
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
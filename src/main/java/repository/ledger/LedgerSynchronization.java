@@ -0,0 +1,97 @@
+package repository.ledger;
+
+import lombok.extern.slf4j.Slf4j;
+import model.entity.Posting;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+final class LedgerSynchronization {
+    private LedgerSynchronization() {
+        throw new UnsupportedOperationException("This is a utility class");
+    }
+
+    static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    static void enlist(LedgerEngine ledgerEngine, LedgerCommit commit) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            currentCommit(ledgerEngine).addAll(commit);
+            return;
+        }
+
+        try {
+            ledgerEngine.commit(commit);
+        } catch (RuntimeException e) {
+            ledgerEngine.release(commit);
+            throw e;
+        }
+    }
+
+    static boolean isEnlisted(LedgerEngine ledgerEngine, Posting posting) {
+        LedgerCommit bound = (LedgerCommit) TransactionSynchronizationManager.getResource(ledgerEngine);
+        return bound != null && bound.contains(posting);
+    }
+
+    private static LedgerCommit currentCommit(LedgerEngine ledgerEngine) {
+        LedgerCommit bound = (LedgerCommit) TransactionSynchronizationManager.getResource(ledgerEngine);
+        if (bound != null) {
+            return bound;
+        }
+
+        LedgerCommit commit = new LedgerCommit();
+        TransactionSynchronizationManager.bindResource(ledgerEngine, commit);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean written;
+
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ledgerEngine);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(ledgerEngine, commit);
+            }
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                ledgerEngine.commit(commit);
+                written = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ledgerEngine);
+                if (!written) {
+                    ledgerEngine.release(commit);
+                } else if (status != STATUS_COMMITTED) {
+                    revert(ledgerEngine, commit);
+                }
+            }
+        });
+        return commit;
+    }
+
+    private static void revert(LedgerEngine ledgerEngine, LedgerCommit commit) {
+        log.error("Database commit failed after ledger commit, writing reversal - Legs: {}, Transactions: {}",
+                commit.legs().size(), commit.transactions().size());
+        try {
+            ledgerEngine.commit(commit.reversal());
+        } catch (RuntimeException e) {
+            log.error("Ledger reversal failed, manual reconciliation required - Legs: {}, Error: {}",
+                    commit.legs(), e.getMessage());
+        }
+    }
+}
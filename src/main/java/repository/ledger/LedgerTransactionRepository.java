@@ -0,0 +1,103 @@
+package repository.ledger;
+
+import lombok.RequiredArgsConstructor;
+import model.entity.Transaction;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import repository.TransactionRepository;
+import repository.impl.TransactionRepositoryImpl;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+@Repository
+@Primary
+@Profile("ledger")
+@RequiredArgsConstructor
+public class LedgerTransactionRepository implements TransactionRepository {
+
+    private final LedgerEngine ledgerEngine;
+    private final LedgerWriteBehind ledgerWriteBehind;
+    private final TransactionRepositoryImpl transactionRepositoryImpl;
+
+    @Override
+    public Transaction save(Transaction transaction) {
+        // Partitioned transactions are unique on (transaction_id, transaction_date), so the write-behind
+        // insert only de-duplicates a replayed commit if it carries the same date. Fix it here, at the
+        // precision PostgreSQL stores, so the WAL record and the row always agree.
+        LocalDateTime transactionDate = transaction.getTransactionDate() != null
+                ? transaction.getTransactionDate()
+                : LocalDateTime.now();
+        transaction.setTransactionDate(transactionDate.truncatedTo(ChronoUnit.MICROS));
+        LedgerSynchronization.enlist(ledgerEngine, new LedgerCommit().addTransaction(transaction));
+        return transaction;
+    }
+
+    @Override
+    public void saveAll(List<Transaction> transactions) {
+        transactions.forEach(this::save);
+    }
+
+    @Override
+    public Optional<Transaction> findByTransactionId(String transactionId) {
+        Optional<Transaction> unwritten = ledgerWriteBehind.findUnwritten(transactionId);
+        return unwritten.isPresent() ? unwritten : transactionRepositoryImpl.findByTransactionId(transactionId);
+    }
+
+    @Override
+    public List<Transaction> findByAccountNumber(String accountNumber) {
+        return transactionRepositoryImpl.findByAccountNumber(accountNumber);
+    }
+
+    @Override
+    public List<Transaction> findByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
+        return transactionRepositoryImpl.findByDateRange(startDate, endDate);
+    }
+
+    @Override
+    public List<Transaction> findByStatus(String status) {
+        return transactionRepositoryImpl.findByStatus(status);
+    }
+
+    @Override
+    public void streamByDateRange(LocalDateTime startDate, LocalDateTime endDate, Consumer<Transaction> consumer) {
+        transactionRepositoryImpl.streamByDateRange(startDate, endDate, consumer);
+    }
+
+    @Override
+    public void streamByStatus(String status, Consumer<Transaction> consumer) {
+        transactionRepositoryImpl.streamByStatus(status, consumer);
+    }
+
+    @Override
+    public boolean updateTransactionStatus(String transactionId, String status) {
+        if (ledgerWriteBehind.findUnwritten(transactionId).isPresent()) {
+            ledgerWriteBehind.flushNow();
+        }
+        return transactionRepositoryImpl.updateTransactionStatus(transactionId, status);
+    }
+
+    @Override
+    public Optional<Transaction> findById(Long id) {
+        return transactionRepositoryImpl.findById(id);
+    }
+
+    @Override
+    public List<Transaction> findAll() {
+        return transactionRepositoryImpl.findAll();
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return transactionRepositoryImpl.existsById(id);
+    }
+
+    @Override
+    public long count() {
+        return transactionRepositoryImpl.count();
+    }
+}
@@ -0,0 +1,173 @@
+package repository.ledger;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+public class LedgerWriteAheadLog implements AutoCloseable {
+    private static final String SEGMENT_SUFFIX = ".wal";
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+    private static final String STAGING_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final String segmentPrefix;
+    private final StringBuilder pending = new StringBuilder();
+    private FileChannel channel;
+    private long segmentNumber;
+
+    public LedgerWriteAheadLog(Path directory, String name) throws IOException {
+        Files.createDirectories(directory);
+        this.directory = directory;
+        this.segmentPrefix = name + "-";
+    }
+
+    public int replay(Consumer<LedgerRecord> consumer) throws IOException {
+        Optional<Path> snapshot = latestSnapshot();
+        long firstSegment = snapshot.map(path -> numberOf(path, SNAPSHOT_SUFFIX)).orElse(0L);
+        int replayed = 0;
+
+        if (snapshot.isPresent()) {
+            replayed += replay(snapshot.get(), consumer);
+        }
+        for (Path segment : files(SEGMENT_SUFFIX)) {
+            if (numberOf(segment, SEGMENT_SUFFIX) >= firstSegment) {
+                replayed += replay(segment, consumer);
+            }
+        }
+        return replayed;
+    }
+
+    public boolean hasSnapshot() throws IOException {
+        return latestSnapshot().isPresent();
+    }
+
+    public void open() throws IOException {
+        List<Path> existing = files(SEGMENT_SUFFIX);
+        segmentNumber = existing.isEmpty() ? 0 : numberOf(existing.get(existing.size() - 1), SEGMENT_SUFFIX) + 1;
+        channel = FileChannel.open(path(segmentNumber, SEGMENT_SUFFIX), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    }
+
+    public void append(LedgerRecord record) {
+        pending.append(record.encode()).append('\n');
+    }
+
+    public void flush() throws IOException {
+        if (pending.length() == 0) {
+            return;
+        }
+
+        ByteBuffer buffer = StandardCharsets.UTF_8.encode(pending.toString());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+        pending.setLength(0);
+    }
+
+    public long rotate() throws IOException {
+        flush();
+        channel.close();
+
+        segmentNumber++;
+        channel = FileChannel.open(path(segmentNumber, SEGMENT_SUFFIX), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        return segmentNumber;
+    }
+
+    public int writeSnapshot(long firstSegment, Collection<LedgerRecord> records) throws IOException {
+        Path snapshot = path(firstSegment, SNAPSHOT_SUFFIX);
+        Path staging = directory.resolve(snapshot.getFileName() + STAGING_SUFFIX);
+        StringBuilder content = new StringBuilder();
+        records.forEach(record -> content.append(record.encode()).append('\n'));
+
+        try (FileChannel out = FileChannel.open(staging, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = StandardCharsets.UTF_8.encode(content.toString());
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(false);
+        }
+        Files.move(staging, snapshot, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        for (Path older : files(SNAPSHOT_SUFFIX)) {
+            if (numberOf(older, SNAPSHOT_SUFFIX) < firstSegment) {
+                Files.deleteIfExists(older);
+            }
+        }
+        int released = 0;
+        for (Path segment : files(SEGMENT_SUFFIX)) {
+            if (numberOf(segment, SEGMENT_SUFFIX) < firstSegment) {
+                Files.deleteIfExists(segment);
+                released++;
+            }
+        }
+        return released;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null && channel.isOpen()) {
+            flush();
+            channel.close();
+        }
+    }
+
+    private int replay(Path file, Consumer<LedgerRecord> consumer) throws IOException {
+        int replayed = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Optional<LedgerRecord> record = LedgerRecord.decode(line);
+                if (record.isEmpty()) {
+                    log.warn("Torn ledger record skipped - Segment: {}, Record: {}", file.getFileName(), replayed);
+                    break;
+                }
+                consumer.accept(record.get());
+                replayed++;
+            }
+        }
+        return replayed;
+    }
+
+    private Optional<Path> latestSnapshot() throws IOException {
+        List<Path> snapshots = files(SNAPSHOT_SUFFIX);
+        return snapshots.isEmpty() ? Optional.empty() : Optional.of(snapshots.get(snapshots.size() - 1));
+    }
+
+    private List<Path> files(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> isFile(path, suffix))
+                    .sorted((a, b) -> Long.compare(numberOf(a, suffix), numberOf(b, suffix)))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private boolean isFile(Path path, String suffix) {
+        String fileName = path.getFileName().toString();
+        return fileName.startsWith(segmentPrefix) && fileName.endsWith(suffix);
+    }
+
+    private long numberOf(Path path, String suffix) {
+        String fileName = path.getFileName().toString();
+        return Long.parseLong(fileName.substring(segmentPrefix.length(), fileName.length() - suffix.length()));
+    }
+
+    private Path path(long number, String suffix) {
+        return directory.resolve(segmentPrefix + String.format("%012d", number) + suffix);
+    }
+}
@@ -0,0 +1,244 @@
+package repository.ledger;
+
+import lombok.extern.slf4j.Slf4j;
+import model.entity.Account;
+import model.entity.Posting;
+import model.entity.Transaction;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import repository.impl.DailySummaryRepositoryImpl;
+import repository.impl.PostingRepositoryImpl;
+import repository.queries.AccountQueries;
+import repository.queries.PostingQueries;
+import repository.queries.TransactionQueries;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Component
+@Profile("ledger")
+@Slf4j
+public class LedgerWriteBehind implements LedgerListener, DisposableBean {
+    private static final int MAX_TRANSACTIONS_PER_BATCH = 1000;
+    private static final int MAX_POSTINGS_PER_BATCH = 2000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostingRepositoryImpl postingRepositoryImpl;
+    private final DailySummaryRepositoryImpl dailySummaryRepositoryImpl;
+    private final Map<String, Account> dirtyAccounts = new ConcurrentHashMap<>();
+    private final Deque<Transaction> pendingTransactions = new ConcurrentLinkedDeque<>();
+    private final Map<String, Transaction> unwrittenTransactions = new ConcurrentHashMap<>();
+    private final Deque<Posting> pendingPostings = new ConcurrentLinkedDeque<>();
+    private final ScheduledExecutorService scheduler;
+
+    public LedgerWriteBehind(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             PostingRepositoryImpl postingRepositoryImpl,
+                             DailySummaryRepositoryImpl dailySummaryRepositoryImpl,
+                             @Value("${ledger.write-behind-interval-ms:50}") long intervalMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.postingRepositoryImpl = postingRepositoryImpl;
+        this.dailySummaryRepositoryImpl = dailySummaryRepositoryImpl;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ledger-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void onBalanceChanged(Account account) {
+        dirtyAccounts.put(account.getAccountNumber(), account);
+    }
+
+    @Override
+    public void onTransaction(Transaction transaction) {
+        unwrittenTransactions.put(transaction.getTransactionId(), transaction);
+        pendingTransactions.add(transaction);
+    }
+
+    @Override
+    public void onPostings(List<Posting> postings) {
+        pendingPostings.addAll(postings);
+    }
+
+    @Override
+    public synchronized void flush() {
+        flushBalances();
+        // Postings are queued after their transactions, so the ones counted here never outrun their transaction row.
+        int readyPostings = pendingPostings.size();
+        while (!pendingTransactions.isEmpty()) {
+            flushTransactions();
+        }
+        while (readyPostings > 0) {
+            readyPostings -= flushPostings(Math.min(readyPostings, MAX_POSTINGS_PER_BATCH));
+        }
+    }
+
+    public void flushNow() {
+        try {
+            scheduler.submit(this::flush).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while flushing ledger write-behind", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Ledger write-behind flush failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    public Optional<Transaction> findUnwritten(String transactionId) {
+        return Optional.ofNullable(unwrittenTransactions.get(transactionId));
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdown();
+        flushQuietly();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Ledger write-behind flush failed, will retry - Dirty accounts: {}, Pending transactions: {}, Error: {}",
+                    dirtyAccounts.size(), pendingTransactions.size(), e.getMessage());
+        }
+    }
+
+    private void flushBalances() {
+        if (dirtyAccounts.isEmpty()) {
+            return;
+        }
+
+        List<Account> snapshot = new ArrayList<>(dirtyAccounts.values());
+        jdbcTemplate.batchUpdate(AccountQueries.UPDATE_ACCOUNT_BALANCE, snapshot, snapshot.size(), (ps, account) -> {
+            ps.setBigDecimal(1, account.getBalance());
+            ps.setObject(2, account.getUpdatedAt());
+            ps.setString(3, account.getAccountNumber());
+        });
+        snapshot.forEach(account -> dirtyAccounts.remove(account.getAccountNumber(), account));
+
+        log.debug("Ledger balances written behind: {}", snapshot.size());
+    }
+
+    private void flushTransactions() {
+        List<Transaction> batch = new ArrayList<>(MAX_TRANSACTIONS_PER_BATCH);
+        Transaction transaction;
+        while (batch.size() < MAX_TRANSACTIONS_PER_BATCH && (transaction = pendingTransactions.poll()) != null) {
+            batch.add(transaction);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(TransactionQueries.INSERT_TRANSACTION_IF_ABSENT, batch, batch.size(), (ps, tx) -> {
+                ps.setString(1, tx.getTransactionId());
+                ps.setString(2, tx.getFromAccountNumber());
+                ps.setString(3, tx.getToAccountNumber());
+                ps.setBigDecimal(4, tx.getAmount());
+                ps.setString(5, tx.getTransactionType());
+                ps.setString(6, tx.getDescription());
+                ps.setObject(7, tx.getTransactionDate());
+                ps.setString(8, tx.getStatus());
+            });
+
+            List<Transaction> reversals = batch.stream()
+                    .filter(tx -> "FAILED".equals(tx.getStatus()))
+                    .collect(Collectors.toList());
+            if (!reversals.isEmpty()) {
+                jdbcTemplate.batchUpdate(TransactionQueries.UPDATE_TRANSACTION_STATUS, reversals, reversals.size(), (ps, tx) -> {
+                    ps.setString(1, tx.getStatus());
+                    ps.setString(2, tx.getTransactionId());
+                });
+            }
+        } catch (RuntimeException e) {
+            for (int i = batch.size() - 1; i >= 0; i--) {
+                pendingTransactions.addFirst(batch.get(i));
+            }
+            throw e;
+        }
+
+        batch.forEach(tx -> unwrittenTransactions.remove(tx.getTransactionId(), tx));
+        log.debug("Ledger transactions written behind: {}", batch.size());
+    }
+
+    private int flushPostings(int limit) {
+        List<Posting> batch = new ArrayList<>(limit);
+        Posting posting;
+        while (batch.size() < limit && (posting = pendingPostings.poll()) != null) {
+            batch.add(posting);
+        }
+        if (batch.isEmpty()) {
+            return limit;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> writePostings(batch));
+        } catch (RuntimeException e) {
+            for (int i = batch.size() - 1; i >= 0; i--) {
+                pendingPostings.addFirst(batch.get(i));
+            }
+            throw e;
+        }
+
+        log.debug("Ledger postings written behind: {}", batch.size());
+        return batch.size();
+    }
+
+    private void writePostings(List<Posting> batch) {
+        int[][] inserted = jdbcTemplate.batchUpdate(PostingQueries.INSERT_POSTING_IF_ABSENT, batch, batch.size(),
+                (ps, leg) -> {
+            ps.setString(1, leg.getTransactionId());
+            ps.setString(2, leg.getAccountNumber());
+            ps.setString(3, leg.getCounterpartyAccountNumber());
+            ps.setString(4, leg.getDirection());
+            ps.setBigDecimal(5, leg.getAmount());
+            ps.setBigDecimal(6, leg.getBalanceAfter());
+            ps.setString(7, leg.getTransactionType());
+            ps.setString(8, leg.getDescription());
+            ps.setString(9, leg.getStatus());
+            ps.setObject(10, leg.getPostedAt());
+        });
+
+        // Only rows inserted now are summarised, so postings replayed from the log are not counted twice.
+        List<Posting> completed = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (inserted[0][i] != 0 && "COMPLETED".equals(batch.get(i).getStatus())) {
+                completed.add(batch.get(i));
+            }
+        }
+        dailySummaryRepositoryImpl.addPostings(completed);
+
+        Set<String> reversed = new LinkedHashSet<>();
+        batch.stream()
+                .filter(leg -> "FAILED".equals(leg.getStatus()))
+                .forEach(leg -> reversed.add(leg.getTransactionId()));
+        for (String transactionId : reversed) {
+            dailySummaryRepositoryImpl.removePostings(postingRepositoryImpl.transitionStatus(transactionId, "FAILED")
+                    .stream()
+                    .filter(previous -> "COMPLETED".equals(previous.getStatus()))
+                    .collect(Collectors.toList()));
+        }
+    }
+}
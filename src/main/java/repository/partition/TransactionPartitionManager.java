@@ -0,0 +1,192 @@
+package repository.partition;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import repository.BaseReadRepository;
+import repository.queries.SchemaQueries;
+import repository.queries.TransactionPartitionQueries;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+@ConditionalOnProperty(prefix = "transaction.partitioning", name = "enabled", havingValue = "true")
+@DependsOn("schemaInitializer")
+@Slf4j
+public class TransactionPartitionManager {
+
+    private static final String PARTITION_PREFIX = "transactions_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern UPPER_BOUND = Pattern.compile("TO \\('([^']+)'\\)");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int premakeMonths;
+    private final int retentionMonths;
+    private final boolean convertExisting;
+    private volatile boolean partitioned;
+
+    public TransactionPartitionManager(JdbcTemplate jdbcTemplate,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${transaction.partitioning.premake-months:3}") int premakeMonths,
+                                       @Value("${transaction.partitioning.retention-months:0}") int retentionMonths,
+                                       @Value("${transaction.partitioning.convert-existing:false}") boolean convertExisting) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.premakeMonths = premakeMonths;
+        this.retentionMonths = retentionMonths;
+        this.convertExisting = convertExisting;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        Boolean ready = transactionTemplate.execute(status -> {
+            lockSchema();
+            Optional<String> relkind = BaseReadRepository.firstResult(jdbcTemplate.queryForList(
+                    TransactionPartitionQueries.SELECT_TRANSACTIONS_RELKIND, String.class));
+
+            if (relkind.isEmpty()) {
+                jdbcTemplate.execute(TransactionPartitionQueries.CREATE_PARTITIONED_TRANSACTIONS_TABLE);
+                createParentIndexes();
+                log.info("Partitioned transactions table created");
+            } else if (!"p".equals(relkind.get())) {
+                if (!convertExisting) {
+                    log.warn("Transactions table is not partitioned and conversion is disabled - partition maintenance is off");
+                    return false;
+                }
+                convertToPartitioned();
+            }
+            return true;
+        });
+
+        partitioned = Boolean.TRUE.equals(ready);
+        maintain();
+    }
+
+    @Scheduled(fixedDelayString = "${transaction.partitioning.maintenance-interval-ms:3600000}",
+            initialDelayString = "${transaction.partitioning.maintenance-interval-ms:3600000}")
+    public void maintain() {
+        if (!partitioned) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                lockSchema();
+                createUpcomingPartitions();
+            });
+            // DETACH ... CONCURRENTLY cannot run inside a transaction, so retention stays outside the lock.
+            if (retentionMonths > 0) {
+                detachExpiredPartitions();
+            }
+        } catch (RuntimeException e) {
+            log.error("Transaction partition maintenance failed - Error: {}", e.getMessage());
+        }
+    }
+
+    public static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    private void lockSchema() {
+        jdbcTemplate.queryForList(SchemaQueries.ACQUIRE_SCHEMA_TRANSACTION_LOCK);
+    }
+
+    private void convertToPartitioned() {
+        // Uniqueness becomes (transaction_id, transaction_date) because a partitioned unique key must
+        // include the partition column. ON CONFLICT inserts only de-duplicate when the date matches too.
+        jdbcTemplate.execute(TransactionPartitionQueries.RENAME_TRANSACTIONS_TO_LEGACY);
+        jdbcTemplate.execute(TransactionPartitionQueries.CREATE_PARTITIONED_TRANSACTIONS_LIKE_LEGACY);
+        jdbcTemplate.execute(TransactionPartitionQueries.ADD_TRANSACTIONS_PRIMARY_KEY);
+        jdbcTemplate.execute(TransactionPartitionQueries.ADD_TRANSACTIONS_UNIQUE_TRANSACTION_ID);
+
+        String sequence = jdbcTemplate.queryForObject(TransactionPartitionQueries.SELECT_LEGACY_ID_SEQUENCE,
+                String.class);
+        if (sequence != null) {
+            jdbcTemplate.execute(TransactionPartitionQueries.TRANSFER_ID_SEQUENCE_OWNERSHIP.formatted(sequence));
+        }
+
+        LocalDateTime maxDate = jdbcTemplate.queryForObject(
+                TransactionPartitionQueries.SELECT_LEGACY_MAX_TRANSACTION_DATE, LocalDateTime.class);
+        LocalDate boundary = maxDate != null
+                ? YearMonth.from(maxDate).plusMonths(1).atDay(1)
+                : YearMonth.now().atDay(1);
+
+        jdbcTemplate.execute(TransactionPartitionQueries.SET_LEGACY_TRANSACTION_DATE_NOT_NULL);
+        jdbcTemplate.execute(TransactionPartitionQueries.ATTACH_LEGACY_PARTITION.formatted(boundary.atStartOfDay()));
+        createParentIndexes();
+
+        log.info("Transactions table converted to monthly partitions - Legacy partition upper bound: {}", boundary);
+    }
+
+    private void createParentIndexes() {
+        jdbcTemplate.execute(TransactionPartitionQueries.CREATE_TRANSACTIONS_DATE_INDEX);
+        jdbcTemplate.execute(TransactionPartitionQueries.CREATE_TRANSACTIONS_STATUS_DATE_INDEX);
+    }
+
+    private void createUpcomingPartitions() {
+        YearMonth current = YearMonth.now();
+        YearMonth next = findPartitions().stream()
+                .map(Partition::upperBound)
+                .max(LocalDateTime::compareTo)
+                .map(YearMonth::from)
+                .orElse(current);
+        YearMonth last = current.plusMonths(premakeMonths);
+
+        for (YearMonth month = next; !month.isAfter(last); month = month.plusMonths(1)) {
+            String name = partitionName(month);
+            jdbcTemplate.execute(TransactionPartitionQueries.CREATE_TRANSACTION_PARTITION.formatted(
+                    name, month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay()));
+            log.info("Transaction partition created - Partition: {}", name);
+        }
+    }
+
+    private void detachExpiredPartitions() {
+        LocalDateTime cutoff = YearMonth.now().minusMonths(retentionMonths).atDay(1).atStartOfDay();
+
+        for (Partition partition : findPartitions()) {
+            if (partition.detachPending()) {
+                jdbcTemplate.execute(TransactionPartitionQueries.FINALIZE_TRANSACTION_PARTITION_DETACH
+                        .formatted(partition.name()));
+                log.info("Transaction partition detach finalized - Partition: {}", partition.name());
+            } else if (!partition.upperBound().isAfter(cutoff)) {
+                jdbcTemplate.execute(TransactionPartitionQueries.DETACH_TRANSACTION_PARTITION
+                        .formatted(partition.name()));
+                log.info("Transaction partition detached - Partition: {}, Upper bound: {}",
+                        partition.name(), partition.upperBound());
+            }
+        }
+    }
+
+    private List<Partition> findPartitions() {
+        List<Partition> partitions = new ArrayList<>();
+        jdbcTemplate.query(TransactionPartitionQueries.SELECT_TRANSACTION_PARTITIONS, (RowCallbackHandler) rs -> {
+            Matcher matcher = UPPER_BOUND.matcher(rs.getString("partition_bound"));
+            if (matcher.find()) {
+                partitions.add(new Partition(rs.getString("partition_name"),
+                        LocalDateTime.parse(matcher.group(1).replace(' ', 'T')),
+                        rs.getBoolean("detach_pending")));
+            }
+        });
+        return partitions;
+    }
+
+    private record Partition(String name, LocalDateTime upperBound, boolean detachPending) {
+    }
+}
@@ -8,6 +8,7 @@ public final class AccountQueries {
     public static final String INSERT_ACCOUNT = """
             INSERT INTO accounts (account_number, customer_id, balance, account_type, created_at, updated_at, is_active)
             VALUES (?, ?, ?, ?, ?, ?, ?)
+            RETURNING *
             """;
 
     public static final String SELECT_ALL_ACCOUNTS = """
@@ -42,10 +43,34 @@ public final class AccountQueries {
             ORDER BY created_at DESC
             """;
 
+    public static final String CREATE_ACCOUNTS_CREATED_INDEX = """
+            CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_accounts_created_at_id
+            ON accounts (created_at DESC, id DESC)
+            """;
+
+    public static final String CREATE_ACCOUNTS_TYPE_CREATED_INDEX = """
+            CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_accounts_type_created_at_id
+            ON accounts (account_type, created_at DESC, id DESC)
+            """;
+
+    public static final String SELECT_ACCOUNTS_PAGE = """
+            SELECT * FROM accounts
+            WHERE %s
+            ORDER BY created_at DESC, id DESC
+            LIMIT ?
+            """;
+
+    public static final String ACCOUNT_TYPE_FILTER = "account_type = ?";
+
+    public static final String ACCOUNT_ACTIVE_FILTER = "is_active = ?";
+
+    public static final String ACCOUNT_KEYSET_FILTER = "(created_at, id) < (?, ?)";
+
     public static final String UPDATE_ACCOUNT = """
             UPDATE accounts
             SET customer_id = ?, balance = ?, account_type = ?, updated_at = ?, is_active = ?
             WHERE id = ?
+            RETURNING *
             """;
 
     public static final String UPDATE_ACCOUNT_BALANCE = """
@@ -54,6 +79,127 @@ public final class AccountQueries {
             WHERE account_number = ? AND is_active = true
             """;
 
+    public static final String CREDIT_ACCOUNT_BALANCE = """
+            UPDATE accounts
+            SET balance = balance + ?, updated_at = ?
+            WHERE account_number = ? AND is_active = true
+            RETURNING *
+            """;
+
+    public static final String DEBIT_ACCOUNT_BALANCE = """
+            UPDATE accounts
+            SET balance = balance - ?, updated_at = ?
+            WHERE account_number = ? AND is_active = true AND balance >= ?
+            RETURNING *
+            """;
+
+    public static final String APPLY_ACCOUNT_BALANCE_DELTA = """
+            UPDATE accounts
+            SET balance = balance + ?, updated_at = ?
+            WHERE account_number = ? AND is_active = true
+            """;
+
+    public static final String LOCK_ACCOUNTS_BY_NUMBERS = """
+            SELECT * FROM accounts
+            WHERE account_number = ANY (?) AND is_active = true
+            ORDER BY account_number
+            FOR UPDATE
+            """;
+
+    public static final String CREATE_ACCOUNT_BALANCE_STRIPES_TABLE = """
+            CREATE TABLE IF NOT EXISTS account_balance_stripes (
+                account_number VARCHAR(20) NOT NULL,
+                stripe_index INTEGER NOT NULL,
+                balance NUMERIC(15, 2) NOT NULL DEFAULT 0,
+                updated_at TIMESTAMP NOT NULL,
+                PRIMARY KEY (account_number, stripe_index)
+            )
+            """;
+
+    public static final String SELECT_STRIPED_ACCOUNTS = """
+            SELECT account_number, COUNT(*) AS stripe_count
+            FROM account_balance_stripes
+            GROUP BY account_number
+            """;
+
+    public static final String SELECT_STRIPED_ACCOUNT_BY_NUMBER = """
+            SELECT a.id, a.account_number, a.customer_id,
+                   a.balance + COALESCE((SELECT SUM(s.balance) FROM account_balance_stripes s
+                                         WHERE s.account_number = a.account_number), 0) AS balance,
+                   a.account_type, a.created_at, a.updated_at, a.is_active
+            FROM accounts a
+            WHERE a.account_number = ? AND a.is_active = true
+            """;
+
+    public static final String SUM_ACCOUNT_STRIPES = """
+            SELECT COALESCE(SUM(balance), 0) FROM account_balance_stripes
+            WHERE account_number = ?
+            """;
+
+    public static final String COUNT_ACCOUNT_STRIPES = """
+            SELECT COUNT(*) FROM account_balance_stripes
+            WHERE account_number = ?
+            """;
+
+    public static final String INSERT_ACCOUNT_STRIPES = """
+            INSERT INTO account_balance_stripes (account_number, stripe_index, balance, updated_at)
+            SELECT a.account_number, s.stripe_index, 0, ?
+            FROM accounts a
+            CROSS JOIN generate_series(0, CAST(? AS INTEGER) - 1) AS s(stripe_index)
+            WHERE a.account_number = ? AND a.is_active = true
+            ON CONFLICT (account_number, stripe_index) DO NOTHING
+            """;
+
+    public static final String SUM_STRIPES_BY_ACCOUNT_NUMBERS = """
+            SELECT account_number, SUM(balance) AS striped_balance
+            FROM account_balance_stripes
+            WHERE account_number = ANY(?)
+            GROUP BY account_number
+            """;
+
+    public static final String CREDIT_ACCOUNT_STRIPE = """
+            WITH credited AS (
+                UPDATE account_balance_stripes
+                SET balance = balance + ?, updated_at = ?
+                WHERE account_number = ? AND stripe_index = ?
+                  AND EXISTS (SELECT 1 FROM accounts WHERE account_number = ? AND is_active = true)
+                RETURNING account_number, stripe_index, balance
+            )
+            SELECT a.id, a.account_number, a.customer_id, CAST(NULL AS NUMERIC) AS balance,
+                   a.account_type, a.created_at, a.updated_at, a.is_active
+            FROM credited c
+            JOIN accounts a ON a.account_number = c.account_number
+            """;
+
+    public static final String FOLD_ACCOUNT_STRIPES = """
+            WITH locked AS (
+                SELECT stripe_index, balance FROM account_balance_stripes
+                WHERE account_number = ?
+                ORDER BY stripe_index
+                FOR UPDATE
+            ), cleared AS (
+                UPDATE account_balance_stripes s
+                SET balance = s.balance - l.balance, updated_at = ?
+                FROM locked l
+                WHERE s.account_number = ? AND s.stripe_index = l.stripe_index AND l.balance <> 0
+                RETURNING l.balance AS folded
+            )
+            UPDATE accounts
+            SET balance = balance + (SELECT COALESCE(SUM(folded), 0) FROM cleared), updated_at = ?
+            WHERE account_number = ?
+            """;
+
+    public static final String REMOVE_ACCOUNT_STRIPES = """
+            WITH removed AS (
+                DELETE FROM account_balance_stripes
+                WHERE account_number = ?
+                RETURNING balance
+            )
+            UPDATE accounts
+            SET balance = balance + (SELECT COALESCE(SUM(balance), 0) FROM removed), updated_at = ?
+            WHERE account_number = ?
+            """;
+
     public static final String SOFT_DELETE_ACCOUNT = """
             UPDATE accounts
             SET is_active = false, updated_at = ? 
@@ -6,6 +6,7 @@ public final class CustomerQueries {
             INSERT INTO customers (customer_id, first_name, last_name, email, 
                                  phone_number, national_id, created_at, updated_at, is_active) 
             VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            RETURNING *
             """;
 
     public static final String UPDATE_CUSTOMER = """
@@ -13,6 +14,7 @@ public final class CustomerQueries {
             SET first_name = ?, last_name = ?, email = ?, phone_number = ?, 
                 updated_at = ?, is_active = ? 
             WHERE id = ?
+            RETURNING *
             """;
 
     public static final String SELECT_CUSTOMER_BY_ID = """
@@ -56,6 +58,26 @@ public final class CustomerQueries {
             SELECT COUNT(*) FROM customers WHERE is_active = true
             """;
 
+    public static final String SELECT_ACTIVE_CUSTOMER_KEYS = """
+            SELECT email, national_id FROM customers WHERE is_active = true
+            """;
+
+    public static final String CREATE_CUSTOMERS_ACTIVE_EMAIL_UNIQUE_INDEX = """
+            CREATE UNIQUE INDEX IF NOT EXISTS uq_customers_active_email ON customers (email) WHERE is_active = true
+            """;
+
+    public static final String CREATE_CUSTOMERS_ACTIVE_NATIONAL_ID_UNIQUE_INDEX = """
+            CREATE UNIQUE INDEX IF NOT EXISTS uq_customers_active_national_id ON customers (national_id)
+            WHERE is_active = true
+            """;
+
+    public static final String COUNT_VALID_CUSTOMER_UNIQUE_INDEXES = """
+            SELECT COUNT(*) FROM pg_index i
+            JOIN pg_class c ON c.oid = i.indexrelid
+            WHERE c.relname IN ('uq_customers_active_email', 'uq_customers_active_national_id')
+              AND i.indisunique AND i.indisvalid
+            """;
+
     public static final String EXISTS_CUSTOMER_BY_EMAIL = """
             SELECT COUNT(*) FROM customers WHERE email = ? AND is_active = true
             """;
@@ -64,8 +86,39 @@ public final class CustomerQueries {
             SELECT COUNT(*) FROM customers WHERE national_id = ? AND is_active = true
             """;
 
-    public static final String SELECT_GET_LAST_CUSTOMER = """
-            SELECT * FROM customers ORDER BY id DESC
-            LIMIT 1;
+    public static final String CREATE_CUSTOMER_ID_SEQUENCE = """
+            CREATE SEQUENCE IF NOT EXISTS customer_id_seq INCREMENT BY 50 MINVALUE 1 START WITH 1
+            """;
+
+    public static final String ALIGN_CUSTOMER_ID_SEQUENCE = """
+            SELECT setval('customer_id_seq', GREATEST(
+                (SELECT last_value FROM customer_id_seq),
+                (SELECT COALESCE(MAX(CAST(SUBSTRING(customer_id FROM 5) AS BIGINT)), 1)
+                 FROM customers WHERE customer_id ~ '^CUST[0-9]+$')))
             """;
+
+    public static final String SELECT_CUSTOMER_ID_BLOCK_SIZE = """
+            SELECT increment_by FROM pg_sequences
+            WHERE schemaname = current_schema() AND sequencename = 'customer_id_seq'
+            """;
+
+    public static final String NEXT_CUSTOMER_ID_BLOCK = """
+            SELECT nextval('customer_id_seq')
+            """;
+
+    public static final String CREATE_CUSTOMERS_CREATED_INDEX = """
+            CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_customers_created_at_id
+            ON customers (created_at DESC, id DESC)
+            """;
+
+    public static final String SELECT_CUSTOMERS_PAGE = """
+            SELECT * FROM customers
+            WHERE %s
+            ORDER BY created_at DESC, id DESC
+            LIMIT ?
+            """;
+
+    public static final String CUSTOMER_ACTIVE_FILTER = "is_active = ?";
+
+    public static final String CUSTOMER_KEYSET_FILTER = "(created_at, id) < (?, ?)";
 }
\ No newline at end of file
@@ -0,0 +1,110 @@
+package repository.queries;
+
+public final class DailySummaryQueries {
+
+    public static final String CREATE_DAILY_SUMMARIES_TABLE = """
+            CREATE TABLE IF NOT EXISTS account_daily_summaries (
+                account_number VARCHAR(20) NOT NULL,
+                summary_date DATE NOT NULL,
+                transaction_type VARCHAR(20) NOT NULL,
+                stripe SMALLINT NOT NULL DEFAULT 0,
+                inflow NUMERIC(18, 2) NOT NULL,
+                outflow NUMERIC(18, 2) NOT NULL,
+                credit_count BIGINT NOT NULL,
+                debit_count BIGINT NOT NULL,
+                closing_balance NUMERIC(15, 2),
+                closing_at TIMESTAMP,
+                PRIMARY KEY (account_number, summary_date, transaction_type, stripe)
+            )
+            """;
+
+    public static final String SELECT_SUMMARY_KEY_STRIPED = """
+            SELECT EXISTS (
+                SELECT 1 FROM pg_constraint
+                WHERE conrelid = 'account_daily_summaries'::regclass AND contype = 'p'
+                  AND pg_get_constraintdef(oid) LIKE '%stripe%'
+            )
+            """;
+
+    public static final String ADD_SUMMARY_STRIPE_COLUMN = """
+            ALTER TABLE account_daily_summaries ADD COLUMN IF NOT EXISTS stripe SMALLINT NOT NULL DEFAULT 0
+            """;
+
+    public static final String DROP_SUMMARY_PRIMARY_KEY = """
+            ALTER TABLE account_daily_summaries DROP CONSTRAINT IF EXISTS account_daily_summaries_pkey
+            """;
+
+    public static final String ADD_STRIPED_SUMMARY_PRIMARY_KEY = """
+            ALTER TABLE account_daily_summaries ADD PRIMARY KEY (account_number, summary_date, transaction_type, stripe)
+            """;
+
+    public static final String UPSERT_DAILY_SUMMARY = """
+            INSERT INTO account_daily_summaries (account_number, summary_date, transaction_type, stripe, inflow, outflow,
+                                                 credit_count, debit_count, closing_balance, closing_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (account_number, summary_date, transaction_type, stripe) DO UPDATE SET
+                inflow = account_daily_summaries.inflow + EXCLUDED.inflow,
+                outflow = account_daily_summaries.outflow + EXCLUDED.outflow,
+                credit_count = account_daily_summaries.credit_count + EXCLUDED.credit_count,
+                debit_count = account_daily_summaries.debit_count + EXCLUDED.debit_count,
+                closing_balance = CASE
+                    WHEN account_daily_summaries.closing_at IS NULL
+                         OR EXCLUDED.closing_at >= account_daily_summaries.closing_at
+                    THEN COALESCE(EXCLUDED.closing_balance, account_daily_summaries.closing_balance)
+                    ELSE account_daily_summaries.closing_balance
+                END,
+                closing_at = GREATEST(account_daily_summaries.closing_at, EXCLUDED.closing_at)
+            """;
+
+    public static final String SELECT_ACCOUNT_SUMMARIES_IN_RANGE = """
+            SELECT account_number, summary_date, transaction_type,
+                   SUM(inflow) AS inflow,
+                   SUM(outflow) AS outflow,
+                   SUM(credit_count) AS credit_count,
+                   SUM(debit_count) AS debit_count,
+                   (ARRAY_AGG(closing_balance ORDER BY closing_at DESC NULLS LAST))[1] AS closing_balance,
+                   MAX(closing_at) AS closing_at
+            FROM account_daily_summaries
+            WHERE account_number = ? AND summary_date >= ? AND summary_date <= ?
+            GROUP BY account_number, summary_date, transaction_type
+            ORDER BY summary_date, transaction_type
+            """;
+
+    public static final String SELECT_CLOSING_BALANCE_BEFORE = """
+            SELECT closing_balance FROM account_daily_summaries
+            WHERE account_number = ? AND summary_date < ? AND closing_at IS NOT NULL
+            ORDER BY summary_date DESC, closing_at DESC
+            LIMIT 1
+            """;
+
+    public static final String SELECT_ANY_SUMMARY = """
+            SELECT EXISTS (SELECT 1 FROM account_daily_summaries)
+            """;
+
+    public static final String LOCK_SUMMARY_DAY_SHARED = """
+            SELECT pg_advisory_xact_lock_shared(hashtext('daily-summary:' || ?))
+            """;
+
+    public static final String LOCK_SUMMARY_DAY = """
+            SELECT pg_advisory_xact_lock(hashtext('daily-summary:' || ?))
+            """;
+
+    public static final String DELETE_DAY_SUMMARIES = """
+            DELETE FROM account_daily_summaries WHERE summary_date = ?
+            """;
+
+    public static final String REBUILD_DAY_SUMMARIES = """
+            INSERT INTO account_daily_summaries (account_number, summary_date, transaction_type, inflow, outflow,
+                                                 credit_count, debit_count, closing_balance, closing_at)
+            SELECT account_number, ?, transaction_type,
+                   COALESCE(SUM(amount) FILTER (WHERE direction = 'CREDIT' AND status = 'COMPLETED'), 0),
+                   COALESCE(SUM(amount) FILTER (WHERE direction = 'DEBIT' AND status = 'COMPLETED'), 0),
+                   COUNT(*) FILTER (WHERE direction = 'CREDIT' AND status = 'COMPLETED'),
+                   COUNT(*) FILTER (WHERE direction = 'DEBIT' AND status = 'COMPLETED'),
+                   (ARRAY_AGG(balance_after ORDER BY posted_at DESC, id DESC) FILTER (WHERE balance_after IS NOT NULL))[1],
+                   MAX(posted_at) FILTER (WHERE balance_after IS NOT NULL)
+            FROM postings
+            WHERE posted_at >= ? AND posted_at < ?
+            GROUP BY account_number, transaction_type
+            """;
+}
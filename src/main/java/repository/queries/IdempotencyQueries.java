@@ -0,0 +1,55 @@
+package repository.queries;
+
+public final class IdempotencyQueries {
+
+    public static final String CREATE_IDEMPOTENCY_KEYS_TABLE = """
+            CREATE TABLE IF NOT EXISTS idempotency_keys (
+                idempotency_key VARCHAR(100) PRIMARY KEY,
+                request_hash VARCHAR(64) NOT NULL,
+                status_code INTEGER,
+                response_body TEXT,
+                created_at TIMESTAMP NOT NULL,
+                expires_at TIMESTAMP NOT NULL
+            )
+            """;
+
+    public static final String CREATE_IDEMPOTENCY_KEYS_EXPIRY_INDEX = """
+            CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires_at ON idempotency_keys (expires_at)
+            """;
+
+    public static final String SELECT_ACTIVE_IDEMPOTENCY_KEY = """
+            SELECT * FROM idempotency_keys
+            WHERE idempotency_key = ? AND expires_at > ?
+            """;
+
+    public static final String CLAIM_IDEMPOTENCY_KEY = """
+            INSERT INTO idempotency_keys (idempotency_key, request_hash, created_at, expires_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (idempotency_key) DO UPDATE
+            SET request_hash = EXCLUDED.request_hash, status_code = NULL, response_body = NULL,
+                created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at
+            WHERE idempotency_keys.expires_at <= EXCLUDED.created_at
+               OR (idempotency_keys.status_code IS NULL AND idempotency_keys.created_at <= ?)
+            """;
+
+    public static final String LOCK_IN_PROGRESS_IDEMPOTENCY_KEY = """
+            SELECT idempotency_key FROM idempotency_keys
+            WHERE idempotency_key = ? AND request_hash = ? AND status_code IS NULL
+            FOR UPDATE
+            """;
+
+    public static final String COMPLETE_IDEMPOTENCY_KEY = """
+            UPDATE idempotency_keys
+            SET status_code = ?, response_body = ?
+            WHERE idempotency_key = ? AND status_code IS NULL
+            """;
+
+    public static final String RELEASE_IDEMPOTENCY_KEY = """
+            DELETE FROM idempotency_keys
+            WHERE idempotency_key = ? AND status_code IS NULL
+            """;
+
+    public static final String DELETE_EXPIRED_IDEMPOTENCY_KEYS = """
+            DELETE FROM idempotency_keys WHERE expires_at <= ?
+            """;
+}
@@ -0,0 +1,149 @@
+package repository.queries;
+
+public final class PostingQueries {
+
+    public static final String CREATE_POSTINGS_TABLE = """
+            CREATE TABLE IF NOT EXISTS postings (
+                id BIGSERIAL PRIMARY KEY,
+                transaction_id VARCHAR(50) NOT NULL,
+                account_number VARCHAR(20) NOT NULL,
+                counterparty_account_number VARCHAR(20),
+                direction VARCHAR(6) NOT NULL,
+                amount NUMERIC(15, 2) NOT NULL,
+                balance_after NUMERIC(15, 2),
+                transaction_type VARCHAR(20) NOT NULL,
+                description VARCHAR(255),
+                status VARCHAR(20) NOT NULL,
+                posted_at TIMESTAMP NOT NULL
+            )
+            """;
+
+    public static final String CREATE_POSTINGS_ACCOUNT_INDEX = """
+            CREATE INDEX IF NOT EXISTS idx_postings_account_posted_at
+            ON postings (account_number, posted_at DESC, id DESC)
+            """;
+
+    public static final String CREATE_POSTINGS_TRANSACTION_INDEX = """
+            CREATE INDEX IF NOT EXISTS idx_postings_transaction_id
+            ON postings (transaction_id)
+            """;
+
+    public static final String CREATE_POSTINGS_POSTED_AT_INDEX = """
+            CREATE INDEX IF NOT EXISTS idx_postings_posted_at
+            ON postings (posted_at)
+            """;
+
+    public static final String SELECT_POSTINGS_LEG_KEY = """
+            SELECT to_regclass('uq_postings_transaction_leg') IS NOT NULL
+            """;
+
+    public static final String DELETE_DUPLICATE_POSTINGS = """
+            DELETE FROM postings p
+            USING postings q
+            WHERE p.transaction_id = q.transaction_id
+              AND p.account_number = q.account_number
+              AND p.direction = q.direction
+              AND p.id > q.id
+            """;
+
+    public static final String CREATE_POSTINGS_LEG_UNIQUE_INDEX = """
+            CREATE UNIQUE INDEX IF NOT EXISTS uq_postings_transaction_leg
+            ON postings (transaction_id, account_number, direction)
+            """;
+
+    public static final String BACKFILL_POSTINGS = """
+            INSERT INTO postings (transaction_id, account_number, counterparty_account_number, direction, amount,
+                                  balance_after, transaction_type, description, status, posted_at)
+            SELECT legs.transaction_id, legs.account_number, legs.counterparty_account_number, legs.direction,
+                   legs.amount,
+                   a.balance - COALESCE(SUM(legs.signed_amount) OVER (
+                       PARTITION BY legs.account_number
+                       ORDER BY legs.posted_at DESC, legs.id DESC
+                       ROWS BETWEEN UNBOUNDED PRECEDING AND 1 PRECEDING), 0),
+                   legs.transaction_type, legs.description, legs.status, legs.posted_at
+            FROM (
+                SELECT id, transaction_id, from_account_number AS account_number,
+                       to_account_number AS counterparty_account_number, 'DEBIT' AS direction, amount,
+                       -amount AS signed_amount, transaction_type, description, status, transaction_date AS posted_at
+                FROM transactions
+                WHERE from_account_number IS NOT NULL AND status = 'COMPLETED'
+                UNION ALL
+                SELECT id, transaction_id, to_account_number, from_account_number, 'CREDIT', amount,
+                       amount, transaction_type, description, status, transaction_date
+                FROM transactions
+                WHERE to_account_number IS NOT NULL AND status = 'COMPLETED'
+            ) legs
+            JOIN accounts a ON a.account_number = legs.account_number
+            WHERE NOT EXISTS (SELECT 1 FROM postings)
+            ORDER BY legs.posted_at, legs.id
+            ON CONFLICT (transaction_id, account_number, direction) DO NOTHING
+            """;
+
+    public static final String INSERT_POSTING_BATCH = """
+            INSERT INTO postings (transaction_id, account_number, counterparty_account_number, direction, amount,
+                                  balance_after, transaction_type, description, status, posted_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    public static final String INSERT_POSTING_IF_ABSENT = """
+            INSERT INTO postings (transaction_id, account_number, counterparty_account_number, direction, amount,
+                                  balance_after, transaction_type, description, status, posted_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (transaction_id, account_number, direction) DO NOTHING
+            """;
+
+    public static final String TRANSITION_POSTING_STATUS = """
+            UPDATE postings p
+            SET status = ?
+            FROM (
+                SELECT * FROM postings
+                WHERE transaction_id = ? AND status <> ?
+                FOR UPDATE
+            ) previous
+            WHERE p.id = previous.id
+            RETURNING previous.*
+            """;
+
+    public static final String SELECT_ACCOUNT_POSTINGS_FIRST_PAGE = """
+            SELECT * FROM postings
+            WHERE account_number = ?
+            ORDER BY posted_at DESC, id DESC
+            LIMIT ?
+            """;
+
+    public static final String SELECT_ACCOUNT_POSTINGS_NEXT_PAGE = """
+            SELECT * FROM postings
+            WHERE account_number = ? AND (posted_at, id) < (?, ?)
+            ORDER BY posted_at DESC, id DESC
+            LIMIT ?
+            """;
+
+    public static final String SELECT_ACCOUNT_POSTINGS_IN_RANGE = """
+            SELECT * FROM postings
+            WHERE account_number = ? AND posted_at >= ? AND posted_at < ?
+            ORDER BY posted_at, id
+            """;
+
+    public static final String SELECT_BALANCE_BEFORE = """
+            WITH anchor AS (
+                SELECT balance_after, posted_at, id FROM postings
+                WHERE account_number = ? AND posted_at < ? AND balance_after IS NOT NULL
+                ORDER BY posted_at DESC, id DESC
+                LIMIT 1
+            )
+            SELECT (SELECT balance_after FROM anchor) AS anchor_balance,
+                   COALESCE(SUM(CASE WHEN p.direction = 'CREDIT' THEN p.amount ELSE -p.amount END), 0) AS unanchored,
+                   COUNT(p.id) AS unanchored_count
+            FROM postings p
+            WHERE p.account_number = ? AND p.posted_at < ? AND p.balance_after IS NULL AND p.status = 'COMPLETED'
+              AND NOT EXISTS (SELECT 1 FROM anchor a WHERE (p.posted_at, p.id) <= (a.posted_at, a.id))
+            """;
+
+    public static final String DROP_BALANCE_AFTER_NOT_NULL = """
+            ALTER TABLE postings ALTER COLUMN balance_after DROP NOT NULL
+            """;
+
+    public static final String SELECT_OLDEST_POSTED_AT = """
+            SELECT MIN(posted_at) FROM postings
+            """;
+}
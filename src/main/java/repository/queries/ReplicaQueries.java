@@ -0,0 +1,15 @@
+package repository.queries;
+
+public final class ReplicaQueries {
+
+    public static final String SELECT_REPLICA_LAG_MILLIS = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(CAST(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000 AS BIGINT), 0)
+            END
+            """;
+
+    private ReplicaQueries() {
+    }
+}
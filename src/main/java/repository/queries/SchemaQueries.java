@@ -0,0 +1,38 @@
+package repository.queries;
+
+public final class SchemaQueries {
+
+    public static final String ACQUIRE_SCHEMA_LOCK = """
+            SELECT pg_advisory_lock(hashtext('banking-system-schema'))
+            """;
+
+    public static final String RELEASE_SCHEMA_LOCK = """
+            SELECT pg_advisory_unlock(hashtext('banking-system-schema'))
+            """;
+
+    public static final String ACQUIRE_SCHEMA_TRANSACTION_LOCK = """
+            SELECT pg_advisory_xact_lock(hashtext('banking-system-schema'))
+            """;
+
+    public static final String TRY_ACQUIRE_INDEX_LOCK = """
+            SELECT pg_try_advisory_lock(hashtext('banking-system-indexes'))
+            """;
+
+    public static final String RELEASE_INDEX_LOCK = """
+            SELECT pg_advisory_unlock(hashtext('banking-system-indexes'))
+            """;
+
+    public static final String SELECT_INDEX_VALIDITY = """
+            SELECT i.indisvalid FROM pg_index i
+            JOIN pg_class c ON c.oid = i.indexrelid
+            WHERE c.relname = ?
+            """;
+
+    public static final String DROP_INDEX_CONCURRENTLY = """
+            DROP INDEX CONCURRENTLY IF EXISTS %s
+            """;
+
+    private SchemaQueries() {
+        throw new UnsupportedOperationException("This is a utility class");
+    }
+}
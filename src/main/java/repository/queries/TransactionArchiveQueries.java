@@ -0,0 +1,72 @@
+package repository.queries;
+
+public final class TransactionArchiveQueries {
+
+    public static final String SELECT_OLDEST_TRANSACTION_DATE = """
+            SELECT MIN(transaction_date) FROM %s
+            """;
+
+    public static final String SELECT_MONTH_FOR_ARCHIVE = """
+            SELECT t.*, debit.balance_after AS from_balance_after, credit.balance_after AS to_balance_after
+            FROM %s t
+            LEFT JOIN postings debit
+                   ON debit.transaction_id = t.transaction_id AND debit.direction = 'DEBIT'
+            LEFT JOIN postings credit
+                   ON credit.transaction_id = t.transaction_id AND credit.direction = 'CREDIT'
+            WHERE t.transaction_date >= ? AND t.transaction_date < ?
+            ORDER BY t.transaction_date, t.id
+            """;
+
+    public static final String LOCK_MONTH_FOR_ARCHIVE = """
+            SELECT t.*, debit.balance_after AS from_balance_after, credit.balance_after AS to_balance_after
+            FROM %s t
+            LEFT JOIN postings debit
+                   ON debit.transaction_id = t.transaction_id AND debit.direction = 'DEBIT'
+            LEFT JOIN postings credit
+                   ON credit.transaction_id = t.transaction_id AND credit.direction = 'CREDIT'
+            WHERE t.transaction_date >= ? AND t.transaction_date < ?
+            FOR SHARE OF t
+            """;
+
+    public static final String SELECT_DETACHED_PARTITIONS = """
+            SELECT relname FROM pg_class
+            WHERE relkind = 'r' AND NOT relispartition
+              AND (relname LIKE 'transactions\\_p%' OR relname = 'transactions_legacy')
+            ORDER BY relname
+            """;
+
+    public static final String DELETE_ARCHIVED_BATCH = """
+            WITH batch AS (
+                SELECT id, transaction_id FROM %s
+                WHERE transaction_date >= ? AND transaction_date < ? AND id > ? AND id <= ?
+                ORDER BY id
+                LIMIT ?
+            ), removed_postings AS (
+                DELETE FROM postings WHERE transaction_id IN (SELECT transaction_id FROM batch)
+            ), removed_transactions AS (
+                DELETE FROM %s
+                WHERE transaction_date >= ? AND transaction_date < ? AND id IN (SELECT id FROM batch)
+            )
+            SELECT MAX(id) FROM batch
+            """;
+
+    public static final String DELETE_ARCHIVED_POSTINGS_BATCH = """
+            WITH batch AS (
+                SELECT id, transaction_id FROM %s
+                WHERE transaction_date >= ? AND transaction_date < ? AND id > ? AND id <= ?
+                ORDER BY id
+                LIMIT ?
+            ), removed_postings AS (
+                DELETE FROM postings WHERE transaction_id IN (SELECT transaction_id FROM batch)
+            )
+            SELECT MAX(id) FROM batch
+            """;
+
+    public static final String DETACH_ARCHIVED_PARTITION = """
+            ALTER TABLE transactions DETACH PARTITION %s
+            """;
+
+    public static final String DROP_DETACHED_PARTITION = """
+            DROP TABLE %s
+            """;
+}
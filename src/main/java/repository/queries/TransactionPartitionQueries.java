@@ -0,0 +1,94 @@
+package repository.queries;
+
+public final class TransactionPartitionQueries {
+
+    public static final String SELECT_TRANSACTIONS_RELKIND = """
+            SELECT relkind::text FROM pg_class WHERE oid = to_regclass('transactions')
+            """;
+
+    public static final String CREATE_PARTITIONED_TRANSACTIONS_TABLE = """
+            CREATE TABLE transactions (
+                id BIGSERIAL,
+                transaction_id VARCHAR(50) NOT NULL,
+                from_account_number VARCHAR(20),
+                to_account_number VARCHAR(20),
+                amount NUMERIC(15, 2) NOT NULL,
+                transaction_type VARCHAR(20) NOT NULL,
+                description VARCHAR(255),
+                transaction_date TIMESTAMP NOT NULL,
+                status VARCHAR(20) NOT NULL,
+                PRIMARY KEY (id, transaction_date),
+                UNIQUE (transaction_id, transaction_date)
+            ) PARTITION BY RANGE (transaction_date)
+            """;
+
+    public static final String CREATE_TRANSACTIONS_DATE_INDEX = """
+            CREATE INDEX IF NOT EXISTS idx_transactions_transaction_date
+            ON transactions (transaction_date)
+            """;
+
+    public static final String CREATE_TRANSACTIONS_STATUS_DATE_INDEX = """
+            CREATE INDEX IF NOT EXISTS idx_transactions_status_transaction_date
+            ON transactions (status, transaction_date)
+            """;
+
+    public static final String RENAME_TRANSACTIONS_TO_LEGACY = """
+            ALTER TABLE transactions RENAME TO transactions_legacy
+            """;
+
+    public static final String CREATE_PARTITIONED_TRANSACTIONS_LIKE_LEGACY = """
+            CREATE TABLE transactions (LIKE transactions_legacy INCLUDING DEFAULTS)
+            PARTITION BY RANGE (transaction_date)
+            """;
+
+    public static final String ADD_TRANSACTIONS_PRIMARY_KEY = """
+            ALTER TABLE transactions ADD PRIMARY KEY (id, transaction_date)
+            """;
+
+    public static final String ADD_TRANSACTIONS_UNIQUE_TRANSACTION_ID = """
+            ALTER TABLE transactions ADD UNIQUE (transaction_id, transaction_date)
+            """;
+
+    public static final String SELECT_LEGACY_ID_SEQUENCE = """
+            SELECT pg_get_serial_sequence('transactions_legacy', 'id')
+            """;
+
+    public static final String TRANSFER_ID_SEQUENCE_OWNERSHIP = """
+            ALTER SEQUENCE %s OWNED BY transactions.id
+            """;
+
+    public static final String SELECT_LEGACY_MAX_TRANSACTION_DATE = """
+            SELECT MAX(transaction_date) FROM transactions_legacy
+            """;
+
+    public static final String SET_LEGACY_TRANSACTION_DATE_NOT_NULL = """
+            ALTER TABLE transactions_legacy ALTER COLUMN transaction_date SET NOT NULL
+            """;
+
+    public static final String ATTACH_LEGACY_PARTITION = """
+            ALTER TABLE transactions ATTACH PARTITION transactions_legacy
+            FOR VALUES FROM (MINVALUE) TO ('%s')
+            """;
+
+    public static final String SELECT_TRANSACTION_PARTITIONS = """
+            SELECT child.relname AS partition_name,
+                   pg_get_expr(child.relpartbound, child.oid) AS partition_bound,
+                   inh.inhdetachpending AS detach_pending
+            FROM pg_inherits inh
+            JOIN pg_class child ON child.oid = inh.inhrelid
+            WHERE inh.inhparent = 'transactions'::regclass
+            """;
+
+    public static final String CREATE_TRANSACTION_PARTITION = """
+            CREATE TABLE IF NOT EXISTS %s PARTITION OF transactions
+            FOR VALUES FROM ('%s') TO ('%s')
+            """;
+
+    public static final String DETACH_TRANSACTION_PARTITION = """
+            ALTER TABLE transactions DETACH PARTITION %s CONCURRENTLY
+            """;
+
+    public static final String FINALIZE_TRANSACTION_PARTITION_DETACH = """
+            ALTER TABLE transactions DETACH PARTITION %s FINALIZE
+            """;
+}
@@ -6,8 +6,31 @@ public final class TransactionQueries {
             INSERT INTO transactions (transaction_id, from_account_number, to_account_number, 
                                     amount, transaction_type, description, transaction_date, status) 
             VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            RETURNING *
             """;
 
+    public static final String INSERT_TRANSACTION_BATCH = """
+            INSERT INTO transactions (transaction_id, from_account_number, to_account_number, 
+                                    amount, transaction_type, description, transaction_date, status) 
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    public static final String INSERT_TRANSACTION_IF_ABSENT = """
+            INSERT INTO transactions (transaction_id, from_account_number, to_account_number, 
+                                    amount, transaction_type, description, transaction_date, status) 
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    public static final String INSERT_TRANSACTIONS_MULTI_ROW = """
+            INSERT INTO transactions (transaction_id, from_account_number, to_account_number, 
+                                    amount, transaction_type, description, transaction_date, status) 
+            VALUES %s
+            RETURNING *
+            """;
+
+    public static final String TRANSACTION_VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?, ?)";
+
     public static final String SELECT_TRANSACTION_BY_ID = """
             SELECT * FROM transactions WHERE id = ?
             """;
@@ -16,6 +39,11 @@ public final class TransactionQueries {
             SELECT * FROM transactions WHERE transaction_id = ?
             """;
 
+    public static final String SELECT_TRANSACTION_BY_TRANSACTION_ID_IN_RANGE = """
+            SELECT * FROM transactions
+            WHERE transaction_id = ? AND transaction_date >= ? AND transaction_date < ?
+            """;
+
     public static final String SELECT_TRANSACTIONS_BY_ACCOUNT = """
             SELECT * FROM transactions 
             WHERE from_account_number = ? OR to_account_number = ? 
@@ -40,6 +68,12 @@ public final class TransactionQueries {
             WHERE transaction_id = ?
             """;
 
+    public static final String UPDATE_TRANSACTION_STATUS_IN_RANGE = """
+            UPDATE transactions
+            SET status = ?
+            WHERE transaction_id = ? AND transaction_date >= ? AND transaction_date < ?
+            """;
+
     public static final String SELECT_ALL_TRANSACTIONS = """
             SELECT * FROM transactions 
             ORDER BY transaction_date DESC
@@ -0,0 +1,21 @@
+package repository.routing;
+
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> ACTIVE = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private ReadYourWrites() {
+    }
+
+    public static void enable() {
+        ACTIVE.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        ACTIVE.remove();
+    }
+
+    public static boolean isActive() {
+        return ACTIVE.get();
+    }
+}
@@ -0,0 +1,114 @@
+package repository.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import repository.queries.ReplicaQueries;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+
+    private static final long UNKNOWN_LAG = Long.MAX_VALUE;
+
+    private final Map<String, HikariDataSource> replicas;
+    private final List<String> replicaKeys;
+    private final Map<String, JdbcTemplate> lagProbes = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> replicaLagMillis = new LinkedHashMap<>();
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final long maxLagMillis;
+    private final Counter primaryFallbacks;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, HikariDataSource> replicas,
+                                    long maxLagMillis, MeterRegistry meterRegistry) {
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.replicaKeys = List.copyOf(this.replicas.keySet());
+        this.maxLagMillis = maxLagMillis;
+
+        Map<Object, Object> targets = new HashMap<>(this.replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        this.replicas.forEach((key, replica) -> {
+            AtomicLong lag = new AtomicLong(UNKNOWN_LAG);
+            replicaLagMillis.put(key, lag);
+            lagProbes.put(key, new JdbcTemplate(replica));
+            Gauge.builder("datasource.replica.lag", lag, value -> value.get() == UNKNOWN_LAG ? Double.NaN : value.get())
+                    .tag("replica", key)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        });
+        this.primaryFallbacks = Counter.builder("datasource.replica.fallback").register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        refreshReplicaLag();
+    }
+
+    public boolean routesToReplica() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !ReadYourWrites.isActive()
+                && !replicaKeys.isEmpty();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!routesToReplica()) {
+            return PRIMARY;
+        }
+
+        int start = Math.floorMod(cursor.getAndIncrement(), replicaKeys.size());
+        for (int i = 0; i < replicaKeys.size(); i++) {
+            String key = replicaKeys.get((start + i) % replicaKeys.size());
+            if (replicaLagMillis.get(key).get() <= maxLagMillis) {
+                return key;
+            }
+        }
+
+        primaryFallbacks.increment();
+        return PRIMARY;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval-ms:1000}")
+    public void refreshReplicaLag() {
+        lagProbes.forEach((key, probe) -> {
+            long lag;
+            try {
+                Long measured = probe.queryForObject(ReplicaQueries.SELECT_REPLICA_LAG_MILLIS, Long.class);
+                lag = measured != null ? measured : UNKNOWN_LAG;
+            } catch (DataAccessException e) {
+                log.warn("Replica lag check failed - Replica: {}, Error: {}", key, e.getMessage());
+                lag = UNKNOWN_LAG;
+            }
+
+            long previous = replicaLagMillis.get(key).getAndSet(lag);
+            if ((previous <= maxLagMillis) != (lag <= maxLagMillis)) {
+                log.info("Replica {} for reads - Replica: {}, Lag: {} ms",
+                        lag <= maxLagMillis ? "enabled" : "disabled", key, lag == UNKNOWN_LAG ? "unknown" : lag);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        replicas.values().forEach(HikariDataSource::close);
+    }
+}
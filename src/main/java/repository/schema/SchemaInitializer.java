@@ -0,0 +1,177 @@
+package repository.schema;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import repository.queries.AccountQueries;
+import repository.queries.CustomerQueries;
+import repository.queries.DailySummaryQueries;
+import repository.queries.IdempotencyQueries;
+import repository.queries.PostingQueries;
+import repository.queries.SchemaQueries;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SchemaInitializer {
+
+    private static final List<String> TABLES = List.of(
+            AccountQueries.CREATE_ACCOUNT_BALANCE_STRIPES_TABLE,
+            PostingQueries.CREATE_POSTINGS_TABLE,
+            PostingQueries.CREATE_POSTINGS_ACCOUNT_INDEX,
+            PostingQueries.CREATE_POSTINGS_TRANSACTION_INDEX,
+            PostingQueries.CREATE_POSTINGS_POSTED_AT_INDEX,
+            DailySummaryQueries.CREATE_DAILY_SUMMARIES_TABLE,
+            IdempotencyQueries.CREATE_IDEMPOTENCY_KEYS_TABLE,
+            IdempotencyQueries.CREATE_IDEMPOTENCY_KEYS_EXPIRY_INDEX
+    );
+
+    private static final List<String> CONSTRAINTS = List.of(
+            CustomerQueries.CREATE_CUSTOMERS_ACTIVE_EMAIL_UNIQUE_INDEX,
+            CustomerQueries.CREATE_CUSTOMERS_ACTIVE_NATIONAL_ID_UNIQUE_INDEX
+    );
+
+    private static final Map<String, String> INDEXES = Map.of(
+            "idx_accounts_created_at_id", AccountQueries.CREATE_ACCOUNTS_CREATED_INDEX,
+            "idx_accounts_type_created_at_id", AccountQueries.CREATE_ACCOUNTS_TYPE_CREATED_INDEX,
+            "idx_customers_created_at_id", CustomerQueries.CREATE_CUSTOMERS_CREATED_INDEX
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void initialize() {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(SchemaQueries.ACQUIRE_SCHEMA_LOCK);
+                try {
+                    for (String ddl : TABLES) {
+                        statement.execute(ddl);
+                    }
+                    migratePostings(statement);
+                    migrateDailySummaries(statement);
+                    for (String ddl : CONSTRAINTS) {
+                        try {
+                            statement.execute(ddl);
+                        } catch (SQLException e) {
+                            log.error("Schema constraint could not be created - DDL: {}, Error: {}",
+                                    ddl.strip(), e.getMessage());
+                        }
+                    }
+                } finally {
+                    statement.execute(SchemaQueries.RELEASE_SCHEMA_LOCK);
+                }
+            }
+            return null;
+        });
+        log.info("Schema initialized - Tables: {}, Constraints: {}", TABLES.size(), CONSTRAINTS.size());
+    }
+
+    private void migratePostings(Statement statement) throws SQLException {
+        boolean keyed;
+        try (ResultSet rs = statement.executeQuery(PostingQueries.SELECT_POSTINGS_LEG_KEY)) {
+            keyed = rs.next() && rs.getBoolean(1);
+        }
+        if (!keyed) {
+            int removed = statement.executeUpdate(PostingQueries.DELETE_DUPLICATE_POSTINGS);
+            statement.execute(PostingQueries.CREATE_POSTINGS_LEG_UNIQUE_INDEX);
+            log.info("Postings keyed by transaction leg - Duplicates removed: {}", removed);
+        }
+        statement.execute(PostingQueries.DROP_BALANCE_AFTER_NOT_NULL);
+
+        int backfilled = statement.executeUpdate(PostingQueries.BACKFILL_POSTINGS);
+        if (backfilled > 0) {
+            log.info("Postings backfilled from transactions: {}", backfilled);
+        }
+    }
+
+    private void migrateDailySummaries(Statement statement) throws SQLException {
+        try (ResultSet rs = statement.executeQuery(DailySummaryQueries.SELECT_SUMMARY_KEY_STRIPED)) {
+            if (rs.next() && rs.getBoolean(1)) {
+                return;
+            }
+        }
+        statement.execute(DailySummaryQueries.ADD_SUMMARY_STRIPE_COLUMN);
+        statement.execute(DailySummaryQueries.DROP_SUMMARY_PRIMARY_KEY);
+        statement.execute(DailySummaryQueries.ADD_STRIPED_SUMMARY_PRIMARY_KEY);
+        log.info("Daily summaries keyed by stripe");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndexesInBackground() {
+        Thread builder = new Thread(this::buildIndexes, "schema-index-builder");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    private void buildIndexes() {
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                if (!tryLock(connection)) {
+                    log.info("Index build skipped - another node holds the index lock");
+                    return null;
+                }
+                try (Statement statement = connection.createStatement()) {
+                    try {
+                        for (Map.Entry<String, String> index : INDEXES.entrySet()) {
+                            ensureIndex(connection, statement, index.getKey(), index.getValue());
+                        }
+                    } finally {
+                        statement.execute(SchemaQueries.RELEASE_INDEX_LOCK);
+                    }
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.error("Index build failed - Error: {}", e.getMessage(), e);
+        }
+    }
+
+    private void ensureIndex(Connection connection, Statement statement, String name, String ddl) {
+        try {
+            Boolean valid = indexValidity(connection, name);
+            if (Boolean.TRUE.equals(valid)) {
+                return;
+            }
+            if (valid != null) {
+                log.warn("Dropping invalid index left by an interrupted build - Index: {}", name);
+                statement.execute(SchemaQueries.DROP_INDEX_CONCURRENTLY.formatted(name));
+            }
+
+            long startNanos = System.nanoTime();
+            statement.execute(ddl);
+            log.info("Index built - Index: {}, Duration: {} ms", name, (System.nanoTime() - startNanos) / 1_000_000);
+        } catch (SQLException e) {
+            log.error("Index could not be built - Index: {}, Error: {}", name, e.getMessage());
+        }
+    }
+
+    private static boolean tryLock(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(SchemaQueries.TRY_ACQUIRE_INDEX_LOCK)) {
+            return rs.next() && rs.getBoolean(1);
+        }
+    }
+
+    private static Boolean indexValidity(Connection connection, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SchemaQueries.SELECT_INDEX_VALIDITY)) {
+            statement.setString(1, name);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? rs.getBoolean(1) : null;
+            }
+        }
+    }
+}
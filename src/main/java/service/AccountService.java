@@ -5,7 +5,11 @@ import model.dto.request.DepositRequest;
 import model.dto.request.WithdrawRequest;
 import model.dto.response.AccountResponse;
 import model.dto.response.BalanceResponse;
+import model.dto.response.CursorPageResponse;
+import model.dto.response.DailySummaryResponse;
+import model.dto.response.PeriodSummaryResponse;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface AccountService {
@@ -15,11 +19,23 @@ public interface AccountService {
 
     List<AccountResponse> getAccountsByCustomerId(String customerId);
 
+    CursorPageResponse<AccountResponse> getAccounts(String accountType, Boolean active, String cursor, int limit);
+
     BalanceResponse getBalance(String accountNumber);
 
+    BalanceResponse getBalanceAsOf(String accountNumber, LocalDate asOf);
+
+    List<DailySummaryResponse> getDailySummaries(String accountNumber, LocalDate from, LocalDate to);
+
+    PeriodSummaryResponse getPeriodSummary(String accountNumber, LocalDate from, LocalDate to);
+
     AccountResponse deposit(DepositRequest request);
 
     AccountResponse withdraw(WithdrawRequest request);
 
     void deactivateAccount(String accountNumber);
+
+    void enableStriping(String accountNumber, int stripeCount);
+
+    void disableStriping(String accountNumber);
 }
\ No newline at end of file
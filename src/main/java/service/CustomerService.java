@@ -2,10 +2,9 @@ package service;
 
 import model.dto.request.CreateCustomerRequest;
 import model.dto.request.UpdateCustomerRequest;
+import model.dto.response.CursorPageResponse;
 import model.dto.response.CustomerResponse;
 
-import java.util.List;
-
 public interface CustomerService {
     CustomerResponse createCustomer(CreateCustomerRequest request);
 
@@ -17,7 +16,7 @@ public interface CustomerService {
 
     void deactivateCustomer(String customerId);
 
-    List<CustomerResponse> getAllActiveCustomers();
+    CursorPageResponse<CustomerResponse> getCustomers(Boolean active, String cursor, int limit);
 
     boolean isEmailAvailable(String email);
 
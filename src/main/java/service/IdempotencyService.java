@@ -0,0 +1,11 @@
+package service;
+
+import model.dto.response.ApiResponse;
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+public interface IdempotencyService {
+    <T> ResponseEntity<ApiResponse<T>> execute(String idempotencyKey, Object request, Class<T> dataType,
+                                               Supplier<ResponseEntity<ApiResponse<T>>> operation);
+}
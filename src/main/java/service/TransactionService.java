@@ -1,22 +1,35 @@
 package service;
 
+import model.dto.request.BatchTransferRequest;
 import model.dto.request.TransferRequest;
+import model.dto.response.BatchTransferResponse;
+import model.dto.response.CursorPageResponse;
 import model.dto.response.TransactionResponse;
+import model.dto.response.TransactionStatsResponse;
 import model.dto.response.TransferResponse;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface TransactionService {
     TransferResponse transferMoney(TransferRequest request);
 
+    BatchTransferResponse transferMoneyBatch(BatchTransferRequest request);
+
     TransactionResponse getTransactionById(String transactionId);
 
-    List<TransactionResponse> getAccountTransactionHistory(String accountNumber, int limit);
+    CursorPageResponse<TransactionResponse> getAccountTransactionHistory(String accountNumber, String cursor, int limit);
 
     List<TransactionResponse> getTransactionsByDateRange(LocalDateTime startDate, LocalDateTime endDate);
 
     List<TransactionResponse> getTransactionsByStatus(String status);
 
+    void streamTransactionsByDateRange(LocalDateTime startDate, LocalDateTime endDate, Consumer<TransactionResponse> sink);
+
+    void streamTransactionsByStatus(String status, Consumer<TransactionResponse> sink);
+
     boolean updateTransactionStatus(String transactionId, String status);
+
+    TransactionStatsResponse getTransactionStats();
 }
\ No newline at end of file
@@ -7,17 +7,37 @@ import model.dto.request.DepositRequest;
 import model.dto.request.WithdrawRequest;
 import model.dto.response.AccountResponse;
 import model.dto.response.BalanceResponse;
+import model.dto.response.CursorPageResponse;
+import model.dto.response.DailySummaryResponse;
+import model.dto.response.PeriodSummaryResponse;
 import model.entity.Account;
+import model.entity.DailyAccountSummary;
+import model.entity.Posting;
 import model.entity.Transaction;
+import model.exception.AccountNotFoundException;
+import model.exception.DomainException;
+import model.exception.InsufficientBalanceException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import repository.AccountRepository;
+import repository.DailySummaryRepository;
+import repository.PostingRepository;
 import repository.TransactionRepository;
 import service.AccountService;
+import utils.AccountNumberGenerator;
+import utils.KeysetCursor;
+import utils.TransactionIdGenerator;
+import utils.TransactionStats;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,12 +48,26 @@ public class AccountServiceImpl implements AccountService {
 
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
+    private final PostingRepository postingRepository;
+    private final DailySummaryRepository dailySummaryRepository;
+    private final AccountNumberGenerator accountNumberGenerator;
+    private final TransactionIdGenerator transactionIdGenerator;
+    private final TransactionStats transactionStats;
+
+    private static final int MIN_STRIPES = 2;
+    private static final int MAX_STRIPES = 64;
+
+    @Value("${listing.max-page-size:100}")
+    private int maxPageSize;
+
+    @Value("${account.summary.max-days:366}")
+    private int maxSummaryDays;
 
     @Override
     public AccountResponse createAccount(CreateAccountRequest request) {
         validateCreateAccountRequest(request);
 
-        String accountNumber = generateAccountNumber();
+        String accountNumber = accountNumberGenerator.nextAccountNumber();
 
         Account account = Account.builder()
                 .accountNumber(accountNumber)
@@ -46,7 +80,8 @@ public class AccountServiceImpl implements AccountService {
         Account savedAccount = accountRepository.save(account);
 
         if (request.getInitialBalance() != null && request.getInitialBalance().compareTo(BigDecimal.ZERO) > 0) {
-            createDepositTransaction(accountNumber, request.getInitialBalance(), "Initial deposit");
+            createDepositTransaction(accountNumber, request.getInitialBalance(), "Initial deposit",
+                    savedAccount.getBalance());
         }
 
         log.info("New account created - Customer: {}, Account: {}", request.getCustomerId(), accountNumber);
@@ -55,14 +90,18 @@ public class AccountServiceImpl implements AccountService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public AccountResponse getAccountByNumber(String accountNumber) {
+        requireValidAccountNumber(accountNumber);
+
         Account account = accountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new RuntimeException("Account not found: " + accountNumber));
+                .orElseThrow(() -> new AccountNotFoundException(accountNumber));
 
         return mapToAccountResponse(account);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<AccountResponse> getAccountsByCustomerId(String customerId) {
         return accountRepository.findByCustomerId(customerId)
                 .stream()
@@ -71,9 +110,28 @@ public class AccountServiceImpl implements AccountService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<AccountResponse> getAccounts(String accountType, Boolean active, String cursor, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = Math.min(limit, maxPageSize);
+        String type = accountType == null || accountType.isBlank() ? null : accountType.trim();
+
+        List<Account> rows = accountRepository.findPage(type, active, after, pageSize + 1);
+        return CursorPageResponse.fromRows(rows, pageSize, this::mapToAccountResponse,
+                account -> new KeysetCursor(account.getCreatedAt(), account.getId()).encode());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public BalanceResponse getBalance(String accountNumber) {
+        requireValidAccountNumber(accountNumber);
+
         Account account = accountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new RuntimeException("Account not found: " + accountNumber));
+                .orElseThrow(() -> new AccountNotFoundException(accountNumber));
 
         return BalanceResponse.builder()
                 .accountNumber(accountNumber)
@@ -84,70 +142,160 @@ public class AccountServiceImpl implements AccountService {
     }
 
     @Override
-    @Transactional
-    public AccountResponse deposit(DepositRequest request) {
-        validateDepositRequest(request);
-
-        Account account = accountRepository.findByAccountNumber(request.getAccountNumber())
-                .orElseThrow(() -> new RuntimeException("Account not found: " + request.getAccountNumber()));
-
-        BigDecimal newBalance = account.getBalance().add(request.getAmount());
-        boolean updated = accountRepository.updateBalance(request.getAccountNumber(), newBalance);
-
-        if (!updated) {
-            throw new RuntimeException("Balance update failed");
+    @Transactional(readOnly = true)
+    public BalanceResponse getBalanceAsOf(String accountNumber, LocalDate asOf) {
+        requireValidAccountNumber(accountNumber);
+        if (asOf == null) {
+            throw new IllegalArgumentException("As-of date is required");
         }
 
-        createDepositTransaction(request.getAccountNumber(), request.getAmount(), request.getDescription());
+        Account account = accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException(accountNumber));
 
-        Account updatedAccount = accountRepository.findByAccountNumber(request.getAccountNumber())
-                .orElseThrow(() -> new RuntimeException("Updated account information could not be retrieved"));
+        LocalDateTime endOfDay = asOf.plusDays(1).atStartOfDay();
+        return BalanceResponse.builder()
+                .accountNumber(accountNumber)
+                .balance(postingRepository.findBalanceBefore(accountNumber, endOfDay).orElse(BigDecimal.ZERO))
+                .accountType(account.getAccountType())
+                .lastUpdated(endOfDay.minusSeconds(1))
+                .build();
+    }
 
-        log.info("Deposit completed - Account: {}, Amount: {}",
-                request.getAccountNumber(), request.getAmount());
+    @Override
+    @Transactional(readOnly = true)
+    public List<DailySummaryResponse> getDailySummaries(String accountNumber, LocalDate from, LocalDate to) {
+        requireSummaryRange(accountNumber, from, to);
 
-        return mapToAccountResponse(updatedAccount);
+        return toDailySummaries(dailySummaryRepository.findByAccountAndDateRange(accountNumber, from, to));
     }
 
     @Override
-    @Transactional
-    public AccountResponse withdraw(WithdrawRequest request) {
-        validateWithdrawRequest(request);
-
-        Account account = accountRepository.findByAccountNumber(request.getAccountNumber())
-                .orElseThrow(() -> new RuntimeException("Account not found: " + request.getAccountNumber()));
+    @Transactional(readOnly = true)
+    public PeriodSummaryResponse getPeriodSummary(String accountNumber, LocalDate from, LocalDate to) {
+        requireSummaryRange(accountNumber, from, to);
+
+        Map<String, BigDecimal> inflowByType = new TreeMap<>();
+        Map<String, BigDecimal> outflowByType = new TreeMap<>();
+        Map<String, Long> countByType = new TreeMap<>();
+        List<DailyAccountSummary> summaries = dailySummaryRepository.findByAccountAndDateRange(accountNumber, from, to);
+        for (DailyAccountSummary summary : summaries) {
+            inflowByType.merge(summary.getTransactionType(), summary.getInflow(), BigDecimal::add);
+            outflowByType.merge(summary.getTransactionType(), summary.getOutflow(), BigDecimal::add);
+            countByType.merge(summary.getTransactionType(), summary.getCreditCount() + summary.getDebitCount(), Long::sum);
+        }
 
-        if (account.getBalance().compareTo(request.getAmount()) < 0) {
-            throw new RuntimeException("Insufficient balance. Current balance: " + account.getBalance());
+        List<DailySummaryResponse> days = toDailySummaries(summaries);
+        BigDecimal openingBalance = dailySummaryRepository.findClosingBalanceBefore(accountNumber, from)
+                .orElse(BigDecimal.ZERO);
+        BigDecimal closingBalance = openingBalance;
+        for (DailySummaryResponse day : days) {
+            if (day.getClosingBalance() != null) {
+                closingBalance = day.getClosingBalance();
+            }
         }
 
-        BigDecimal newBalance = account.getBalance().subtract(request.getAmount());
-        boolean updated = accountRepository.updateBalance(request.getAccountNumber(), newBalance);
+        BigDecimal totalInflow = inflowByType.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalOutflow = outflowByType.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        return PeriodSummaryResponse.builder()
+                .accountNumber(accountNumber)
+                .from(from)
+                .to(to)
+                .openingBalance(openingBalance)
+                .closingBalance(closingBalance)
+                .totalInflow(totalInflow)
+                .totalOutflow(totalOutflow)
+                .netChange(totalInflow.subtract(totalOutflow))
+                .transactionCount(countByType.values().stream().mapToLong(Long::longValue).sum())
+                .activeDays(days.size())
+                .inflowByType(inflowByType)
+                .outflowByType(outflowByType)
+                .countByType(countByType)
+                .build();
+    }
 
-        if (!updated) {
-            throw new RuntimeException("Balance update failed");
+    @Override
+    @Transactional
+    public AccountResponse deposit(DepositRequest request) {
+        try {
+            validateDepositRequest(request);
+
+            Account updatedAccount = accountRepository.creditBalance(request.getAccountNumber(), request.getAmount())
+                    .orElseThrow(() -> new AccountNotFoundException(request.getAccountNumber()));
+
+            createDepositTransaction(request.getAccountNumber(), request.getAmount(), request.getDescription(),
+                    updatedAccount.getBalance());
+
+            log.info("Deposit completed - Account: {}, Amount: {}",
+                    request.getAccountNumber(), request.getAmount());
+
+            transactionStats.record("DEPOSIT", request.getAmount(), true);
+            if (updatedAccount.getBalance() == null) {
+                updatedAccount = accountRepository.findByAccountNumber(request.getAccountNumber())
+                        .orElse(updatedAccount);
+            }
+            return mapToAccountResponse(updatedAccount);
+        } catch (RuntimeException e) {
+            transactionStats.record("DEPOSIT", request.getAmount(), false);
+            throw e;
         }
+    }
+
+    @Override
+    @Transactional
+    public AccountResponse withdraw(WithdrawRequest request) {
+        try {
+            validateWithdrawRequest(request);
 
-        createWithdrawTransaction(request.getAccountNumber(), request.getAmount(), request.getDescription());
+            Account updatedAccount = accountRepository.debitBalance(request.getAccountNumber(), request.getAmount())
+                    .orElseThrow(() -> withdrawFailure(request));
 
-        Account updatedAccount = accountRepository.findByAccountNumber(request.getAccountNumber())
-                .orElseThrow(() -> new RuntimeException("Updated account information could not be retrieved"));
+            createWithdrawTransaction(request.getAccountNumber(), request.getAmount(), request.getDescription(),
+                    updatedAccount.getBalance());
 
-        log.info("Withdrawal completed - Account: {}, Amount: {}",
-                request.getAccountNumber(), request.getAmount());
+            log.info("Withdrawal completed - Account: {}, Amount: {}",
+                    request.getAccountNumber(), request.getAmount());
 
-        return mapToAccountResponse(updatedAccount);
+            transactionStats.record("WITHDRAW", request.getAmount(), true);
+            return mapToAccountResponse(updatedAccount);
+        } catch (RuntimeException e) {
+            transactionStats.record("WITHDRAW", request.getAmount(), false);
+            throw e;
+        }
     }
 
     @Override
     public void deactivateAccount(String accountNumber) {
+        requireValidAccountNumber(accountNumber);
+
         Account account = accountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new RuntimeException("Account not found: " + accountNumber));
+                .orElseThrow(() -> new AccountNotFoundException(accountNumber));
 
         accountRepository.deleteById(account.getId());
         log.info("Account deactivated: {}", accountNumber);
     }
 
+    @Override
+    public void enableStriping(String accountNumber, int stripeCount) {
+        requireValidAccountNumber(accountNumber);
+        if (stripeCount < MIN_STRIPES || stripeCount > MAX_STRIPES) {
+            throw new IllegalArgumentException("Stripe count must be between " + MIN_STRIPES + " and " + MAX_STRIPES);
+        }
+
+        if (!accountRepository.enableStriping(accountNumber, stripeCount)) {
+            throw new AccountNotFoundException(accountNumber);
+        }
+        log.info("Account striping enabled - Account: {}, Stripes: {}", accountNumber, stripeCount);
+    }
+
+    @Override
+    public void disableStriping(String accountNumber) {
+        requireValidAccountNumber(accountNumber);
+        if (!accountRepository.disableStriping(accountNumber)) {
+            throw new AccountNotFoundException(accountNumber);
+        }
+        log.info("Account striping disabled - Account: {}", accountNumber);
+    }
+
     private void validateCreateAccountRequest(CreateAccountRequest request) {
         if (request.getCustomerId() == null || request.getCustomerId().trim().isEmpty()) {
             throw new IllegalArgumentException("Customer ID is required");
@@ -161,26 +309,52 @@ public class AccountServiceImpl implements AccountService {
     }
 
     private void validateDepositRequest(DepositRequest request) {
+        requireValidAccountNumber(request.getAccountNumber());
         if (request.getAmount() == null || request.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("Deposit amount must be positive");
         }
     }
 
     private void validateWithdrawRequest(WithdrawRequest request) {
+        requireValidAccountNumber(request.getAccountNumber());
         if (request.getAmount() == null || request.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("Withdrawal amount must be positive");
         }
     }
 
-    private String generateAccountNumber() {
-        return String.valueOf(System.currentTimeMillis());
+    private DomainException withdrawFailure(WithdrawRequest request) {
+        return accountRepository.findByAccountNumber(request.getAccountNumber())
+                .<DomainException>map(account -> new InsufficientBalanceException(
+                        "Insufficient balance. Current balance: " + account.getBalance()))
+                .orElseGet(() -> new AccountNotFoundException(request.getAccountNumber()));
     }
 
-    private void createDepositTransaction(String accountNumber, BigDecimal amount, String description) {
-        long nowMillis = System.currentTimeMillis();
-        String transactionId = "TXN" + nowMillis;
+    private void requireSummaryRange(String accountNumber, LocalDate from, LocalDate to) {
+        requireValidAccountNumber(accountNumber);
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Summary period requires from and to dates");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Start date cannot be after end date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxSummaryDays) {
+            throw new IllegalArgumentException("Summary period cannot exceed " + maxSummaryDays + " days");
+        }
+
+        accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException(accountNumber));
+    }
+
+    private void requireValidAccountNumber(String accountNumber) {
+        if (!accountNumberGenerator.isValid(accountNumber)) {
+            throw new IllegalArgumentException("Invalid account number: " + accountNumber);
+        }
+    }
+
+    private void createDepositTransaction(String accountNumber, BigDecimal amount, String description,
+                                          BigDecimal balanceAfter) {
         Transaction transaction = Transaction.builder()
-                .transactionId(transactionId)
+                .transactionId(transactionIdGenerator.nextId())
                 .toAccountNumber(accountNumber)
                 .amount(amount)
                 .transactionType("DEPOSIT")
@@ -188,12 +362,16 @@ public class AccountServiceImpl implements AccountService {
                 .status("COMPLETED")
                 .build();
 
-        transactionRepository.save(transaction);
+        Transaction savedTransaction = transactionRepository.save(transaction);
+        List<Posting> postings = List.of(Posting.credit(savedTransaction, balanceAfter));
+        postingRepository.saveAll(postings);
+        dailySummaryRepository.addPostings(postings);
     }
 
-    private void createWithdrawTransaction(String accountNumber, BigDecimal amount, String description) {
+    private void createWithdrawTransaction(String accountNumber, BigDecimal amount, String description,
+                                           BigDecimal balanceAfter) {
         Transaction transaction = Transaction.builder()
-                .transactionId(UUID.randomUUID().toString())
+                .transactionId(transactionIdGenerator.nextId())
                 .fromAccountNumber(accountNumber)
                 .amount(amount)
                 .transactionType("WITHDRAW")
@@ -201,7 +379,38 @@ public class AccountServiceImpl implements AccountService {
                 .status("COMPLETED")
                 .build();
 
-        transactionRepository.save(transaction);
+        Transaction savedTransaction = transactionRepository.save(transaction);
+        List<Posting> postings = List.of(Posting.debit(savedTransaction, balanceAfter));
+        postingRepository.saveAll(postings);
+        dailySummaryRepository.addPostings(postings);
+    }
+
+    private List<DailySummaryResponse> toDailySummaries(List<DailyAccountSummary> summaries) {
+        List<DailySummaryResponse> days = new ArrayList<>();
+        DailySummaryResponse day = null;
+        LocalDateTime dayClosingAt = null;
+        for (DailyAccountSummary summary : summaries) {
+            if (day == null || !day.getDate().equals(summary.getSummaryDate())) {
+                day = DailySummaryResponse.builder()
+                        .date(summary.getSummaryDate())
+                        .inflow(BigDecimal.ZERO)
+                        .outflow(BigDecimal.ZERO)
+                        .netChange(BigDecimal.ZERO)
+                        .build();
+                dayClosingAt = null;
+                days.add(day);
+            }
+
+            day.setInflow(day.getInflow().add(summary.getInflow()));
+            day.setOutflow(day.getOutflow().add(summary.getOutflow()));
+            day.setNetChange(day.getInflow().subtract(day.getOutflow()));
+            day.setTransactionCount(day.getTransactionCount() + summary.getCreditCount() + summary.getDebitCount());
+            if (summary.getClosingAt() != null && (dayClosingAt == null || !summary.getClosingAt().isBefore(dayClosingAt))) {
+                day.setClosingBalance(summary.getClosingBalance());
+                dayClosingAt = summary.getClosingAt();
+            }
+        }
+        return days;
     }
 
     private AccountResponse mapToAccountResponse(Account account) {
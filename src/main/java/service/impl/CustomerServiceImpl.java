@@ -4,18 +4,21 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import model.dto.request.CreateCustomerRequest;
 import model.dto.request.UpdateCustomerRequest;
+import model.dto.response.CursorPageResponse;
 import model.dto.response.CustomerResponse;
 import model.entity.Customer;
+import model.exception.CustomerNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import repository.CustomerRepository;
 import repository.impl.CustomerRepositoryImpl;
 import service.CustomerService;
 import utils.CustomerIdGenerator;
+import utils.KeysetCursor;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +28,10 @@ public class CustomerServiceImpl implements CustomerService {
 
     private final CustomerRepository customerRepository;
     private final CustomerRepositoryImpl customerRepositoryImpl;
+    private final CustomerIdGenerator customerIdGenerator;
+
+    @Value("${listing.max-page-size:100}")
+    private int maxPageSize;
 
     @Override
     public CustomerResponse createCustomer(CreateCustomerRequest request) {
@@ -38,7 +45,7 @@ public class CustomerServiceImpl implements CustomerService {
             throw new IllegalArgumentException("National ID already exists: " + request.getNationalId());
         }
 
-        String customerId = generateCustomerId();
+        String customerId = customerIdGenerator.getNextId();
 
         Customer customer = Customer.builder()
                 .customerId(customerId)
@@ -58,17 +65,19 @@ public class CustomerServiceImpl implements CustomerService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public CustomerResponse getCustomerById(String customerId) {
         Customer customer = customerRepository.findByCustomerId(customerId)
-                .orElseThrow(() -> new RuntimeException("Customer not found: " + customerId));
+                .orElseThrow(() -> CustomerNotFoundException.byCustomerId(customerId));
 
         return mapToCustomerResponse(customer);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public CustomerResponse getCustomerByEmail(String email) {
         Customer customer = customerRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Customer not found with email: " + email));
+                .orElseThrow(() -> CustomerNotFoundException.byEmail(email));
 
         return mapToCustomerResponse(customer);
     }
@@ -78,7 +87,7 @@ public class CustomerServiceImpl implements CustomerService {
         validateUpdateCustomerRequest(request);
 
         Customer existingCustomer = customerRepository.findByCustomerId(customerId)
-                .orElseThrow(() -> new RuntimeException("Customer not found: " + customerId));
+                .orElseThrow(() -> CustomerNotFoundException.byCustomerId(customerId));
 
         if (!existingCustomer.getEmail().equals(request.getEmail())) {
             if (customerRepositoryImpl.isEmailExists(request.getEmail())) {
@@ -108,18 +117,25 @@ public class CustomerServiceImpl implements CustomerService {
     @Override
     public void deactivateCustomer(String customerId) {
         Customer customer = customerRepository.findByCustomerId(customerId)
-                .orElseThrow(() -> new RuntimeException("Customer not found: " + customerId));
+                .orElseThrow(() -> CustomerNotFoundException.byCustomerId(customerId));
 
         customerRepository.deleteById(customer.getId());
         log.info("Customer deactivated: {}", customerId);
     }
 
     @Override
-    public List<CustomerResponse> getAllActiveCustomers() {
-        return customerRepository.findActiveCustomers()
-                .stream()
-                .map(this::mapToCustomerResponse)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CustomerResponse> getCustomers(Boolean active, String cursor, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = Math.min(limit, maxPageSize);
+
+        List<Customer> rows = customerRepository.findPage(active, after, pageSize + 1);
+        return CursorPageResponse.fromRows(rows, pageSize, this::mapToCustomerResponse,
+                customer -> new KeysetCursor(customer.getCreatedAt(), customer.getId()).encode());
     }
 
     @Override
@@ -171,13 +187,6 @@ public class CustomerServiceImpl implements CustomerService {
         }
     }
 
-    private String generateCustomerId() {
-        String getLastCustomerId = customerRepository.getLastCustomerId();
-
-        CustomerIdGenerator generator = new CustomerIdGenerator(getLastCustomerId);
-        return generator.getNextId();
-    }
-
     private CustomerResponse mapToCustomerResponse(Customer customer) {
         return CustomerResponse.builder()
                 .customerId(customer.getCustomerId())
@@ -0,0 +1,258 @@
+package service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import model.dto.response.ApiResponse;
+import model.entity.IdempotencyRecord;
+import model.exception.DomainException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import repository.IdempotencyRepository;
+import service.IdempotencyService;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Service
+@Slf4j
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRepository idempotencyRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final Duration inProgressTimeout;
+    private final long inFlightWaitMillis;
+    private final Map<String, StoredResponse> recentResponses;
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyServiceImpl(IdempotencyRepository idempotencyRepository,
+                                  ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${idempotency.cache-size:10000}") int cacheSize,
+                                  @Value("${idempotency.ttl-hours:24}") long ttlHours,
+                                  @Value("${idempotency.in-flight-wait-ms:10000}") long inFlightWaitMillis,
+                                  @Value("${idempotency.in-progress-timeout-ms:60000}") long inProgressTimeoutMillis) {
+        this.idempotencyRepository = idempotencyRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = Duration.ofHours(ttlHours);
+        this.inProgressTimeout = Duration.ofMillis(inProgressTimeoutMillis);
+        this.inFlightWaitMillis = inFlightWaitMillis;
+        this.recentResponses = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    @Override
+    public <T> ResponseEntity<ApiResponse<T>> execute(String idempotencyKey, Object request, Class<T> dataType,
+                                                      Supplier<ResponseEntity<ApiResponse<T>>> operation) {
+        if (idempotencyKey == null) {
+            return operation.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Idempotency-Key must be 1-" + MAX_KEY_LENGTH + " characters",
+                            "VALIDATION_ERROR"));
+        }
+
+        String requestHash = hash(request);
+
+        StoredResponse cached = recentResponses.get(idempotencyKey);
+        if (cached != null && cached.expiresAt().isAfter(LocalDateTime.now())) {
+            log.debug("Idempotent replay from cache - Key: {}", idempotencyKey);
+            return replay(cached, requestHash);
+        }
+
+        CompletableFuture<StoredResponse> claim = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> existing = inFlight.putIfAbsent(idempotencyKey, claim);
+        if (existing != null) {
+            log.debug("Waiting for in-flight request - Key: {}", idempotencyKey);
+            return replay(awaitInFlight(existing, requestHash), requestHash);
+        }
+
+        try {
+            StoredResponse stored = resolve(idempotencyKey, requestHash, dataType, operation);
+            claim.complete(stored);
+            return replay(stored, requestHash);
+        } catch (RuntimeException e) {
+            claim.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(idempotencyKey, claim);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:3600000}")
+    public void purgeExpiredKeys() {
+        LocalDateTime now = LocalDateTime.now();
+        recentResponses.values().removeIf(stored -> !stored.expiresAt().isAfter(now));
+        idempotencyRepository.deleteExpired(now);
+    }
+
+    private <T> StoredResponse resolve(String idempotencyKey, String requestHash, Class<T> dataType,
+                                       Supplier<ResponseEntity<ApiResponse<T>>> operation) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minus(inProgressTimeout);
+        Optional<IdempotencyRecord> persisted = idempotencyRepository.findActive(idempotencyKey);
+        if (persisted.isPresent()) {
+            IdempotencyRecord record = persisted.get();
+            if (record.getStatusCode() == null) {
+                if (record.getCreatedAt().isAfter(staleBefore)) {
+                    return inProgress(record.getRequestHash());
+                }
+                log.warn("Reclaiming stale in-progress idempotency key - Key: {}, Claimed at: {}",
+                        idempotencyKey, record.getCreatedAt());
+            } else {
+                StoredResponse stored = fromRecord(record, dataType);
+                recentResponses.put(idempotencyKey, stored);
+                log.debug("Idempotent replay from database - Key: {}", idempotencyKey);
+                return stored;
+            }
+        }
+
+        LocalDateTime expiresAt = now.plus(ttl);
+        if (!idempotencyRepository.claim(idempotencyKey, requestHash, expiresAt, staleBefore)) {
+            return inProgress(requestHash);
+        }
+
+        StoredResponse stored;
+        try {
+            stored = transactionTemplate.execute(status -> {
+                if (!idempotencyRepository.lockInProgress(idempotencyKey, requestHash)) {
+                    return null;
+                }
+
+                ResponseEntity<ApiResponse<T>> response = respond(operation);
+                StoredResponse outcome = new StoredResponse(requestHash, response.getStatusCode().value(),
+                        response.getBody(), expiresAt);
+                if (response.getStatusCode().isError()) {
+                    status.setRollbackOnly();
+                    return outcome;
+                }
+                if (status.isRollbackOnly()) {
+                    throw new IllegalStateException("Operation reported success but its transaction was rolled back");
+                }
+
+                idempotencyRepository.complete(idempotencyKey, outcome.statusCode(), serialize(response.getBody()));
+                return outcome;
+            });
+        } catch (RuntimeException e) {
+            idempotencyRepository.release(idempotencyKey);
+            throw e;
+        }
+
+        if (stored == null) {
+            return inProgress(requestHash);
+        }
+        if (HttpStatusCode.valueOf(stored.statusCode()).is5xxServerError()) {
+            idempotencyRepository.release(idempotencyKey);
+            return stored;
+        }
+        if (HttpStatusCode.valueOf(stored.statusCode()).is4xxClientError()) {
+            idempotencyRepository.complete(idempotencyKey, stored.statusCode(), serialize(stored.body()));
+        }
+        recentResponses.put(idempotencyKey, stored);
+        return stored;
+    }
+
+    private static <T> ResponseEntity<ApiResponse<T>> respond(Supplier<ResponseEntity<ApiResponse<T>>> operation) {
+        try {
+            return operation.get();
+        } catch (DomainException e) {
+            return ResponseEntity.status(e.getStatus()).body(ApiResponse.error(e.getMessage(), e.getErrorCode()));
+        }
+    }
+
+    private StoredResponse awaitInFlight(CompletableFuture<StoredResponse> inFlightResponse, String requestHash) {
+        try {
+            return inFlightResponse.get(inFlightWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return inProgress(requestHash);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for in-flight request", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("In-flight request failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private String serialize(ApiResponse<?> body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Idempotent response could not be stored", e);
+        }
+    }
+
+    private StoredResponse fromRecord(IdempotencyRecord record, Class<?> dataType) {
+        JavaType responseType = objectMapper.getTypeFactory().constructParametricType(ApiResponse.class, dataType);
+        try {
+            ApiResponse<?> body = objectMapper.readValue(record.getResponseBody(), responseType);
+            return new StoredResponse(record.getRequestHash(), record.getStatusCode(), body, record.getExpiresAt());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored idempotent response is unreadable: " + record.getIdempotencyKey(), e);
+        }
+    }
+
+    private StoredResponse inProgress(String requestHash) {
+        return new StoredResponse(requestHash, HttpStatus.CONFLICT.value(),
+                ApiResponse.error("A request with this Idempotency-Key is still being processed",
+                        "IDEMPOTENCY_IN_PROGRESS"),
+                LocalDateTime.now());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ResponseEntity<ApiResponse<T>> replay(StoredResponse stored, String requestHash) {
+        if (!stored.requestHash().equals(requestHash)) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                    .body(ApiResponse.error("Idempotency-Key was already used with a different request",
+                            "IDEMPOTENCY_KEY_MISMATCH"));
+        }
+        return ResponseEntity.status(stored.statusCode()).body((ApiResponse<T>) stored.body());
+    }
+
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getClass().getName().getBytes(StandardCharsets.UTF_8));
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Request fingerprint could not be computed", e);
+        }
+    }
+
+    private record StoredResponse(String requestHash, int statusCode, ApiResponse<?> body, LocalDateTime expiresAt) {
+    }
+}
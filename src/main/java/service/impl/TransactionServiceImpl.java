@@ -2,21 +2,46 @@ package service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import model.dto.request.BatchTransferRequest;
 import model.dto.request.TransferRequest;
+import model.dto.response.BatchTransferResponse;
+import model.dto.response.CursorPageResponse;
+import model.dto.response.StatsWindowResponse;
 import model.dto.response.TransactionResponse;
+import model.dto.response.TransactionStatsResponse;
 import model.dto.response.TransferResponse;
 import model.entity.Account;
+import model.entity.Posting;
 import model.entity.Transaction;
+import model.exception.AccountNotFoundException;
+import model.exception.DomainException;
+import model.exception.InsufficientBalanceException;
+import model.exception.TransactionNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import repository.AccountRepository;
+import repository.DailySummaryRepository;
+import repository.PostingRepository;
 import repository.TransactionRepository;
 import service.TransactionService;
+import service.support.RetryingTransactionExecutor;
+import utils.AccountNumberGenerator;
+import utils.KeysetCursor;
+import utils.TransactionIdGenerator;
+import utils.TransactionStats;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,45 +50,68 @@ import java.util.stream.Collectors;
 @Transactional
 public class TransactionServiceImpl implements TransactionService {
 
+    private static final String PESSIMISTIC_LOCKING = "pessimistic";
+
     private final TransactionRepository transactionRepository;
+    private final PostingRepository postingRepository;
+    private final DailySummaryRepository dailySummaryRepository;
     private final AccountRepository accountRepository;
+    private final RetryingTransactionExecutor retryingTransactionExecutor;
+    private final AccountNumberGenerator accountNumberGenerator;
+    private final TransactionIdGenerator transactionIdGenerator;
+    private final TransactionStats transactionStats;
 
-    @Override
-    public TransferResponse transferMoney(TransferRequest request) {
-        validateTransferRequest(request);
+    @Value("${transaction.locking.mode:guarded}")
+    private String lockingMode;
 
-        Account fromAccount = accountRepository.findByAccountNumber(request.getFromAccountNumber())
-                .orElseThrow(() -> new RuntimeException("Source account not found: " + request.getFromAccountNumber()));
+    @Value("${transaction.history.max-page-size:100}")
+    private int maxHistoryPageSize;
 
-        if (!fromAccount.getIsActive()) {
-            throw new IllegalArgumentException("Source account is not active");
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public TransferResponse transferMoney(TransferRequest request) {
+        try {
+            validateTransferRequest(request);
+
+            if (request.getFromAccountNumber().equals(request.getToAccountNumber())) {
+                throw new IllegalArgumentException("Cannot transfer to the same account");
+            }
+
+            TransferResponse response = retryingTransactionExecutor.execute("transfer", () -> executeTransfer(request));
+            transactionStats.record("TRANSFER", request.getAmount(), true);
+            return response;
+        } catch (RuntimeException e) {
+            transactionStats.record("TRANSFER", request.getAmount(), false);
+            throw e;
         }
+    }
 
-        Account toAccount = accountRepository.findByAccountNumber(request.getToAccountNumber())
-                .orElseThrow(() -> new RuntimeException("Destination account not found: " + request.getToAccountNumber()));
-
-        if (!toAccount.getIsActive()) {
-            throw new IllegalArgumentException("Destination account is not active");
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public BatchTransferResponse transferMoneyBatch(BatchTransferRequest request) {
+        BatchTransferResponse response;
+        try {
+            response = retryingTransactionExecutor.execute("batch-transfer", () -> executeTransferBatch(request));
+        } catch (RuntimeException e) {
+            if (request.getTransfers() != null) {
+                request.getTransfers().forEach(transfer -> transactionStats.record("TRANSFER", transfer.getAmount(), false));
+            }
+            throw e;
         }
 
-        if (fromAccount.getAccountNumber().equals(toAccount.getAccountNumber())) {
-            throw new IllegalArgumentException("Cannot transfer to the same account");
-        }
+        response.getResults().forEach(result -> transactionStats.record("TRANSFER", result.getAmount(),
+                "COMPLETED".equals(result.getStatus())));
+        return response;
+    }
 
-        if (fromAccount.getBalance().compareTo(request.getAmount()) < 0) {
-            throw new IllegalArgumentException("Insufficient balance. Available: " + fromAccount.getBalance() +
-                    ", Required: " + request.getAmount());
-        }
+    private TransferResponse executeTransfer(TransferRequest request) {
+        Map<String, BigDecimal> balances = PESSIMISTIC_LOCKING.equalsIgnoreCase(lockingMode)
+                ? applyLockedTransfer(request)
+                : applyGuardedTransfer(request);
 
-        String transactionId = generateTransactionId();
+        String transactionId = transactionIdGenerator.nextId();
 
         try {
-            BigDecimal newFromBalance = fromAccount.getBalance().subtract(request.getAmount());
-            accountRepository.updateBalance(fromAccount.getAccountNumber(), newFromBalance);
-
-            BigDecimal newToBalance = toAccount.getBalance().add(request.getAmount());
-            accountRepository.updateBalance(toAccount.getAccountNumber(), newToBalance);
-
             Transaction transaction = Transaction.builder()
                     .transactionId(transactionId)
                     .fromAccountNumber(request.getFromAccountNumber())
@@ -75,21 +123,18 @@ public class TransactionServiceImpl implements TransactionService {
                     .build();
 
             Transaction savedTransaction = transactionRepository.save(transaction);
+            List<Posting> postings = List.of(
+                    Posting.debit(savedTransaction, balances.get(request.getFromAccountNumber())),
+                    Posting.credit(savedTransaction, balances.get(request.getToAccountNumber())));
+            postingRepository.saveAll(postings);
+            dailySummaryRepository.addPostings(postings);
 
             log.info("Transfer completed - Transaction ID: {}, From: {}, To: {}, Amount: {}",
                     transactionId, request.getFromAccountNumber(), request.getToAccountNumber(), request.getAmount());
 
-            return TransferResponse.builder()
-                    .transactionId(transactionId)
-                    .fromAccountNumber(request.getFromAccountNumber())
-                    .toAccountNumber(request.getToAccountNumber())
-                    .amount(request.getAmount())
-                    .description(transaction.getDescription())
-                    .transactionDate(savedTransaction.getTransactionDate())
-                    .status("COMPLETED")
-                    .fromAccountBalance(newFromBalance)
-                    .toAccountBalance(newToBalance)
-                    .build();
+            return mapToTransferResponse(savedTransaction,
+                    balances.get(request.getFromAccountNumber()),
+                    balances.get(request.getToAccountNumber()));
 
         } catch (Exception e) {
             log.error("Transfer failed - Transaction ID: {}, Error: {}", transactionId, e.getMessage());
@@ -110,30 +155,122 @@ public class TransactionServiceImpl implements TransactionService {
         }
     }
 
+    private BatchTransferResponse executeTransferBatch(BatchTransferRequest request) {
+        long startNanos = System.nanoTime();
+        List<TransferRequest> transfers = request.getTransfers();
+
+        Set<String> accountNumbers = new HashSet<>();
+        for (TransferRequest transfer : transfers) {
+            if (accountNumberGenerator.isValid(transfer.getFromAccountNumber())) {
+                accountNumbers.add(transfer.getFromAccountNumber());
+            }
+            if (accountNumberGenerator.isValid(transfer.getToAccountNumber())) {
+                accountNumbers.add(transfer.getToAccountNumber());
+            }
+        }
+
+        Map<String, BigDecimal> balances = new HashMap<>();
+        accountRepository.lockByAccountNumbers(accountNumbers)
+                .forEach(account -> balances.put(account.getAccountNumber(), account.getBalance()));
+
+        Map<String, BigDecimal> deltas = new HashMap<>();
+        List<Transaction> transactions = new ArrayList<>(transfers.size());
+        List<Posting> postings = new ArrayList<>(transfers.size() * 2);
+        List<TransferResponse> results = new ArrayList<>(transfers.size());
+        LocalDateTime batchDate = LocalDateTime.now();
+        int successCount = 0;
+
+        for (int i = 0; i < transfers.size(); i++) {
+            TransferRequest transfer = transfers.get(i);
+            String transactionId = transactionIdGenerator.nextId();
+
+            try {
+                applyBatchTransfer(transfer, balances, deltas);
+            } catch (RuntimeException e) {
+                if (request.isAtomic()) {
+                    throw new IllegalArgumentException("Batch rejected at item " + i + ": " + e.getMessage());
+                }
+
+                log.warn("Batch transfer item failed - Item: {}, Error: {}", i, e.getMessage());
+                Transaction failedTransaction = buildTransferTransaction(transactionId, transfer,
+                        "FAILED: " + e.getMessage(), "FAILED", batchDate);
+                transactions.add(failedTransaction);
+                results.add(mapToTransferResponse(failedTransaction, null, null));
+                continue;
+            }
+
+            Transaction transaction = buildTransferTransaction(transactionId, transfer,
+                    transfer.getDescription() != null ? transfer.getDescription() : "Money Transfer",
+                    "COMPLETED", batchDate);
+            transactions.add(transaction);
+            postings.add(Posting.debit(transaction, balances.get(transfer.getFromAccountNumber())));
+            postings.add(Posting.credit(transaction, balances.get(transfer.getToAccountNumber())));
+            results.add(mapToTransferResponse(transaction,
+                    balances.get(transfer.getFromAccountNumber()),
+                    balances.get(transfer.getToAccountNumber())));
+            successCount++;
+        }
+
+        deltas.values().removeIf(delta -> delta.signum() == 0);
+        if (!deltas.isEmpty()) {
+            accountRepository.applyBalanceDeltas(deltas);
+        }
+        if (!transactions.isEmpty()) {
+            transactionRepository.saveAll(transactions);
+        }
+        if (!postings.isEmpty()) {
+            postingRepository.saveAll(postings);
+            dailySummaryRepository.addPostings(postings);
+        }
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        log.info("Batch transfer completed - Items: {}, Succeeded: {}, Failed: {}, Atomic: {}, Duration: {} ms",
+                transfers.size(), successCount, transfers.size() - successCount, request.isAtomic(), elapsedMillis);
+
+        return BatchTransferResponse.builder()
+                .totalCount(transfers.size())
+                .successCount(successCount)
+                .failedCount(transfers.size() - successCount)
+                .atomic(request.isAtomic())
+                .results(results)
+                .build();
+    }
+
     @Override
+    @Transactional(readOnly = true)
     public TransactionResponse getTransactionById(String transactionId) {
         Transaction transaction = transactionRepository.findByTransactionId(transactionId)
-                .orElseThrow(() -> new RuntimeException("Transaction not found: " + transactionId));
+                .orElseThrow(() -> new TransactionNotFoundException(transactionId));
 
         return mapToTransactionResponse(transaction);
     }
 
     @Override
-    public List<TransactionResponse> getAccountTransactionHistory(String accountNumber, int limit) {
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TransactionResponse> getAccountTransactionHistory(String accountNumber, String cursor,
+                                                                                int limit) {
+        if (!accountNumberGenerator.isValid(accountNumber)) {
+            throw new IllegalArgumentException("Invalid account number: " + accountNumber);
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = Math.min(limit, maxHistoryPageSize);
+
         accountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new RuntimeException("Account not found: " + accountNumber));
+                .orElseThrow(() -> new AccountNotFoundException(accountNumber));
 
-        return transactionRepository.getAccountTransactionHistory(accountNumber, limit)
-                .stream()
-                .map(this::mapToTransactionResponse)
-                .collect(Collectors.toList());
+        List<Posting> rows = postingRepository.findHistoryPage(accountNumber, after, pageSize + 1);
+        return CursorPageResponse.fromRows(rows, pageSize, this::mapPostingToTransactionResponse,
+                posting -> new KeysetCursor(posting.getPostedAt(), posting.getId()).encode());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<TransactionResponse> getTransactionsByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
-        if (startDate.isAfter(endDate)) {
-            throw new IllegalArgumentException("Start date cannot be after end date");
-        }
+        validateDateRange(startDate, endDate);
 
         return transactionRepository.findByDateRange(startDate, endDate)
                 .stream()
@@ -142,15 +279,9 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<TransactionResponse> getTransactionsByStatus(String status) {
-        if (status == null || status.trim().isEmpty()) {
-            throw new IllegalArgumentException("Status cannot be empty");
-        }
-
-        if (!isValidStatus(status)) {
-            throw new IllegalArgumentException("Invalid status: " + status +
-                    ". Valid statuses: PENDING, COMPLETED, FAILED, CANCELLED");
-        }
+        validateStatusFilter(status);
 
         return transactionRepository.findByStatus(status.toUpperCase())
                 .stream()
@@ -158,6 +289,25 @@ public class TransactionServiceImpl implements TransactionService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamTransactionsByDateRange(LocalDateTime startDate, LocalDateTime endDate,
+                                              Consumer<TransactionResponse> sink) {
+        validateDateRange(startDate, endDate);
+
+        transactionRepository.streamByDateRange(startDate, endDate,
+                transaction -> sink.accept(mapToTransactionResponse(transaction)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamTransactionsByStatus(String status, Consumer<TransactionResponse> sink) {
+        validateStatusFilter(status);
+
+        transactionRepository.streamByStatus(status.toUpperCase(),
+                transaction -> sink.accept(mapToTransactionResponse(transaction)));
+    }
+
     @Override
     public boolean updateTransactionStatus(String transactionId, String status) {
         if (status == null || status.trim().isEmpty()) {
@@ -168,7 +318,51 @@ public class TransactionServiceImpl implements TransactionService {
             throw new IllegalArgumentException("Invalid status: " + status);
         }
 
-        return transactionRepository.updateTransactionStatus(transactionId, status.toUpperCase());
+        String newStatus = status.toUpperCase();
+        boolean updated = transactionRepository.updateTransactionStatus(transactionId, newStatus);
+        if (updated) {
+            List<Posting> previous = postingRepository.transitionStatus(transactionId, newStatus);
+            if ("COMPLETED".equals(newStatus)) {
+                previous.forEach(posting -> posting.setStatus(newStatus));
+                dailySummaryRepository.addPostings(previous);
+            } else {
+                dailySummaryRepository.removePostings(previous.stream()
+                        .filter(posting -> "COMPLETED".equals(posting.getStatus()))
+                        .collect(Collectors.toList()));
+            }
+        }
+        return updated;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public TransactionStatsResponse getTransactionStats() {
+        Map<String, StatsWindowResponse> windows = new LinkedHashMap<>();
+        windows.put("1s", mapToStatsWindowResponse(transactionStats.window(1)));
+        windows.put("1m", mapToStatsWindowResponse(transactionStats.window(60)));
+        windows.put("15m", mapToStatsWindowResponse(transactionStats.window(900)));
+
+        return TransactionStatsResponse.builder()
+                .generatedAt(LocalDateTime.now())
+                .windows(windows)
+                .build();
+    }
+
+    private void validateDateRange(LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date cannot be after end date");
+        }
+    }
+
+    private void validateStatusFilter(String status) {
+        if (status == null || status.trim().isEmpty()) {
+            throw new IllegalArgumentException("Status cannot be empty");
+        }
+
+        if (!isValidStatus(status)) {
+            throw new IllegalArgumentException("Invalid status: " + status +
+                    ". Valid statuses: PENDING, COMPLETED, FAILED, CANCELLED");
+        }
     }
 
     private void validateTransferRequest(TransferRequest request) {
@@ -180,6 +374,14 @@ public class TransactionServiceImpl implements TransactionService {
             throw new IllegalArgumentException("Destination account number is required");
         }
 
+        if (!accountNumberGenerator.isValid(request.getFromAccountNumber())) {
+            throw new IllegalArgumentException("Invalid source account number: " + request.getFromAccountNumber());
+        }
+
+        if (!accountNumberGenerator.isValid(request.getToAccountNumber())) {
+            throw new IllegalArgumentException("Invalid destination account number: " + request.getToAccountNumber());
+        }
+
         if (request.getAmount() == null || request.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("Transfer amount must be greater than zero");
         }
@@ -195,8 +397,80 @@ public class TransactionServiceImpl implements TransactionService {
         }
     }
 
-    private String generateTransactionId() {
-        return "TXN" + System.currentTimeMillis() + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    private Map<String, BigDecimal> applyGuardedTransfer(TransferRequest request) {
+        Account fromAccount = accountRepository.debitBalance(request.getFromAccountNumber(), request.getAmount())
+                .orElseThrow(() -> debitFailure(request));
+
+        Account toAccount = accountRepository.creditBalance(request.getToAccountNumber(), request.getAmount())
+                .orElseThrow(() -> new AccountNotFoundException("Destination account not found: ", request.getToAccountNumber()));
+
+        // A striped destination reports no running balance, which Map.of would reject.
+        Map<String, BigDecimal> balances = new HashMap<>();
+        balances.put(fromAccount.getAccountNumber(), fromAccount.getBalance());
+        balances.put(toAccount.getAccountNumber(), toAccount.getBalance());
+        return balances;
+    }
+
+    private Map<String, BigDecimal> applyLockedTransfer(TransferRequest request) {
+        Map<String, BigDecimal> balances = new HashMap<>();
+        accountRepository.lockByAccountNumbers(List.of(request.getFromAccountNumber(), request.getToAccountNumber()))
+                .forEach(account -> balances.put(account.getAccountNumber(), account.getBalance()));
+
+        Map<String, BigDecimal> deltas = new HashMap<>();
+        applyBatchTransfer(request, balances, deltas);
+        accountRepository.applyBalanceDeltas(deltas);
+        return balances;
+    }
+
+    private void applyBatchTransfer(TransferRequest transfer, Map<String, BigDecimal> balances,
+                                    Map<String, BigDecimal> deltas) {
+        validateTransferRequest(transfer);
+
+        if (transfer.getFromAccountNumber().equals(transfer.getToAccountNumber())) {
+            throw new IllegalArgumentException("Cannot transfer to the same account");
+        }
+
+        BigDecimal fromBalance = balances.get(transfer.getFromAccountNumber());
+        if (fromBalance == null) {
+            throw new AccountNotFoundException("Source account not found: ", transfer.getFromAccountNumber());
+        }
+
+        BigDecimal toBalance = balances.get(transfer.getToAccountNumber());
+        if (toBalance == null) {
+            throw new AccountNotFoundException("Destination account not found: ", transfer.getToAccountNumber());
+        }
+
+        if (fromBalance.compareTo(transfer.getAmount()) < 0) {
+            throw new InsufficientBalanceException("Insufficient balance. Available: " + fromBalance +
+                    ", Required: " + transfer.getAmount());
+        }
+
+        balances.put(transfer.getFromAccountNumber(), fromBalance.subtract(transfer.getAmount()));
+        balances.put(transfer.getToAccountNumber(), toBalance.add(transfer.getAmount()));
+        deltas.merge(transfer.getFromAccountNumber(), transfer.getAmount().negate(), BigDecimal::add);
+        deltas.merge(transfer.getToAccountNumber(), transfer.getAmount(), BigDecimal::add);
+    }
+
+    private Transaction buildTransferTransaction(String transactionId, TransferRequest transfer,
+                                                 String description, String status, LocalDateTime transactionDate) {
+        return Transaction.builder()
+                .transactionId(transactionId)
+                .fromAccountNumber(transfer.getFromAccountNumber())
+                .toAccountNumber(transfer.getToAccountNumber())
+                .amount(transfer.getAmount())
+                .transactionType("TRANSFER")
+                .description(description)
+                .transactionDate(transactionDate)
+                .status(status)
+                .build();
+    }
+
+    private DomainException debitFailure(TransferRequest request) {
+        return accountRepository.findByAccountNumber(request.getFromAccountNumber())
+                .<DomainException>map(fromAccount -> new InsufficientBalanceException(
+                        "Insufficient balance. Available: " + fromAccount.getBalance() +
+                                ", Required: " + request.getAmount()))
+                .orElseGet(() -> new AccountNotFoundException("Source account not found: ", request.getFromAccountNumber()));
     }
 
     private boolean isValidStatus(String status) {
@@ -204,6 +478,21 @@ public class TransactionServiceImpl implements TransactionService {
                 .contains(status.toUpperCase());
     }
 
+    private TransferResponse mapToTransferResponse(Transaction transaction, BigDecimal fromAccountBalance,
+                                                   BigDecimal toAccountBalance) {
+        return TransferResponse.builder()
+                .transactionId(transaction.getTransactionId())
+                .fromAccountNumber(transaction.getFromAccountNumber())
+                .toAccountNumber(transaction.getToAccountNumber())
+                .amount(transaction.getAmount())
+                .description(transaction.getDescription())
+                .transactionDate(transaction.getTransactionDate())
+                .status(transaction.getStatus())
+                .fromAccountBalance(fromAccountBalance)
+                .toAccountBalance(toAccountBalance)
+                .build();
+    }
+
     private TransactionResponse mapToTransactionResponse(Transaction transaction) {
         return TransactionResponse.builder()
                 .transactionId(transaction.getTransactionId())
@@ -216,4 +505,41 @@ public class TransactionServiceImpl implements TransactionService {
                 .status(transaction.getStatus())
                 .build();
     }
+
+    private StatsWindowResponse mapToStatsWindowResponse(TransactionStats.Window window) {
+        Map<String, Long> eventsByType = new LinkedHashMap<>();
+        Map<String, BigDecimal> amountByType = new LinkedHashMap<>();
+        Map<String, Double> failureRatioByType = new LinkedHashMap<>();
+        window.byType().forEach((type, totals) -> {
+            eventsByType.put(type, totals.events());
+            amountByType.put(type, totals.amount());
+            failureRatioByType.put(type, (double) totals.failures() / totals.events());
+        });
+
+        return StatsWindowResponse.builder()
+                .seconds(window.seconds())
+                .events(window.events())
+                .eventsPerSecond(window.eventsPerSecond())
+                .failures(window.failures())
+                .failureRatio(window.failureRatio())
+                .eventsByType(eventsByType)
+                .amountByType(amountByType)
+                .failureRatioByType(failureRatioByType)
+                .build();
+    }
+
+    private TransactionResponse mapPostingToTransactionResponse(Posting posting) {
+        boolean debit = Posting.DEBIT.equals(posting.getDirection());
+        return TransactionResponse.builder()
+                .transactionId(posting.getTransactionId())
+                .fromAccountNumber(debit ? posting.getAccountNumber() : posting.getCounterpartyAccountNumber())
+                .toAccountNumber(debit ? posting.getCounterpartyAccountNumber() : posting.getAccountNumber())
+                .amount(posting.getAmount())
+                .transactionType(posting.getTransactionType())
+                .description(posting.getDescription())
+                .transactionDate(posting.getPostedAt())
+                .status(posting.getStatus())
+                .balanceAfter(posting.getBalanceAfter())
+                .build();
+    }
 }
\ No newline at end of file
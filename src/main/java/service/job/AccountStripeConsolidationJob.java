@@ -0,0 +1,35 @@
+package service.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import repository.AccountRepository;
+
+import java.util.Set;
+
+@Component
+@Profile("!ledger")
+@RequiredArgsConstructor
+@Slf4j
+public class AccountStripeConsolidationJob {
+
+    private final AccountRepository accountRepository;
+
+    @Scheduled(fixedDelayString = "${account.striping.consolidation-interval-ms:60000}")
+    public void consolidate() {
+        Set<String> accountNumbers = accountRepository.refreshStripedAccounts();
+        for (String accountNumber : accountNumbers) {
+            try {
+                accountRepository.foldStripes(accountNumber);
+            } catch (Exception e) {
+                log.warn("Stripe consolidation failed - Account: {}, Error: {}", accountNumber, e.getMessage());
+            }
+        }
+
+        if (!accountNumbers.isEmpty()) {
+            log.debug("Stripe consolidation completed - Accounts: {}", accountNumbers.size());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package service.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import repository.DailySummaryRepository;
+import repository.PostingRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+@Slf4j
+public class DailySummaryRebuildJob {
+
+    private final DailySummaryRepository dailySummaryRepository;
+    private final PostingRepository postingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int reconcileDays;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public DailySummaryRebuildJob(DailySummaryRepository dailySummaryRepository,
+                                  PostingRepository postingRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${account.summary.reconcile-days:3}") int reconcileDays) {
+        this.dailySummaryRepository = dailySummaryRepository;
+        this.postingRepository = postingRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reconcileDays = reconcileDays;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (dailySummaryRepository.isEmpty()) {
+            postingRepository.findOldestPostedAt()
+                    .ifPresent(oldest -> rebuild(oldest.toLocalDate(), LocalDate.now()));
+        }
+    }
+
+    @Scheduled(cron = "${account.summary.reconcile-cron:0 30 2 * * *}")
+    public void reconcileRecentDays() {
+        LocalDate today = LocalDate.now();
+        rebuild(today.minusDays(reconcileDays), today);
+    }
+
+    public void rebuild(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Start date cannot be after end date");
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Daily summary rebuild already running");
+            return;
+        }
+
+        try {
+            Optional<LocalDateTime> oldest = postingRepository.findOldestPostedAt();
+            if (oldest.isEmpty()) {
+                return;
+            }
+
+            long startNanos = System.nanoTime();
+            LocalDate first = from.isBefore(oldest.get().toLocalDate()) ? oldest.get().toLocalDate() : from;
+            long rows = 0;
+            int days = 0;
+            for (LocalDate day = first; !day.isAfter(to); day = day.plusDays(1)) {
+                LocalDate rebuildDay = day;
+                Integer rebuilt = transactionTemplate.execute(status -> dailySummaryRepository.rebuildDay(rebuildDay));
+                rows += rebuilt != null ? rebuilt : 0;
+                days++;
+            }
+
+            log.info("Daily summaries rebuilt - From: {}, To: {}, Days: {}, Rows: {}, Duration: {} ms",
+                    first, to, days, rows, (System.nanoTime() - startNanos) / 1_000_000);
+        } finally {
+            running.set(false);
+        }
+    }
+}
@@ -0,0 +1,413 @@
+package service.job;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import model.entity.Account;
+import model.entity.Posting;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import repository.AccountRepository;
+import repository.PostingRepository;
+import utils.KeysetCursor;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+@Slf4j
+public class MonthlyStatementJob implements DisposableBean {
+
+    private static final String CHECKPOINT_FILE = "_checkpoint";
+    private static final String SUCCESS_FILE = "_SUCCESS";
+    private static final String COMPLETED = "COMPLETED";
+    private static final String STATEMENT_SUFFIX = ".csv.gz";
+    private static final String CSV_HEADER =
+            "transaction_id,transaction_date,transaction_type,description,counterparty,debit,credit,balance_after,status\n";
+    private static final int GZIP_BUFFER_BYTES = 64 * 1024;
+    private static final int PROGRESS_LOG_CHUNKS = 100;
+
+    private final AccountRepository accountRepository;
+    private final PostingRepository postingRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+    private final Path outputDirectory;
+    private final int workers;
+    private final int chunkSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "statement-runner");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MonthlyStatementJob(AccountRepository accountRepository,
+                               PostingRepository postingRepository,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${statement.directory:./statements}") String directory,
+                               @Value("${statement.workers:8}") int workers,
+                               @Value("${statement.chunk-size:1000}") int chunkSize) {
+        this.accountRepository = accountRepository;
+        this.postingRepository = postingRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.outputDirectory = Path.of(directory);
+        this.workers = workers;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${statement.cron:0 0 1 1 * *}")
+    public void generatePreviousMonth() {
+        YearMonth month = YearMonth.now().minusMonths(1);
+        runner.execute(() -> {
+            for (YearMonth incomplete : incompleteMonthsBefore(month)) {
+                log.info("Resuming incomplete monthly statements - Month: {}", incomplete);
+                generateLogged(incomplete);
+            }
+            generateLogged(month);
+        });
+    }
+
+    List<YearMonth> incompleteMonthsBefore(YearMonth month) {
+        if (!Files.isDirectory(outputDirectory)) {
+            return List.of();
+        }
+
+        try (Stream<Path> directories = Files.list(outputDirectory)) {
+            return directories
+                    .filter(Files::isDirectory)
+                    .filter(directory -> !Files.exists(directory.resolve(SUCCESS_FILE)))
+                    .map(directory -> parseMonth(directory.getFileName().toString()))
+                    .flatMap(Optional::stream)
+                    .filter(candidate -> candidate.isBefore(month))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            log.warn("Statement directory scan failed - Directory: {}, Error: {}", outputDirectory, e.getMessage());
+            return List.of();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        runner.shutdownNow();
+    }
+
+    public boolean generate(YearMonth month) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Monthly statements already running - Month: {}", month);
+            return false;
+        }
+
+        try {
+            return run(month);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Monthly statements failed for " + month, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Monthly statements interrupted - Month: {}", month);
+            return false;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void generateLogged(YearMonth month) {
+        try {
+            generate(month);
+        } catch (RuntimeException e) {
+            log.error("Monthly statements failed - Month: {}, Error: {}", month, e.getMessage(), e);
+        }
+    }
+
+    private boolean run(YearMonth month) throws IOException, InterruptedException {
+        Path monthDirectory = outputDirectory.resolve(month.toString());
+        if (Files.exists(monthDirectory.resolve(SUCCESS_FILE))) {
+            log.info("Monthly statements already complete - Month: {}", month);
+            return true;
+        }
+        Files.createDirectories(monthDirectory);
+
+        LocalDateTime start = month.atDay(1).atStartOfDay();
+        LocalDateTime end = month.plusMonths(1).atDay(1).atStartOfDay();
+        KeysetCursor resumeAfter = readCheckpoint(monthDirectory);
+        ChunkCheckpoint checkpoint = new ChunkCheckpoint(monthDirectory);
+        RunCounters counters = new RunCounters();
+        long startNanos = System.nanoTime();
+
+        log.info("Monthly statements started - Month: {}, Workers: {}, Resume: {}", month, workers, resumeAfter != null);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "statement-worker-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Semaphore inFlight = new Semaphore(workers * 2);
+
+        try {
+            KeysetCursor after = resumeAfter;
+            long chunkIndex = 0;
+            while (true) {
+                List<Account> chunk = accountRepository.findPage(null, true, after, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                Account last = chunk.get(chunk.size() - 1);
+                after = new KeysetCursor(last.getCreatedAt(), last.getId());
+                long index = chunkIndex++;
+                KeysetCursor chunkEnd = after;
+
+                inFlight.acquire();
+                executor.execute(() -> {
+                    try {
+                        if (processChunk(chunk, monthDirectory, start, end, counters)) {
+                            checkpoint.complete(index, chunkEnd);
+                        }
+                        logProgress(month, counters, startNanos);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+
+                if (chunk.size() < chunkSize) {
+                    break;
+                }
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        meterRegistry.timer("statement.job.duration").record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        boolean complete = counters.failed.get() == 0;
+        if (complete) {
+            Files.writeString(monthDirectory.resolve(SUCCESS_FILE), LocalDateTime.now().toString());
+            Files.deleteIfExists(monthDirectory.resolve(CHECKPOINT_FILE));
+        }
+
+        log.info("Monthly statements {} - Month: {}, Written: {}, Skipped: {}, Failed: {}, Duration: {} s, Rate: {} accounts/s",
+                complete ? "completed" : "incomplete", month, counters.written.get(), counters.skipped.get(),
+                counters.failed.get(), TimeUnit.NANOSECONDS.toSeconds(elapsedNanos),
+                accountsPerSecond(counters, elapsedNanos));
+        return complete;
+    }
+
+    private boolean processChunk(List<Account> chunk, Path monthDirectory, LocalDateTime start, LocalDateTime end,
+                                 RunCounters counters) {
+        boolean chunkComplete = true;
+        for (Account account : chunk) {
+            if (account.getCreatedAt() != null && !account.getCreatedAt().isBefore(end)) {
+                counters.skipped.incrementAndGet();
+                continue;
+            }
+
+            try {
+                if (writeStatement(account.getAccountNumber(), monthDirectory, start, end)) {
+                    counters.written.incrementAndGet();
+                    meterRegistry.counter("statement.accounts", "result", "written").increment();
+                } else {
+                    counters.skipped.incrementAndGet();
+                    meterRegistry.counter("statement.accounts", "result", "skipped").increment();
+                }
+            } catch (RuntimeException | IOException e) {
+                chunkComplete = false;
+                counters.failed.incrementAndGet();
+                meterRegistry.counter("statement.accounts", "result", "failed").increment();
+                log.warn("Statement failed - Account: {}, Error: {}", account.getAccountNumber(), e.getMessage());
+            }
+        }
+        return chunkComplete;
+    }
+
+    private boolean writeStatement(String accountNumber, Path monthDirectory, LocalDateTime start, LocalDateTime end)
+            throws IOException {
+        Path target = monthDirectory.resolve(accountNumber + STATEMENT_SUFFIX);
+        if (Files.exists(target)) {
+            return false;
+        }
+
+        Path temp = monthDirectory.resolve(accountNumber + STATEMENT_SUFFIX + ".tmp");
+        BigDecimal[] totals = {BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO};
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(temp), GZIP_BUFFER_BYTES), StandardCharsets.UTF_8))) {
+            writer.write(CSV_HEADER);
+            readOnlyTransaction.executeWithoutResult(status -> {
+                totals[2] = postingRepository.findBalanceBefore(accountNumber, start).orElse(BigDecimal.ZERO);
+                writeLine(writer, "OPENING,,,,,,," + totals[2].toPlainString() + ",\n");
+                postingRepository.streamByAccountAndDateRange(accountNumber, start, end,
+                        posting -> writeRow(writer, posting, totals));
+            });
+            writer.write("TOTAL,,,,," + totals[0].toPlainString() + "," + totals[1].toPlainString() + ","
+                    + totals[2].toPlainString() + ",\n");
+        } catch (RuntimeException | IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return true;
+    }
+
+    private void writeRow(Writer writer, Posting posting, BigDecimal[] totals) {
+        boolean debit = Posting.DEBIT.equals(posting.getDirection());
+        if (debit) {
+            totals[0] = totals[0].add(posting.getAmount());
+        } else {
+            totals[1] = totals[1].add(posting.getAmount());
+        }
+        if (posting.getBalanceAfter() != null) {
+            totals[2] = posting.getBalanceAfter();
+        } else if (COMPLETED.equals(posting.getStatus())) {
+            totals[2] = debit ? totals[2].subtract(posting.getAmount()) : totals[2].add(posting.getAmount());
+        }
+
+        try {
+            writer.write(csv(posting.getTransactionId()));
+            writer.write(',');
+            writer.write(csv(String.valueOf(posting.getPostedAt())));
+            writer.write(',');
+            writer.write(csv(posting.getTransactionType()));
+            writer.write(',');
+            writer.write(csv(posting.getDescription()));
+            writer.write(',');
+            writer.write(csv(posting.getCounterpartyAccountNumber()));
+            writer.write(',');
+            writer.write(debit ? posting.getAmount().toPlainString() : "");
+            writer.write(',');
+            writer.write(debit ? "" : posting.getAmount().toPlainString());
+            writer.write(',');
+            writer.write(totals[2].toPlainString());
+            writer.write(',');
+            writer.write(csv(posting.getStatus()));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeLine(Writer writer, String line) {
+        try {
+            writer.write(line);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static Optional<YearMonth> parseMonth(String name) {
+        try {
+            return Optional.of(YearMonth.parse(name));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private KeysetCursor readCheckpoint(Path monthDirectory) throws IOException {
+        Path checkpointFile = monthDirectory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(checkpointFile)) {
+            return null;
+        }
+        return KeysetCursor.decode(Files.readString(checkpointFile));
+    }
+
+    private void logProgress(YearMonth month, RunCounters counters, long startNanos) {
+        if (counters.chunks.incrementAndGet() % PROGRESS_LOG_CHUNKS == 0) {
+            log.info("Monthly statements progress - Month: {}, Accounts: {}, Rate: {} accounts/s",
+                    month, counters.processed(), accountsPerSecond(counters, System.nanoTime() - startNanos));
+        }
+    }
+
+    private static long accountsPerSecond(RunCounters counters, long elapsedNanos) {
+        return elapsedNanos > 0 ? counters.processed() * TimeUnit.SECONDS.toNanos(1) / elapsedNanos : 0;
+    }
+
+    private static final class RunCounters {
+        private final AtomicLong written = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong chunks = new AtomicLong();
+
+        private long processed() {
+            return written.get() + skipped.get() + failed.get();
+        }
+    }
+
+    private static final class ChunkCheckpoint {
+        private final Path monthDirectory;
+        private final Map<Long, KeysetCursor> completedAhead = new HashMap<>();
+        private long nextChunk;
+
+        private ChunkCheckpoint(Path monthDirectory) {
+            this.monthDirectory = monthDirectory;
+        }
+
+        private synchronized void complete(long chunkIndex, KeysetCursor chunkEnd) {
+            if (chunkIndex != nextChunk) {
+                completedAhead.put(chunkIndex, chunkEnd);
+                return;
+            }
+
+            KeysetCursor watermark = chunkEnd;
+            nextChunk++;
+            while (completedAhead.containsKey(nextChunk)) {
+                watermark = completedAhead.remove(nextChunk);
+                nextChunk++;
+            }
+            write(watermark);
+        }
+
+        private void write(KeysetCursor watermark) {
+            Path temp = monthDirectory.resolve(CHECKPOINT_FILE + ".tmp");
+            try {
+                Files.writeString(temp, watermark.encode());
+                Files.move(temp, monthDirectory.resolve(CHECKPOINT_FILE),
+                        StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                log.warn("Statement checkpoint write failed - Directory: {}, Error: {}", monthDirectory, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package service.support;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+@Component
+@Slf4j
+public class RetryingTransactionExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate nestedTransactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+
+    public RetryingTransactionExecutor(PlatformTransactionManager transactionManager,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${transaction.retry.max-attempts:5}") int maxAttempts,
+                                       @Value("${transaction.retry.base-backoff-ms:10}") long baseBackoffMillis,
+                                       @Value("${transaction.retry.max-backoff-ms:200}") long maxBackoffMillis) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Retry attempts must be positive: " + maxAttempts);
+        }
+
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.nestedTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.nestedTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    public <T> T execute(String operation, Supplier<T> work) {
+        TransactionTemplate attemptTemplate = TransactionSynchronizationManager.isActualTransactionActive()
+                ? nestedTransactionTemplate
+                : transactionTemplate;
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return attemptTemplate.execute(status -> work.get());
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= maxAttempts) {
+                    meterRegistry.counter("transaction.retry.exhausted", "operation", operation).increment();
+                    log.warn("Retries exhausted - Operation: {}, Attempts: {}, Error: {}",
+                            operation, attempt, e.getMessage());
+                    throw e;
+                }
+
+                meterRegistry.counter("transaction.retry.attempts", "operation", operation).increment();
+                long backoffMillis = backoff(attempt);
+                log.info("Retrying after concurrency failure - Operation: {}, Attempt: {}, Backoff: {} ms",
+                        operation, attempt, backoffMillis);
+                sleep(backoffMillis);
+            }
+        }
+    }
+
+    private long backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off before retry", e);
+        }
+    }
+}
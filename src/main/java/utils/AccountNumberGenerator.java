@@ -0,0 +1,7 @@
+package utils;
+
+public interface AccountNumberGenerator {
+    String nextAccountNumber();
+
+    boolean isValid(String accountNumber);
+}
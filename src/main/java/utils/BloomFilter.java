@@ -0,0 +1,85 @@
+package utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("Expected insertions must be positive: " + expectedInsertions);
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = Math.toIntExact(Math.max(1, (bits + 63) / 64));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitSize = wordCount * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(String value) {
+        long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitSize;
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            if ((words.get(word) & mask) == 0) {
+                words.getAndAccumulate(word, mask, (current, set) -> current | set);
+            }
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitSize;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    public long bitCount() {
+        long count = 0;
+        for (int i = 0; i < words.length(); i++) {
+            count += Long.bitCount(words.get(i));
+        }
+        return count;
+    }
+
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) bitCount() / bitSize, hashCount);
+    }
+
+    private static long hash(String value, long seed) {
+        long hash = seed ^ value.length();
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0xFF51AFD7ED558CCDL;
+            hash = Long.rotateLeft(hash, 31);
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,63 @@
+package utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CheckDigitAccountNumberGenerator implements AccountNumberGenerator {
+    private static final long EPOCH_MILLIS = 1_704_067_200_000L;
+    private static final long MAX_COUNTER = 99_999_999_999_999L;
+    private static final int MAX_NODE_ID = 99;
+    private static final int ACCOUNT_NUMBER_LENGTH = 18;
+    private static final int LEGACY_ACCOUNT_NUMBER_LENGTH = 13;
+
+    private final int nodeId;
+    private final boolean acceptLegacy;
+    private final AtomicLong lastCounter = new AtomicLong();
+
+    public CheckDigitAccountNumberGenerator(int nodeId, boolean acceptLegacy) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node ID must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.acceptLegacy = acceptLegacy;
+    }
+
+    @Override
+    public String nextAccountNumber() {
+        long counter = lastCounter.updateAndGet(previous ->
+                Math.max(previous + 1, System.currentTimeMillis() - EPOCH_MILLIS));
+        if (counter > MAX_COUNTER) {
+            throw new IllegalStateException("Account number space exhausted");
+        }
+
+        long body = counter * 100 + nodeId;
+        return String.format("%016d%02d", body, checkDigits(body));
+    }
+
+    @Override
+    public boolean isValid(String accountNumber) {
+        if (accountNumber == null || !isDigits(accountNumber)) {
+            return false;
+        }
+        if (accountNumber.length() == ACCOUNT_NUMBER_LENGTH) {
+            return Long.parseLong(accountNumber) % 97 == 1;
+        }
+        return acceptLegacy && accountNumber.length() == LEGACY_ACCOUNT_NUMBER_LENGTH;
+    }
+
+    static int checkDigits(long body) {
+        return (int) (98 - (body * 100) % 97);
+    }
+
+    private static boolean isDigits(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,28 +1,55 @@
 package utils;
 
-import lombok.Getter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
-@Getter
 public class CustomerIdGenerator {
     private static final String PREFIX = "CUST";
-    private int lastNumber;
 
-    public CustomerIdGenerator(String lastCustomerId) {
-        if (lastCustomerId == null || !lastCustomerId.startsWith(PREFIX)) {
-            throw new IllegalArgumentException("Invalid CustomerID " + lastCustomerId);
-        }
-        String numericPart = lastCustomerId.substring(PREFIX.length());
-        try {
-            this.lastNumber = Integer.parseInt(numericPart);
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException("Customer ID cannot read: " + numericPart, e);
+    private final LongSupplier blockAllocator;
+    private final int blockSize;
+    private volatile Block currentBlock;
+
+    public CustomerIdGenerator(LongSupplier blockAllocator, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
         }
+        this.blockAllocator = blockAllocator;
+        this.blockSize = blockSize;
     }
 
     public String getNextId() {
-        lastNumber++;
-        String formattedNumber = String.format("%04d", lastNumber);
-        return PREFIX + formattedNumber;
+        while (true) {
+            Block block = currentBlock;
+            if (block != null) {
+                long number = block.next.getAndIncrement();
+                if (number < block.end) {
+                    return PREFIX + String.format("%04d", number);
+                }
+            }
+            allocateBlock(block);
+        }
     }
 
-}
\ No newline at end of file
+    private synchronized void allocateBlock(Block exhausted) {
+        if (currentBlock != exhausted) {
+            return;
+        }
+
+        long start = blockAllocator.getAsLong();
+        if (start < 1) {
+            throw new IllegalStateException("Invalid customer ID block start: " + start);
+        }
+        currentBlock = new Block(start, start + blockSize);
+    }
+
+    private static final class Block {
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
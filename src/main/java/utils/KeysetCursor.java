@@ -0,0 +1,52 @@
+package utils;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class KeysetCursor {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime timestamp;
+    private final long id;
+
+    public KeysetCursor(LocalDateTime timestamp, long id) {
+        if (timestamp == null) {
+            throw new IllegalArgumentException("Cursor timestamp is required");
+        }
+        this.timestamp = timestamp;
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = VERSION + SEPARATOR + timestamp + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            return new KeysetCursor(LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package utils;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TransactionIdGenerator {
+    private static final String PREFIX = "TXN";
+    private static final long EPOCH_MILLIS = 1_704_067_200_000L;
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int ENCODED_LENGTH = 13;
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private final long nodeBits;
+    private final AtomicLong state = new AtomicLong();
+
+    public TransactionIdGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node ID must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+    }
+
+    public String nextId() {
+        long next = state.updateAndGet(previous -> {
+            long nowMillis = System.currentTimeMillis() - EPOCH_MILLIS;
+            return nowMillis > (previous >>> SEQUENCE_BITS) ? nowMillis << SEQUENCE_BITS : previous + 1;
+        });
+
+        long millis = next >>> SEQUENCE_BITS;
+        long id = (millis << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+        return PREFIX + encode(id);
+    }
+
+    public static Optional<Instant> issuedAt(String transactionId) {
+        if (transactionId == null || transactionId.length() != PREFIX.length() + ENCODED_LENGTH
+                || !transactionId.startsWith(PREFIX)) {
+            return Optional.empty();
+        }
+
+        long value = 0;
+        for (int i = PREFIX.length(); i < transactionId.length(); i++) {
+            int digit = decodeDigit(transactionId.charAt(i));
+            if (digit < 0 || (i == PREFIX.length() && digit > 15)) {
+                return Optional.empty();
+            }
+            value = (value << 5) | digit;
+        }
+
+        return Optional.of(Instant.ofEpochMilli((value >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS));
+    }
+
+    private static int decodeDigit(char c) {
+        for (int i = 0; i < ALPHABET.length; i++) {
+            if (ALPHABET[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String encode(long value) {
+        char[] encoded = new char[ENCODED_LENGTH];
+        for (int i = ENCODED_LENGTH - 1; i >= 0; i--) {
+            encoded[i] = ALPHABET[(int) (value & 31)];
+            value >>>= 5;
+        }
+        return new String(encoded);
+    }
+}
@@ -0,0 +1,124 @@
+package utils;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+public class TransactionStats {
+
+    private final int horizonSeconds;
+    private final LongSupplier epochSeconds;
+    private final ConcurrentHashMap<String, Ring> rings = new ConcurrentHashMap<>();
+
+    public TransactionStats(int horizonSeconds) {
+        this(horizonSeconds, () -> System.currentTimeMillis() / 1000);
+    }
+
+    TransactionStats(int horizonSeconds, LongSupplier epochSeconds) {
+        if (horizonSeconds < 1) {
+            throw new IllegalArgumentException("Horizon must be at least one second: " + horizonSeconds);
+        }
+        this.horizonSeconds = horizonSeconds;
+        this.epochSeconds = epochSeconds;
+    }
+
+    public void record(String transactionType, BigDecimal amount, boolean succeeded) {
+        Ring ring = rings.get(transactionType);
+        if (ring == null) {
+            ring = rings.computeIfAbsent(transactionType, type -> new Ring(horizonSeconds + 2));
+        }
+
+        Bucket bucket = ring.current(epochSeconds.getAsLong());
+        bucket.events.increment();
+        if (!succeeded) {
+            bucket.failures.increment();
+        } else if (amount != null) {
+            bucket.amountCents.add(amount.movePointRight(2).longValue());
+        }
+    }
+
+    public Window window(int seconds) {
+        if (seconds < 1 || seconds > horizonSeconds) {
+            throw new IllegalArgumentException("Window must be between 1 and " + horizonSeconds + " seconds: " + seconds);
+        }
+
+        long now = epochSeconds.getAsLong();
+        Map<String, TypeTotals> byType = new TreeMap<>();
+        long events = 0;
+        long failures = 0;
+        for (Map.Entry<String, Ring> entry : rings.entrySet()) {
+            TypeTotals totals = entry.getValue().sum(now - seconds, now - 1);
+            if (totals.events() > 0) {
+                byType.put(entry.getKey(), totals);
+                events += totals.events();
+                failures += totals.failures();
+            }
+        }
+        return new Window(seconds, events, failures, byType);
+    }
+
+    public record Window(int seconds, long events, long failures, Map<String, TypeTotals> byType) {
+
+        public double eventsPerSecond() {
+            return (double) events / seconds;
+        }
+
+        public double failureRatio() {
+            return events == 0 ? 0 : (double) failures / events;
+        }
+    }
+
+    public record TypeTotals(long events, long failures, BigDecimal amount) {
+    }
+
+    private static final class Ring {
+        private final AtomicReferenceArray<Bucket> buckets;
+
+        private Ring(int length) {
+            this.buckets = new AtomicReferenceArray<>(length);
+        }
+
+        private Bucket current(long second) {
+            int slot = (int) Math.floorMod(second, (long) buckets.length());
+            Bucket bucket = buckets.get(slot);
+            while (bucket == null || bucket.second < second) {
+                Bucket fresh = new Bucket(second);
+                if (buckets.compareAndSet(slot, bucket, fresh)) {
+                    return fresh;
+                }
+                bucket = buckets.get(slot);
+            }
+            return bucket;
+        }
+
+        private TypeTotals sum(long fromSecond, long toSecond) {
+            long events = 0;
+            long failures = 0;
+            long amountCents = 0;
+            for (int slot = 0; slot < buckets.length(); slot++) {
+                Bucket bucket = buckets.get(slot);
+                if (bucket != null && bucket.second >= fromSecond && bucket.second <= toSecond) {
+                    events += bucket.events.sum();
+                    failures += bucket.failures.sum();
+                    amountCents += bucket.amountCents.sum();
+                }
+            }
+            return new TypeTotals(events, failures, BigDecimal.valueOf(amountCents, 2));
+        }
+    }
+
+    private static final class Bucket {
+        private final long second;
+        private final LongAdder events = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder amountCents = new LongAdder();
+
+        private Bucket(long second) {
+            this.second = second;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package repository.archive;
+
+import model.entity.Posting;
+import model.entity.Transaction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionArchiveTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2023, 3);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void scansPublishedMonthNewestFirstAcrossBlocks() throws IOException {
+        TransactionArchive archive = archiveWithMonth(10, 3);
+
+        List<Transaction> scanned = new ArrayList<>();
+        archive.scanDateRange(day(3), day(7), scanned::add);
+
+        assertThat(scanned)
+                .extracting(Transaction::getTransactionId)
+                .containsExactly("TXN-7", "TXN-6", "TXN-5", "TXN-4", "TXN-3");
+        assertThat(scanned.get(0).getAmount()).isEqualByComparingTo("7.25");
+        assertThat(scanned.get(0).getTransactionDate()).isEqualTo(day(7));
+    }
+
+    @Test
+    void answersHistoryAndBalanceAfterReload() throws IOException {
+        archiveWithMonth(10, 4);
+
+        TransactionArchive reloaded = new TransactionArchive(directory.toString());
+        reloaded.loadIndex();
+
+        assertThat(reloaded.isArchived(MONTH)).isTrue();
+        assertThat(reloaded.reaches(day(20))).isTrue();
+        assertThat(reloaded.reaches(MONTH.plusMonths(1).atDay(1).atStartOfDay())).isFalse();
+
+        List<Posting> history = reloaded.findAccountHistory("1000000001", null, 3);
+        assertThat(history)
+                .extracting(Posting::getTransactionId)
+                .containsExactly("TXN-10", "TXN-9", "TXN-8");
+        assertThat(history.get(0).getDirection()).isEqualTo(Posting.DEBIT);
+        assertThat(history.get(0).getBalanceAfter()).isEqualByComparingTo("990.00");
+
+        assertThat(reloaded.findBalanceBefore("1000000002", day(5))).contains(new BigDecimal("1004.00"));
+        assertThat(reloaded.findBalanceBefore("1000000003", day(5))).isEmpty();
+    }
+
+    @Test
+    void addsUnanchoredCreditsToLastArchivedBalance() throws IOException {
+        TransactionArchive archive = new TransactionArchive(directory.toString());
+        try (ArchiveFile.Writer writer = archive.openWriter(MONTH, 2)) {
+            for (int i = 1; i <= 6; i++) {
+                ArchivedTransaction row = row(i);
+                writer.append(i > 2 ? new ArchivedTransaction(row.transaction(), row.fromBalanceAfter(), null) : row);
+            }
+            writer.finish();
+        }
+        archive.publish(MONTH);
+
+        assertThat(archive.findBalanceBefore("1000000002", day(5))).contains(new BigDecimal("1009.50"));
+        assertThat(archive.findAccountHistory("1000000002", null, 6))
+                .extracting(Posting::getTransactionId)
+                .containsExactly("TXN-6", "TXN-5", "TXN-4", "TXN-3", "TXN-2", "TXN-1");
+    }
+
+    @Test
+    void pendingChecksumMatchesExportedRowsOnly() throws IOException {
+        TransactionArchive archive = new TransactionArchive(directory.toString());
+        writePending(archive, 10, 3);
+
+        long hot = 0;
+        for (int i = 1; i <= 10; i++) {
+            hot += row(i).checksum();
+        }
+        assertThat(archive.pendingChecksum(MONTH)).isEqualTo(hot);
+
+        ArchivedTransaction reversed = row(4);
+        reversed.transaction().setStatus("REVERSED");
+        assertThat(archive.pendingChecksum(MONTH)).isNotEqualTo(hot - row(4).checksum() + reversed.checksum());
+    }
+
+    private TransactionArchive archiveWithMonth(int rows, int blockRows) throws IOException {
+        TransactionArchive archive = new TransactionArchive(directory.toString());
+        writePending(archive, rows, blockRows);
+        archive.publish(MONTH);
+        return archive;
+    }
+
+    private static void writePending(TransactionArchive archive, int rows, int blockRows) throws IOException {
+        try (ArchiveFile.Writer writer = archive.openWriter(MONTH, blockRows)) {
+            for (int i = 1; i <= rows; i++) {
+                writer.append(row(i));
+            }
+            writer.finish();
+        }
+    }
+
+    private static ArchivedTransaction row(int i) {
+        Transaction transaction = Transaction.builder()
+                .id((long) i)
+                .transactionId("TXN-" + i)
+                .fromAccountNumber("1000000001")
+                .toAccountNumber("1000000002")
+                .amount(new BigDecimal(i + ".25"))
+                .transactionType("TRANSFER")
+                .description("Archived transfer " + i)
+                .transactionDate(day(i))
+                .status("COMPLETED")
+                .build();
+        return new ArchivedTransaction(transaction, new BigDecimal(1000 - i + ".00"), new BigDecimal(1000 + i + ".00"));
+    }
+
+    private static LocalDateTime day(int dayOfMonth) {
+        return MONTH.atDay(dayOfMonth).atTime(12, 0);
+    }
+}
@@ -0,0 +1,197 @@
+package repository.cache;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import model.entity.Account;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import repository.impl.AccountRepositoryImpl;
+import repository.routing.ReadYourWrites;
+import repository.routing.ReplicaRoutingDataSource;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingAccountRepositoryTest {
+
+    private static final String ACCOUNT = "1000000001";
+
+    private final InMemoryAccountRepository store = new InMemoryAccountRepository();
+    private final CachingAccountRepository repository = new CachingAccountRepository(store,
+            new SimpleMeterRegistry(), Optional.empty(), 100, 60);
+
+    @AfterEach
+    void clearTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    void servesRepeatedLookupsFromCache() {
+        store.put(ACCOUNT, "100.00");
+
+        assertThat(balance()).isEqualByComparingTo("100.00");
+        assertThat(balance()).isEqualByComparingTo("100.00");
+        assertThat(store.loads).hasValue(1);
+    }
+
+    @Test
+    void readsOwnWritesAndInvalidatesAfterCommit() {
+        store.put(ACCOUNT, "100.00");
+        assertThat(balance()).isEqualByComparingTo("100.00");
+
+        TransactionSynchronizationManager.initSynchronization();
+        repository.creditBalance(ACCOUNT, new BigDecimal("50.00"));
+        assertThat(balance()).isEqualByComparingTo("150.00");
+
+        CompletableFuture.runAsync(() -> assertThat(balance()).isEqualByComparingTo("100.00")).join();
+
+        store.committed();
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(balance()).isEqualByComparingTo("150.00");
+    }
+
+    @Test
+    void invalidatesAfterRollback() {
+        store.put(ACCOUNT, "100.00");
+        assertThat(balance()).isEqualByComparingTo("100.00");
+
+        TransactionSynchronizationManager.initSynchronization();
+        repository.debitBalance(ACCOUNT, new BigDecimal("40.00"));
+        assertThat(balance()).isEqualByComparingTo("60.00");
+
+        store.rolledBack();
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertThat(balance()).isEqualByComparingTo("100.00");
+    }
+
+    @Test
+    void invalidatesBatchDeltasAfterCommit() {
+        store.put(ACCOUNT, "100.00");
+        store.put("1000000002", "100.00");
+        assertThat(balance()).isEqualByComparingTo("100.00");
+
+        TransactionSynchronizationManager.initSynchronization();
+        repository.applyBalanceDeltas(Map.of(ACCOUNT, new BigDecimal("-25.00"), "1000000002", new BigDecimal("25.00")));
+        store.committed();
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(balance()).isEqualByComparingTo("75.00");
+        assertThat(balance("1000000002")).isEqualByComparingTo("125.00");
+    }
+
+    @Test
+    void bypassesCacheForReadYourWrites() {
+        store.put(ACCOUNT, "100.00");
+        assertThat(balance()).isEqualByComparingTo("100.00");
+
+        store.put(ACCOUNT, "175.00");
+        ReadYourWrites.enable();
+        assertThat(balance()).isEqualByComparingTo("175.00");
+        assertThat(store.loads).hasValue(2);
+    }
+
+    @Test
+    void neverCachesReplicaRoutedReads() {
+        try (HikariDataSource primary = new HikariDataSource(); HikariDataSource replica = new HikariDataSource()) {
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            CachingAccountRepository routed = new CachingAccountRepository(store, meterRegistry,
+                    Optional.of(new ReplicaRoutingDataSource(primary, Map.of("replica-0", replica), 1000, meterRegistry)),
+                    100, 60);
+            store.put(ACCOUNT, "100.00");
+
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            routed.findByAccountNumber(ACCOUNT);
+            routed.findByAccountNumber(ACCOUNT);
+            assertThat(store.loads).hasValue(2);
+
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            routed.findByAccountNumber(ACCOUNT);
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            assertThat(routed.findByAccountNumber(ACCOUNT).orElseThrow().getBalance()).isEqualByComparingTo("100.00");
+            assertThat(store.loads).hasValue(3);
+        }
+    }
+
+    private BigDecimal balance() {
+        return balance(ACCOUNT);
+    }
+
+    private BigDecimal balance(String accountNumber) {
+        return repository.findByAccountNumber(accountNumber).orElseThrow().getBalance();
+    }
+
+    private void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static class InMemoryAccountRepository extends AccountRepositoryImpl {
+        private final Map<String, BigDecimal> committed = new ConcurrentHashMap<>();
+        private final Map<String, BigDecimal> uncommitted = new ConcurrentHashMap<>();
+        private final AtomicInteger loads = new AtomicInteger();
+
+        InMemoryAccountRepository() {
+            super(null, null);
+        }
+
+        void put(String accountNumber, String balance) {
+            committed.put(accountNumber, new BigDecimal(balance));
+        }
+
+        void committed() {
+            committed.putAll(uncommitted);
+            uncommitted.clear();
+        }
+
+        void rolledBack() {
+            uncommitted.clear();
+        }
+
+        @Override
+        public Optional<Account> findByAccountNumber(String accountNumber) {
+            loads.incrementAndGet();
+            BigDecimal balance = TransactionSynchronizationManager.isSynchronizationActive()
+                    ? uncommitted.getOrDefault(accountNumber, committed.get(accountNumber))
+                    : committed.get(accountNumber);
+            return Optional.ofNullable(balance).map(value -> Account.builder()
+                    .accountNumber(accountNumber)
+                    .balance(value)
+                    .isActive(true)
+                    .build());
+        }
+
+        @Override
+        public Optional<Account> creditBalance(String accountNumber, BigDecimal amount) {
+            applyBalanceDeltas(Map.of(accountNumber, amount));
+            return findByAccountNumber(accountNumber);
+        }
+
+        @Override
+        public Optional<Account> debitBalance(String accountNumber, BigDecimal amount) {
+            return creditBalance(accountNumber, amount.negate());
+        }
+
+        @Override
+        public void applyBalanceDeltas(Map<String, BigDecimal> deltas) {
+            deltas.forEach((accountNumber, delta) -> uncommitted.merge(accountNumber,
+                    committed.get(accountNumber).add(delta), (current, ignored) -> current.add(delta)));
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package repository.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import model.entity.Customer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import repository.impl.CustomerRepositoryImpl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingCustomerRepositoryTest {
+
+    private static final String CUSTOMER = "CUS000001";
+
+    private final InMemoryCustomerRepository store = new InMemoryCustomerRepository();
+    private final CachingCustomerRepository repository = new CachingCustomerRepository(store,
+            new SimpleMeterRegistry(), Optional.empty(), 100, 60);
+
+    @AfterEach
+    void clearTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void servesLookupsBySecondaryKeysFromCache() {
+        store.put(customer("old@example.com"));
+
+        assertThat(repository.findByCustomerId(CUSTOMER)).isPresent();
+        assertThat(repository.findByEmail("old@example.com")).isPresent();
+        assertThat(repository.findByNationalId("12345678901")).isPresent();
+        assertThat(store.loads).hasValue(1);
+    }
+
+    @Test
+    void readsOwnWritesAndInvalidatesAfterCommit() {
+        store.put(customer("old@example.com"));
+        assertThat(repository.findByEmail("old@example.com")).isPresent();
+
+        TransactionSynchronizationManager.initSynchronization();
+        repository.save(customer("new@example.com"));
+        assertThat(email()).isEqualTo("new@example.com");
+
+        CompletableFuture.runAsync(() -> assertThat(email()).isEqualTo("old@example.com")).join();
+
+        store.committed();
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(email()).isEqualTo("new@example.com");
+        assertThat(repository.findByEmail("old@example.com")).isEmpty();
+        assertThat(repository.findByEmail("new@example.com")).isPresent();
+    }
+
+    @Test
+    void invalidatesAfterRollback() {
+        store.put(customer("old@example.com"));
+        assertThat(email()).isEqualTo("old@example.com");
+
+        TransactionSynchronizationManager.initSynchronization();
+        repository.save(customer("new@example.com"));
+        assertThat(email()).isEqualTo("new@example.com");
+
+        CompletableFuture.runAsync(() -> assertThat(email()).isEqualTo("old@example.com")).join();
+
+        store.rolledBack();
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertThat(email()).isEqualTo("old@example.com");
+        assertThat(repository.findByEmail("new@example.com")).isEmpty();
+    }
+
+    private String email() {
+        return repository.findByCustomerId(CUSTOMER).orElseThrow().getEmail();
+    }
+
+    private void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static Customer customer(String email) {
+        return Customer.builder()
+                .id(1L)
+                .customerId(CUSTOMER)
+                .firstName("Ada")
+                .lastName("Lovelace")
+                .email(email)
+                .nationalId("12345678901")
+                .isActive(true)
+                .build();
+    }
+
+    private static class InMemoryCustomerRepository extends CustomerRepositoryImpl {
+        private final Map<String, Customer> committed = new ConcurrentHashMap<>();
+        private final Map<String, Customer> uncommitted = new ConcurrentHashMap<>();
+        private final AtomicInteger loads = new AtomicInteger();
+
+        InMemoryCustomerRepository() {
+            super(null, null);
+        }
+
+        void put(Customer customer) {
+            committed.put(customer.getCustomerId(), customer);
+        }
+
+        void committed() {
+            committed.putAll(uncommitted);
+            uncommitted.clear();
+        }
+
+        void rolledBack() {
+            uncommitted.clear();
+        }
+
+        @Override
+        public Customer save(Customer customer) {
+            uncommitted.put(customer.getCustomerId(), customer);
+            return customer;
+        }
+
+        @Override
+        public Optional<Customer> findByCustomerId(String customerId) {
+            return find(customer -> customer.getCustomerId().equals(customerId));
+        }
+
+        @Override
+        public Optional<Customer> findByEmail(String email) {
+            return find(customer -> customer.getEmail().equals(email));
+        }
+
+        @Override
+        public Optional<Customer> findByNationalId(String nationalId) {
+            return find(customer -> customer.getNationalId().equals(nationalId));
+        }
+
+        private Optional<Customer> find(Predicate<Customer> matches) {
+            loads.incrementAndGet();
+            Map<String, Customer> visible = new ConcurrentHashMap<>(committed);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                visible.putAll(uncommitted);
+            }
+            return visible.values().stream().filter(matches).findFirst();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package repository.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import model.entity.Customer;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomerExistenceFilterTest {
+
+    private final FakeJdbcTemplate jdbcTemplate = new FakeJdbcTemplate();
+    private final CustomerExistenceFilter filter = new CustomerExistenceFilter(jdbcTemplate, new SimpleMeterRegistry(),
+            true, 10_000, 0.01);
+
+    @Test
+    void keepsCustomerAddedWhileRebuildScans() {
+        jdbcTemplate.rows.add(new String[]{"existing@example.com", "10000000001"});
+        filter.initialize();
+
+        jdbcTemplate.duringScan = () -> filter.add(customer("concurrent@example.com", "10000000002"));
+        filter.rebuild();
+
+        assertThat(filter.mightContainEmail("existing@example.com")).isTrue();
+        assertThat(filter.mightContainEmail("concurrent@example.com")).isTrue();
+        assertThat(filter.mightContainNationalId("10000000002")).isTrue();
+    }
+
+    @Test
+    void keepsCustomerAddedBeforeRebuildButNotYetCommitted() {
+        filter.initialize();
+
+        filter.add(customer("uncommitted@example.com", "10000000003"));
+        filter.rebuild();
+
+        assertThat(filter.mightContainEmail("uncommitted@example.com")).isTrue();
+        assertThat(filter.mightContainNationalId("10000000003")).isTrue();
+    }
+
+    @Test
+    void neverLosesConcurrentAdditionsAcrossRebuilds() throws InterruptedException {
+        filter.initialize();
+        int writers = 4;
+        int customersPerWriter = 500;
+        AtomicBoolean writing = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        for (int writer = 0; writer < writers; writer++) {
+            int offset = writer * customersPerWriter;
+            executor.submit(() -> {
+                start.await();
+                for (int i = offset; i < offset + customersPerWriter; i++) {
+                    filter.add(customer("race" + i + "@example.com", Integer.toString(i)));
+                }
+                return null;
+            });
+        }
+        executor.submit(() -> {
+            start.await();
+            while (writing.get()) {
+                filter.rebuild();
+            }
+            return null;
+        });
+
+        start.countDown();
+        executor.shutdown();
+        Thread.sleep(200);
+        writing.set(false);
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 0; i < writers * customersPerWriter; i++) {
+            assertThat(filter.mightContainEmail("race" + i + "@example.com")).isTrue();
+            assertThat(filter.mightContainNationalId(Integer.toString(i))).isTrue();
+        }
+    }
+
+    @Test
+    void treatsEveryKeyAsPossiblyPresentWithoutUniqueIndexes() {
+        jdbcTemplate.validUniqueIndexes = 1;
+        filter.initialize();
+
+        assertThat(filter.mightContainEmail("unknown@example.com")).isTrue();
+        assertThat(filter.mightContainNationalId("19999999999")).isTrue();
+    }
+
+    @Test
+    void reportsAbsentKeysOnceUniqueIndexesAreValid() {
+        filter.initialize();
+
+        assertThat(filter.mightContainEmail("unknown@example.com")).isFalse();
+    }
+
+    private static Customer customer(String email, String nationalId) {
+        return Customer.builder()
+                .customerId("CUS" + nationalId)
+                .email(email)
+                .nationalId(nationalId)
+                .isActive(true)
+                .build();
+    }
+
+    private static class FakeJdbcTemplate extends JdbcTemplate {
+        private final List<String[]> rows = new CopyOnWriteArrayList<>();
+        private volatile Runnable duringScan = () -> {
+        };
+        private volatile int validUniqueIndexes = 2;
+
+        @Override
+        public void query(String sql, RowCallbackHandler rowCallbackHandler) {
+            try {
+                for (String[] row : rows) {
+                    rowCallbackHandler.processRow(resultSet(row));
+                }
+                duringScan.run();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T queryForObject(String sql, Class<T> requiredType) {
+            return (T) Integer.valueOf(validUniqueIndexes);
+        }
+
+        private static ResultSet resultSet(String[] row) {
+            return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                    (proxy, method, args) -> "email".equals(args[0]) ? row[0] : row[1]);
+        }
+    }
+}
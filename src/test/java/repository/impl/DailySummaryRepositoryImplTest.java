@@ -0,0 +1,125 @@
+package repository.impl;
+
+import model.entity.Posting;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import repository.queries.DailySummaryQueries;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DailySummaryRepositoryImplTest {
+
+    private static final String HOT_ACCOUNT = "1000000001";
+    private static final LocalDate DAY = LocalDate.of(2024, 5, 14);
+
+    private final RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+    private final DailySummaryRepositoryImpl repository = new DailySummaryRepositoryImpl(jdbcTemplate);
+
+    DailySummaryRepositoryImplTest() {
+        ReflectionTestUtils.setField(repository, "stripes", 8);
+    }
+
+    @Test
+    void spreadsHotAccountPostingsAcrossStripes() {
+        List<Posting> postings = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            postings.add(credit("TXN-" + i, DAY.atTime(9, 0).plusSeconds(i), "10.00"));
+        }
+
+        repository.addPostings(postings);
+
+        List<Object[]> rows = jdbcTemplate.upserts();
+        Set<Object> stripes = rows.stream().map(row -> row[3]).collect(Collectors.toSet());
+        assertThat(stripes).hasSizeGreaterThan(1).allMatch(stripe -> (int) stripe >= 0 && (int) stripe < 8);
+        assertThat(rows.stream().map(row -> (BigDecimal) row[4]).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .isEqualByComparingTo("640.00");
+        assertThat(rows.stream().mapToLong(row -> (long) row[6]).sum()).isEqualTo(64);
+    }
+
+    @Test
+    void reversesPostingOnTheStripeItWasAddedTo() {
+        Posting posting = credit("TXN-42", DAY.atTime(9, 0), "25.00");
+
+        repository.addPostings(List.of(posting));
+        repository.removePostings(List.of(posting));
+
+        List<Object[]> rows = jdbcTemplate.upserts();
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(1)[3]).isEqualTo(rows.get(0)[3]);
+        assertThat((BigDecimal) rows.get(1)[4]).isEqualByComparingTo("-25.00");
+    }
+
+    @Test
+    void takesSharedLockOnEachPostedDayBeforeUpserting() {
+        repository.addPostings(List.of(
+                credit("TXN-2", DAY.plusDays(1).atTime(0, 0, 1), "5.00"),
+                credit("TXN-1", DAY.atTime(23, 59, 59), "5.00")));
+
+        assertThat(jdbcTemplate.statements).containsExactly(
+                DailySummaryQueries.LOCK_SUMMARY_DAY_SHARED + DAY,
+                DailySummaryQueries.LOCK_SUMMARY_DAY_SHARED + DAY.plusDays(1),
+                DailySummaryQueries.UPSERT_DAILY_SUMMARY);
+    }
+
+    @Test
+    void rebuildLocksOnlyTheRebuiltDay() {
+        repository.rebuildDay(DAY);
+
+        assertThat(jdbcTemplate.statements).containsExactly(
+                DailySummaryQueries.LOCK_SUMMARY_DAY + DAY,
+                DailySummaryQueries.DELETE_DAY_SUMMARIES,
+                DailySummaryQueries.REBUILD_DAY_SUMMARIES);
+    }
+
+    private static Posting credit(String transactionId, LocalDateTime postedAt, String amount) {
+        return Posting.builder()
+                .transactionId(transactionId)
+                .accountNumber(HOT_ACCOUNT)
+                .counterpartyAccountNumber("1000000002")
+                .direction(Posting.CREDIT)
+                .amount(new BigDecimal(amount))
+                .balanceAfter(new BigDecimal("1000.00"))
+                .transactionType("TRANSFER")
+                .status("COMPLETED")
+                .postedAt(postedAt)
+                .build();
+    }
+
+    private static class RecordingJdbcTemplate extends JdbcTemplate {
+        private final List<String> statements = new ArrayList<>();
+        private final List<List<Object[]>> batches = new ArrayList<>();
+
+        List<Object[]> upserts() {
+            return batches.stream().flatMap(List::stream).toList();
+        }
+
+        @Override
+        public List<Map<String, Object>> queryForList(String sql, Object... args) {
+            statements.add(sql + args[0]);
+            return List.of();
+        }
+
+        @Override
+        public int update(String sql, Object... args) {
+            statements.add(sql);
+            return 0;
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            statements.add(sql);
+            batches.add(batchArgs);
+            return new int[batchArgs.size()];
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package repository.journal;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import model.entity.Transaction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import repository.impl.TransactionRepositoryImpl;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class TransactionJournalTest {
+
+    private final RecordingRepository repository = new RecordingRepository();
+    private final TransactionJournal journal = new TransactionJournal(repository, new SimpleMeterRegistry(),
+            100, 10, 50, 1000);
+
+    private final RecordingTransactionManager transactionManager = new RecordingTransactionManager();
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    private final JournalingTransactionRepository journaling = new JournalingTransactionRepository(journal,
+            repository, transactionManager);
+
+    @AfterEach
+    void stopJournal() throws InterruptedException {
+        journal.destroy();
+    }
+
+    @Test
+    void isolatesFailingRowFromRestOfBatch() {
+        CompletableFuture<Transaction> first = journal.append(transaction("TXN-1"));
+        CompletableFuture<Transaction> bad = journal.append(transaction("TXN-BAD"));
+        CompletableFuture<Transaction> second = journal.append(transaction("TXN-2"));
+
+        assertThat(first.join().getTransactionId()).isEqualTo("TXN-1");
+        assertThat(second.join().getTransactionId()).isEqualTo("TXN-2");
+        assertThat(bad).isCompletedExceptionally();
+        assertThat(repository.inserted)
+                .extracting(Transaction::getTransactionId)
+                .containsExactlyInAnyOrder("TXN-1", "TXN-2");
+    }
+
+    @Test
+    void completesJournaledHeaderInTheCallersTransaction() {
+        String reported = transactionTemplate.execute(status -> {
+            Transaction saved = journaling.save(transaction("TXN-COMMITTED"));
+            assertThat(repository.inserted).isEmpty();
+            return saved.getStatus();
+        });
+
+        assertThat(reported).isEqualTo("COMPLETED");
+        assertThat(repository.inserted)
+                .extracting(Transaction::getTransactionId, Transaction::getStatus)
+                .containsExactly(tuple("TXN-COMMITTED", "COMPLETED"));
+        assertThat(transactionManager.commits).hasValue(1);
+    }
+
+    @Test
+    void doesNotReportCompletedWhenJournalFlushFails() {
+        assertThatThrownBy(() -> transactionTemplate.execute(status ->
+                journaling.save(transaction("TXN-BAD")).getStatus()))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(repository.inserted).isEmpty();
+        assertThat(transactionManager.commits).hasValue(0);
+        assertThat(transactionManager.rollbacks).hasValue(1);
+    }
+
+    @Test
+    void marksJournaledHeaderFailedWhenCommitFails() {
+        transactionManager.failNextCommit = true;
+
+        assertThatThrownBy(() -> transactionTemplate.execute(status ->
+                journaling.save(transaction("TXN-LOST-COMMIT")).getStatus()))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(repository.inserted)
+                .extracting(Transaction::getTransactionId, Transaction::getStatus)
+                .containsExactly(tuple("TXN-LOST-COMMIT", "FAILED"));
+    }
+
+    @Test
+    void discardsEntriesOfRolledBackTransaction() {
+        transactionTemplate.executeWithoutResult(status -> {
+            journaling.save(transaction("TXN-ROLLED-BACK"));
+            status.setRollbackOnly();
+        });
+
+        journal.append(transaction("TXN-AFTER")).join();
+        assertThat(repository.inserted)
+                .extracting(Transaction::getTransactionId)
+                .containsExactly("TXN-AFTER");
+    }
+
+    private Transaction transaction(String transactionId) {
+        return Transaction.builder()
+                .transactionId(transactionId)
+                .fromAccountNumber("1000000001")
+                .toAccountNumber("1000000002")
+                .amount(new BigDecimal("10.00"))
+                .transactionType("TRANSFER")
+                .status("COMPLETED")
+                .build();
+    }
+
+    private static class RecordingRepository extends TransactionRepositoryImpl {
+        private final List<Transaction> inserted = new CopyOnWriteArrayList<>();
+
+        RecordingRepository() {
+            super(null, null);
+        }
+
+        @Override
+        public List<Transaction> insertAll(List<Transaction> transactions) {
+            if (transactions.stream().anyMatch(transaction -> transaction.getTransactionId().endsWith("BAD"))) {
+                throw new IllegalStateException("value too long for type character varying(50)");
+            }
+            inserted.addAll(transactions);
+            return transactions;
+        }
+
+        @Override
+        public boolean updateTransactionStatus(String transactionId, String status) {
+            Optional<Transaction> found = inserted.stream()
+                    .filter(transaction -> transaction.getTransactionId().equals(transactionId))
+                    .findFirst();
+            found.ifPresent(transaction -> transaction.setStatus(status));
+            return found.isPresent();
+        }
+    }
+
+    private static class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+        private final AtomicInteger commits = new AtomicInteger();
+        private final AtomicInteger rollbacks = new AtomicInteger();
+        private volatile boolean failNextCommit;
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            if (failNextCommit) {
+                failNextCommit = false;
+                throw new IllegalStateException("connection lost during commit");
+            }
+            commits.incrementAndGet();
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            rollbacks.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package repository.ledger;
+
+import model.entity.Account;
+import model.entity.Posting;
+import model.entity.Transaction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class LedgerEngineRecoveryTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<LedgerEngine> crashedEngines = new ArrayList<>();
+
+    @AfterEach
+    void releaseCrashedEngines() throws IOException {
+        for (LedgerEngine engine : crashedEngines) {
+            engine.close();
+        }
+    }
+
+    @Test
+    void replaysCommittedTransferAfterCrash() throws IOException {
+        LedgerEngine engine = startEngine();
+        transfer(engine);
+        assertThat(engine.reserve("1000000001", new BigDecimal("-500.00"), true)).isEmpty();
+        crash(engine);
+
+        RecordingListener listener = new RecordingListener();
+        LedgerEngine recovered = new LedgerEngine(directory, 2, listener);
+        recovered.recover(baseline());
+
+        assertThat(recovered.find("1000000001").orElseThrow().getBalance()).isEqualByComparingTo("70.00");
+        assertThat(recovered.find("1000000002").orElseThrow().getBalance()).isEqualByComparingTo("80.00");
+        assertThat(listener.balances.get("1000000001").getBalance()).isEqualByComparingTo("70.00");
+        assertThat(listener.transactions)
+                .extracting(Transaction::getTransactionId)
+                .containsExactly("TXN-RECOVERY-1");
+        assertThat(listener.postings)
+                .extracting(Posting::getDirection, Posting::getBalanceAfter)
+                .containsExactly(tuple(Posting.DEBIT, new BigDecimal("70.00")),
+                        tuple(Posting.CREDIT, new BigDecimal("80.00")));
+    }
+
+    @Test
+    void discardsTransferTornBetweenLegs() throws IOException {
+        LedgerEngine engine = startEngine();
+        transfer(engine);
+        crash(engine);
+
+        Path segment = segments().get(0);
+        String content = Files.readString(segment, StandardCharsets.UTF_8);
+        Files.writeString(segment, content.substring(0, content.indexOf("1000000002")), StandardCharsets.UTF_8,
+                StandardOpenOption.TRUNCATE_EXISTING);
+
+        RecordingListener listener = new RecordingListener();
+        LedgerEngine recovered = new LedgerEngine(directory, 2, listener);
+        recovered.recover(baseline());
+
+        assertThat(recovered.find("1000000001").orElseThrow().getBalance()).isEqualByComparingTo("100.00");
+        assertThat(recovered.find("1000000002").orElseThrow().getBalance()).isEqualByComparingTo("50.00");
+        assertThat(listener.transactions).isEmpty();
+    }
+
+    @Test
+    void ignoresTornRecordAtEndOfLog() throws IOException {
+        LedgerEngine engine = startEngine();
+        transfer(engine);
+        crash(engine);
+
+        for (Path segment : segments()) {
+            Files.writeString(segment, "COMMIT|1|1000000001|0.00|2024-01-0", StandardCharsets.UTF_8,
+                    StandardOpenOption.APPEND);
+        }
+
+        LedgerEngine recovered = new LedgerEngine(directory, 2, new RecordingListener());
+        recovered.recover(baseline());
+
+        assertThat(recovered.find("1000000001").orElseThrow().getBalance()).isEqualByComparingTo("70.00");
+        assertThat(recovered.find("1000000002").orElseThrow().getBalance()).isEqualByComparingTo("80.00");
+    }
+
+    @Test
+    void replaysOnlyCommitsAfterLatestCheckpoint() throws IOException {
+        LedgerEngine engine = startEngine();
+        transfer(engine, "TXN-RECOVERY-1");
+        engine.checkpoint();
+        transfer(engine, "TXN-RECOVERY-2");
+        crash(engine);
+
+        RecordingListener listener = new RecordingListener();
+        LedgerEngine recovered = new LedgerEngine(directory, 2, listener);
+        recovered.recover(baseline());
+
+        assertThat(recovered.find("1000000001").orElseThrow().getBalance()).isEqualByComparingTo("40.00");
+        assertThat(recovered.find("1000000002").orElseThrow().getBalance()).isEqualByComparingTo("110.00");
+        assertThat(listener.transactions)
+                .extracting(Transaction::getTransactionId)
+                .containsExactly("TXN-RECOVERY-2");
+        assertThat(segments()).hasSize(1);
+    }
+
+    @Test
+    void keepsBalancesConsistentUnderConcurrentCrossShardTransfers() throws Exception {
+        LedgerEngine engine = startEngine();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> transfers = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String from = i % 2 == 0 ? "1000000001" : "1000000002";
+                String to = i % 2 == 0 ? "1000000002" : "1000000001";
+                transfers.add(executor.submit(() -> {
+                    BigDecimal amount = new BigDecimal("7.00");
+                    if (engine.reserve(from, amount.negate(), true).isPresent()) {
+                        engine.commit(new LedgerCommit()
+                                .addLeg(from, amount.negate(), true)
+                                .addLeg(to, amount, false));
+                    }
+                }));
+            }
+            for (Future<?> transfer : transfers) {
+                transfer.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        BigDecimal first = engine.find("1000000001").orElseThrow().getBalance();
+        BigDecimal second = engine.find("1000000002").orElseThrow().getBalance();
+        assertThat(first.add(second)).isEqualByComparingTo("150.00");
+        assertThat(first.signum()).isNotNegative();
+        assertThat(second.signum()).isNotNegative();
+        crash(engine);
+
+        LedgerEngine recovered = new LedgerEngine(directory, 2, new RecordingListener());
+        recovered.recover(baseline());
+        assertThat(recovered.find("1000000001").orElseThrow().getBalance()).isEqualByComparingTo(first);
+        assertThat(recovered.find("1000000002").orElseThrow().getBalance()).isEqualByComparingTo(second);
+    }
+
+    @Test
+    void keepsReservationsInvisibleUntilCommit() throws IOException {
+        LedgerEngine engine = startEngine();
+
+        LedgerCommit pending = new LedgerCommit().addLeg("1000000001", new BigDecimal("-30.00"), true);
+        assertThat(engine.reserve("1000000001", new BigDecimal("-30.00"), true)).isPresent();
+
+        assertThat(engine.find("1000000001").orElseThrow().getBalance()).isEqualByComparingTo("100.00");
+        assertThat(engine.reserve("1000000001", new BigDecimal("-80.00"), true)).isEmpty();
+        crash(engine);
+
+        RecordingListener listener = new RecordingListener();
+        LedgerEngine recovered = new LedgerEngine(directory, 2, listener);
+        recovered.recover(baseline());
+        assertThat(recovered.find("1000000001").orElseThrow().getBalance()).isEqualByComparingTo("100.00");
+        assertThat(listener.transactions).isEmpty();
+
+        engine.release(pending);
+        assertThat(engine.reserve("1000000001", new BigDecimal("-80.00"), true)).isPresent();
+    }
+
+    private LedgerEngine startEngine() throws IOException {
+        LedgerEngine engine = new LedgerEngine(directory, 2, new RecordingListener());
+        engine.recover(baseline());
+        engine.start(0);
+        return engine;
+    }
+
+    private void transfer(LedgerEngine engine) {
+        transfer(engine, "TXN-RECOVERY-1");
+    }
+
+    private void transfer(LedgerEngine engine, String transactionId) {
+        BigDecimal amount = new BigDecimal("30.00");
+        assertThat(engine.reserve("1000000001", amount.negate(), true)).isPresent();
+        assertThat(engine.reserve("1000000002", amount, false)).isPresent();
+        Transaction transaction = Transaction.builder()
+                .transactionId(transactionId)
+                .fromAccountNumber("1000000001")
+                .toAccountNumber("1000000002")
+                .amount(amount)
+                .transactionType("TRANSFER")
+                .description("Recovery | test")
+                .transactionDate(LocalDateTime.now())
+                .status("COMPLETED")
+                .build();
+        BigDecimal debitBalance = engine.find("1000000001").orElseThrow().getBalance().subtract(amount);
+        BigDecimal creditBalance = engine.find("1000000002").orElseThrow().getBalance().add(amount);
+        engine.commit(new LedgerCommit()
+                .addLeg("1000000001", amount.negate(), true)
+                .addLeg("1000000002", amount, false)
+                .addTransaction(transaction)
+                .addPostings(List.of(Posting.debit(transaction, debitBalance), Posting.credit(transaction, creditBalance))));
+    }
+
+    private void crash(LedgerEngine engine) {
+        crashedEngines.add(engine);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> segments = Files.list(directory)) {
+            return segments.filter(segment -> segment.getFileName().toString().endsWith(".wal"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private List<Account> baseline() {
+        return List.of(account(1L, "1000000001", "100.00"), account(2L, "1000000002", "50.00"));
+    }
+
+    private Account account(Long id, String accountNumber, String balance) {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        return Account.builder()
+                .id(id)
+                .accountNumber(accountNumber)
+                .customerId("CUST0001")
+                .balance(new BigDecimal(balance))
+                .accountType("CHECKING")
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .isActive(true)
+                .build();
+    }
+
+    private static class RecordingListener implements LedgerListener {
+        private final Map<String, Account> balances = new ConcurrentHashMap<>();
+        private final List<Transaction> transactions = new CopyOnWriteArrayList<>();
+        private final List<Posting> postings = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onBalanceChanged(Account account) {
+            balances.put(account.getAccountNumber(), account);
+        }
+
+        @Override
+        public void onTransaction(Transaction transaction) {
+            transactions.add(transaction);
+        }
+
+        @Override
+        public void onPostings(List<Posting> postings) {
+            this.postings.addAll(postings);
+        }
+
+        @Override
+        public void flush() {
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package repository.partition;
+
+import com.bankapp.bankingsystem.DigitalBankingApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@SpringBootTest(classes = DigitalBankingApplication.class)
+@EnabledIfSystemProperty(named = "benchmark.partitioning", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Slf4j
+class TransactionPartitionBenchmark {
+
+    private static final String FLAT_TABLE = "bench_transactions_flat";
+    private static final String PARTITIONED_TABLE = "bench_transactions_partitioned";
+    private static final YearMonth FIRST_MONTH = YearMonth.of(2024, 1);
+    private static final int SPAN_MONTHS = 24;
+    private static final long LOAD_CHUNK_ROWS = 5_000_000L;
+    private static final int WARMUP_QUERIES = 20;
+    private static final int MEASURED_QUERIES = 200;
+
+    private static final String COLUMNS = """
+            id BIGSERIAL,
+            transaction_id VARCHAR(50) NOT NULL,
+            from_account_number VARCHAR(20),
+            to_account_number VARCHAR(20),
+            amount NUMERIC(15, 2) NOT NULL,
+            transaction_type VARCHAR(20) NOT NULL,
+            description VARCHAR(255),
+            transaction_date TIMESTAMP NOT NULL,
+            status VARCHAR(20) NOT NULL
+            """;
+
+    private static final String LOAD_ROWS = """
+            INSERT INTO %s (transaction_id, from_account_number, to_account_number, amount,
+                            transaction_type, description, transaction_date, status)
+            SELECT 'BENCH' || g, 'ACC' || (g %% 100000), 'ACC' || ((g + 1) %% 100000), (g %% 100000) / 100.0,
+                   'TRANSFER', 'Partition benchmark', ?::timestamp + make_interval(secs => g * ?),
+                   CASE WHEN g %% 20 = 0 THEN 'FAILED' ELSE 'COMPLETED' END
+            FROM generate_series(?::bigint, ?::bigint) g
+            """;
+
+    private static final String DATE_RANGE_QUERY = """
+            SELECT * FROM %s
+            WHERE transaction_date BETWEEN ? AND ?
+            ORDER BY transaction_date DESC
+            """;
+
+    private static final String DATE_RANGE_COUNT = """
+            SELECT COUNT(*) FROM %s
+            WHERE transaction_date BETWEEN ? AND ?
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final long rows = Long.getLong("benchmark.partitioning.rows", 100_000_000L);
+
+    @BeforeAll
+    void loadTables() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + FLAT_TABLE + " (" + COLUMNS + ", PRIMARY KEY (id))");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + PARTITIONED_TABLE + " (" + COLUMNS
+                + ", PRIMARY KEY (id, transaction_date)) PARTITION BY RANGE (transaction_date)");
+        for (int i = 0; i < SPAN_MONTHS; i++) {
+            YearMonth month = FIRST_MONTH.plusMonths(i);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS %s_%s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')"
+                    .formatted(PARTITIONED_TABLE, month.toString().replace('-', '_'), PARTITIONED_TABLE,
+                            month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay()));
+        }
+
+        load(FLAT_TABLE);
+        load(PARTITIONED_TABLE);
+    }
+
+    @Test
+    void dateRangeLatencyPartitionedVersusFlat() {
+        for (Duration window : List.of(Duration.ofHours(1), Duration.ofDays(1))) {
+            report("rows", window, FLAT_TABLE, DATE_RANGE_QUERY);
+            report("rows", window, PARTITIONED_TABLE, DATE_RANGE_QUERY);
+        }
+        for (Duration window : List.of(Duration.ofDays(7), Duration.ofDays(30))) {
+            report("count", window, FLAT_TABLE, DATE_RANGE_COUNT);
+            report("count", window, PARTITIONED_TABLE, DATE_RANGE_COUNT);
+        }
+
+        LocalDateTime start = FIRST_MONTH.plusMonths(SPAN_MONTHS / 2).atDay(10).atStartOfDay();
+        jdbcTemplate.queryForList("EXPLAIN (ANALYZE, COSTS OFF, TIMING OFF) " + DATE_RANGE_COUNT.formatted(PARTITIONED_TABLE),
+                        String.class, start, start.plusDays(1))
+                .forEach(line -> log.info("Partitioned plan - {}", line));
+    }
+
+    private void load(String table) {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        if (existing != null && existing >= rows) {
+            log.info("Benchmark table already loaded - Table: {}, Rows: {}", table, existing);
+            return;
+        }
+
+        jdbcTemplate.execute("TRUNCATE " + table);
+        jdbcTemplate.execute("DROP INDEX IF EXISTS " + table + "_date_idx");
+
+        double secondsPerRow = (double) Duration.between(FIRST_MONTH.atDay(1).atStartOfDay(),
+                FIRST_MONTH.plusMonths(SPAN_MONTHS).atDay(1).atStartOfDay()).toSeconds() / rows;
+        long loadStart = System.nanoTime();
+        for (long from = 0; from < rows; from += LOAD_CHUNK_ROWS) {
+            long to = Math.min(from + LOAD_CHUNK_ROWS, rows) - 1;
+            jdbcTemplate.update(LOAD_ROWS.formatted(table), FIRST_MONTH.atDay(1).atStartOfDay(), secondsPerRow, from, to);
+        }
+        jdbcTemplate.execute("CREATE INDEX " + table + "_date_idx ON " + table + " (transaction_date)");
+        jdbcTemplate.execute("ANALYZE " + table);
+
+        log.info("Benchmark table loaded - Table: {}, Rows: {}, Elapsed: {} s", table, rows,
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - loadStart));
+    }
+
+    private void report(String shape, Duration window, String table, String query) {
+        String sql = query.formatted(table);
+        Random random = new Random(42);
+        long spanSeconds = Duration.between(FIRST_MONTH.atDay(1).atStartOfDay(),
+                FIRST_MONTH.plusMonths(SPAN_MONTHS).atDay(1).atStartOfDay()).minus(window).toSeconds();
+
+        long[] latencies = new long[MEASURED_QUERIES];
+        for (int i = 0; i < WARMUP_QUERIES + MEASURED_QUERIES; i++) {
+            LocalDateTime start = FIRST_MONTH.atDay(1).atStartOfDay().plusSeconds((long) (random.nextDouble() * spanSeconds));
+            long startNanos = System.nanoTime();
+            jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+            }, start, start.plus(window));
+            if (i >= WARMUP_QUERIES) {
+                latencies[i - WARMUP_QUERIES] = System.nanoTime() - startNanos;
+            }
+        }
+
+        Arrays.sort(latencies);
+        log.info("Date range latency - Table: {}, Shape: {}, Window: {}, Rows: {}, p50: {} ms, p99: {} ms, max: {} ms",
+                table, shape, window, rows, String.format("%.2f", percentile(latencies, 0.50)),
+                String.format("%.2f", percentile(latencies, 0.99)),
+                String.format("%.2f", latencies[latencies.length - 1] / 1_000_000.0));
+    }
+
+    private static double percentile(long[] sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
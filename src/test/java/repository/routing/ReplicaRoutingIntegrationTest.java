@@ -0,0 +1,101 @@
+package repository.routing;
+
+import com.bankapp.bankingsystem.DigitalBankingApplication;
+import com.zaxxer.hikari.HikariDataSource;
+import controller.filter.ReadYourWritesFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = DigitalBankingApplication.class)
+@ActiveProfiles("replica")
+@EnabledIfSystemProperty(named = "integration.replica", matches = "true")
+class ReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${spring.datasource.url}")
+    private String primaryUrl;
+
+    @Value("${datasource.routing.replica-urls}")
+    private String replicaUrl;
+
+    @Test
+    void routesReadOnlyTransactionsToReplica() {
+        assertThat(connectedUrl(dataSource, transactionManager, true)).isEqualTo(replicaUrl);
+    }
+
+    @Test
+    void routesWritesToPrimary() {
+        assertThat(connectedUrl(dataSource, transactionManager, false)).isEqualTo(primaryUrl);
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaLags() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        HikariDataSource replica = new HikariDataSource();
+        replica.setJdbcUrl(replicaUrl);
+        replica.setUsername(primaryDataSource.getUsername());
+        replica.setPassword(primaryDataSource.getPassword());
+        replica.setReadOnly(true);
+
+        // Measured lag is never negative, so no replica qualifies for reads.
+        try (ReplicaRoutingDataSource lagging = new ReplicaRoutingDataSource(primaryDataSource,
+                Map.of("replica-0", replica), -1, meterRegistry)) {
+            lagging.afterPropertiesSet();
+            DataSource lazy = new LazyConnectionDataSourceProxy(lagging);
+
+            assertThat(connectedUrl(lazy, new DataSourceTransactionManager(lazy), true)).isEqualTo(primaryUrl);
+            assertThat(meterRegistry.counter("datasource.replica.fallback").count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void pinsReadYourWritesRequestsToPrimary() throws Exception {
+        ReadYourWritesFilter filter = new ReadYourWritesFilter();
+        String[] urls = new String[2];
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/accounts"), new MockHttpServletResponse(),
+                (request, response) -> urls[0] = connectedUrl(dataSource, transactionManager, true));
+
+        MockHttpServletRequest pinned = new MockHttpServletRequest("GET", "/api/accounts");
+        pinned.addHeader(ReadYourWritesFilter.READ_YOUR_WRITES_HEADER, "true");
+        filter.doFilter(pinned, new MockHttpServletResponse(),
+                (request, response) -> urls[1] = connectedUrl(dataSource, transactionManager, true));
+
+        assertThat(urls).containsExactly(replicaUrl, primaryUrl);
+        assertThat(ReadYourWrites.isActive()).isFalse();
+    }
+
+    private static String connectedUrl(DataSource dataSource, PlatformTransactionManager transactionManager,
+                                       boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> new JdbcTemplate(dataSource)
+                .execute((ConnectionCallback<String>) connection -> connection.getMetaData().getURL()));
+    }
+}
@@ -0,0 +1,122 @@
+package service;
+
+import com.bankapp.bankingsystem.DigitalBankingApplication;
+import lombok.extern.slf4j.Slf4j;
+import model.dto.request.BatchTransferRequest;
+import model.dto.request.CreateCustomerRequest;
+import model.dto.request.TransferRequest;
+import model.dto.response.BatchTransferResponse;
+import model.entity.Account;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import repository.AccountRepository;
+import utils.AccountNumberGenerator;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = DigitalBankingApplication.class)
+@EnabledIfSystemProperty(named = "benchmark.batch", matches = "true")
+@Slf4j
+class BatchTransferThroughputBenchmark {
+
+    private static final int ACCOUNTS = 50;
+    private static final int TRANSFERS = 1000;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountNumberGenerator accountNumberGenerator;
+
+    @Test
+    void batchEndpointOutperformsSingleTransfers() {
+        List<TransferRequest> transfers = transfers(createAccounts());
+
+        runSingle(transfers);
+        runBatch(transfers);
+
+        long singleNanos = 0;
+        long batchNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            singleNanos += runSingle(transfers);
+            batchNanos += runBatch(transfers);
+        }
+
+        double singleRate = TRANSFERS * ROUNDS * 1_000_000_000.0 / singleNanos;
+        double batchRate = TRANSFERS * ROUNDS * 1_000_000_000.0 / batchNanos;
+        log.info("Transfer throughput - Transfers: {}, Single: {} /s, Batch: {} /s, Speedup: {}x",
+                TRANSFERS, Math.round(singleRate), Math.round(batchRate), String.format("%.1f", batchRate / singleRate));
+
+        assertThat(batchRate).isGreaterThan(singleRate);
+    }
+
+    private long runSingle(List<TransferRequest> transfers) {
+        long startNanos = System.nanoTime();
+        for (TransferRequest transfer : transfers) {
+            transactionService.transferMoney(transfer);
+        }
+        return System.nanoTime() - startNanos;
+    }
+
+    private long runBatch(List<TransferRequest> transfers) {
+        long startNanos = System.nanoTime();
+        BatchTransferResponse response = transactionService.transferMoneyBatch(BatchTransferRequest.builder()
+                .transfers(transfers)
+                .atomic(true)
+                .build());
+        long elapsed = System.nanoTime() - startNanos;
+
+        assertThat(response.getSuccessCount()).isEqualTo(TRANSFERS);
+        return elapsed;
+    }
+
+    private List<TransferRequest> transfers(List<String> accounts) {
+        List<TransferRequest> transfers = new ArrayList<>(TRANSFERS);
+        for (int i = 0; i < TRANSFERS; i++) {
+            transfers.add(TransferRequest.builder()
+                    .fromAccountNumber(accounts.get(i % ACCOUNTS))
+                    .toAccountNumber(accounts.get((i + 1) % ACCOUNTS))
+                    .amount(BigDecimal.ONE)
+                    .description("Batch throughput benchmark")
+                    .build());
+        }
+        return transfers;
+    }
+
+    private List<String> createAccounts() {
+        String runId = Long.toString(System.currentTimeMillis() % 100_000_000L);
+        String customerId = customerService.createCustomer(CreateCustomerRequest.builder()
+                        .firstName("Batch")
+                        .lastName("Bench")
+                        .email("batch" + runId + "@example.com")
+                        .nationalId(String.format("8%010d", Long.parseLong(runId)))
+                        .build())
+                .getCustomerId();
+
+        List<String> accounts = new ArrayList<>(ACCOUNTS);
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accounts.add(accountRepository.save(Account.builder()
+                            .accountNumber(accountNumberGenerator.nextAccountNumber())
+                            .customerId(customerId)
+                            .balance(new BigDecimal("1000000"))
+                            .accountType("CHECKING")
+                            .isActive(true)
+                            .build())
+                    .getAccountNumber());
+        }
+        return accounts;
+    }
+}
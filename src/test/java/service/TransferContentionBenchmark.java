@@ -0,0 +1,133 @@
+package service;
+
+import com.bankapp.bankingsystem.DigitalBankingApplication;
+import lombok.extern.slf4j.Slf4j;
+import model.dto.request.CreateCustomerRequest;
+import model.dto.request.TransferRequest;
+import model.entity.Account;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import repository.AccountRepository;
+import utils.AccountNumberGenerator;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = DigitalBankingApplication.class, properties = "transaction.locking.mode=pessimistic")
+@EnabledIfSystemProperty(named = "benchmark.contention", matches = "true")
+@Slf4j
+class TransferContentionBenchmark {
+
+    private static final int THREADS = 32;
+    private static final int TRANSFERS_PER_THREAD = 200;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountNumberGenerator accountNumberGenerator;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 1000})
+    void transferLatencyUnderContention(int hotPairs) throws InterruptedException {
+        List<String[]> pairs = createAccountPairs(hotPairs);
+        long[] latencies = new long[THREADS * TRANSFERS_PER_THREAD];
+        AtomicInteger cursor = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int thread = 0; thread < THREADS; thread++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                    int slot = cursor.getAndIncrement();
+                    String[] pair = pairs.get(slot % pairs.size());
+                    boolean reverse = (slot / pairs.size()) % 2 == 1;
+
+                    long startNanos = System.nanoTime();
+                    try {
+                        transactionService.transferMoney(TransferRequest.builder()
+                                .fromAccountNumber(reverse ? pair[1] : pair[0])
+                                .toAccountNumber(reverse ? pair[0] : pair[1])
+                                .amount(BigDecimal.ONE)
+                                .description("Contention benchmark")
+                                .build());
+                    } catch (RuntimeException e) {
+                        failures.incrementAndGet();
+                    }
+                    latencies[slot] = System.nanoTime() - startNanos;
+                }
+                return null;
+            });
+        }
+
+        long wallStart = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.MINUTES)).isTrue();
+        long wallMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - wallStart);
+
+        Arrays.sort(latencies);
+        log.info("Transfer contention - Hot pairs: {}, Transfers: {}, Failures: {}, Throughput: {} /s, p50: {} ms, p99: {} ms, max: {} ms",
+                hotPairs, latencies.length, failures.get(), Math.round(latencies.length * 1000.0 / Math.max(wallMillis, 1)),
+                String.format("%.2f", percentile(latencies, 0.50)), String.format("%.2f", percentile(latencies, 0.99)),
+                String.format("%.2f", latencies[latencies.length - 1] / 1_000_000.0));
+
+        assertThat(failures.get()).isZero();
+    }
+
+    private List<String[]> createAccountPairs(int count) {
+        String runId = Long.toString(System.currentTimeMillis() % 100_000_000L);
+        String customerId = customerService.createCustomer(CreateCustomerRequest.builder()
+                        .firstName("Bench")
+                        .lastName("Mark")
+                        .email("bench" + runId + "@example.com")
+                        .nationalId(String.format("9%010d", Long.parseLong(runId) + count))
+                        .build())
+                .getCustomerId();
+
+        List<String[]> pairs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            pairs.add(new String[]{
+                    createAccount(customerId),
+                    createAccount(customerId)
+            });
+        }
+        return pairs;
+    }
+
+    private String createAccount(String customerId) {
+        return accountRepository.save(Account.builder()
+                        .accountNumber(accountNumberGenerator.nextAccountNumber())
+                        .customerId(customerId)
+                        .balance(new BigDecimal("1000000"))
+                        .accountType("CHECKING")
+                        .isActive(true)
+                        .build())
+                .getAccountNumber();
+    }
+
+    private static double percentile(long[] sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
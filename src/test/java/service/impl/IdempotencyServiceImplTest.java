@@ -0,0 +1,195 @@
+package service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import model.dto.response.ApiResponse;
+import model.entity.IdempotencyRecord;
+import model.exception.InsufficientBalanceException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import repository.IdempotencyRepository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyServiceImplTest {
+
+    private static final String KEY = "key-1";
+    private static final String REQUEST = "transfer 10.00";
+
+    private final InMemoryIdempotencyRepository repository = new InMemoryIdempotencyRepository();
+    private final RecordingTransactionManager transactionManager = new RecordingTransactionManager();
+    private final IdempotencyServiceImpl service = new IdempotencyServiceImpl(repository,
+            new ObjectMapper().findAndRegisterModules(), transactionManager, 100, 24, 100, 60_000);
+
+    @Test
+    void completesKeyInTheOperationTransaction() {
+        ResponseEntity<ApiResponse<String>> response = service.execute(KEY, REQUEST, String.class,
+                () -> ResponseEntity.ok(ApiResponse.success("done")));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(repository.completedInTransaction).isTrue();
+        assertThat(repository.records.get(KEY).getStatusCode()).isEqualTo(200);
+        assertThat(transactionManager.commits).hasValue(1);
+        assertThat(transactionManager.rollbacks).hasValue(0);
+    }
+
+    @Test
+    void releasesKeyWhenOperationFails() {
+        assertThatThrownBy(() -> service.execute(KEY, REQUEST, String.class, () -> {
+            throw new IllegalStateException("connection reset");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(repository.records).doesNotContainKey(KEY);
+        assertThat(transactionManager.rollbacks).hasValue(1);
+    }
+
+    @Test
+    void rollsBackAndStoresClientErrors() {
+        ResponseEntity<ApiResponse<String>> response = service.execute(KEY, REQUEST, String.class,
+                () -> ResponseEntity.badRequest().body(ApiResponse.error("Insufficient balance", "BUSINESS_ERROR")));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(transactionManager.rollbacks).hasValue(1);
+        assertThat(repository.records.get(KEY).getStatusCode()).isEqualTo(400);
+    }
+
+    @Test
+    void storesDomainErrorsAsReplayableResponses() {
+        ResponseEntity<ApiResponse<String>> response = service.execute(KEY, REQUEST, String.class, () -> {
+            throw new InsufficientBalanceException("Insufficient balance. Available: 5.00, Required: 10.00");
+        });
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(transactionManager.rollbacks).hasValue(1);
+        assertThat(repository.records.get(KEY).getStatusCode()).isEqualTo(422);
+    }
+
+    @Test
+    void reclaimsStaleInProgressKey() {
+        repository.records.put(KEY, inProgress(LocalDateTime.now().minusMinutes(5)));
+        AtomicInteger executions = new AtomicInteger();
+
+        ResponseEntity<ApiResponse<String>> response = service.execute(KEY, REQUEST, String.class, () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.ok(ApiResponse.success("done"));
+        });
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(executions).hasValue(1);
+        assertThat(repository.records.get(KEY).getStatusCode()).isEqualTo(200);
+    }
+
+    @Test
+    void rejectsFreshInProgressKey() {
+        repository.records.put(KEY, inProgress(LocalDateTime.now()));
+        AtomicInteger executions = new AtomicInteger();
+
+        ResponseEntity<ApiResponse<String>> response = service.execute(KEY, REQUEST, String.class, () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.ok(ApiResponse.success("done"));
+        });
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(executions).hasValue(0);
+    }
+
+    private IdempotencyRecord inProgress(LocalDateTime createdAt) {
+        return IdempotencyRecord.builder()
+                .idempotencyKey(KEY)
+                .requestHash("previous-attempt")
+                .createdAt(createdAt)
+                .expiresAt(createdAt.plusHours(24))
+                .build();
+    }
+
+    private static class InMemoryIdempotencyRepository implements IdempotencyRepository {
+        private final Map<String, IdempotencyRecord> records = new ConcurrentHashMap<>();
+        private boolean completedInTransaction;
+
+        @Override
+        public Optional<IdempotencyRecord> findActive(String idempotencyKey) {
+            return Optional.ofNullable(records.get(idempotencyKey))
+                    .filter(record -> record.getExpiresAt().isAfter(LocalDateTime.now()));
+        }
+
+        @Override
+        public boolean claim(String idempotencyKey, String requestHash, LocalDateTime expiresAt, LocalDateTime staleBefore) {
+            LocalDateTime now = LocalDateTime.now();
+            IdempotencyRecord existing = records.get(idempotencyKey);
+            if (existing != null && existing.getExpiresAt().isAfter(now)
+                    && (existing.getStatusCode() != null || existing.getCreatedAt().isAfter(staleBefore))) {
+                return false;
+            }
+            records.put(idempotencyKey, IdempotencyRecord.builder()
+                    .idempotencyKey(idempotencyKey)
+                    .requestHash(requestHash)
+                    .createdAt(now)
+                    .expiresAt(expiresAt)
+                    .build());
+            return true;
+        }
+
+        @Override
+        public boolean lockInProgress(String idempotencyKey, String requestHash) {
+            IdempotencyRecord record = records.get(idempotencyKey);
+            return record != null && record.getStatusCode() == null && record.getRequestHash().equals(requestHash);
+        }
+
+        @Override
+        public boolean complete(String idempotencyKey, int statusCode, String responseBody) {
+            IdempotencyRecord record = records.get(idempotencyKey);
+            if (record == null || record.getStatusCode() != null) {
+                return false;
+            }
+            completedInTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+            record.setStatusCode(statusCode);
+            record.setResponseBody(responseBody);
+            return true;
+        }
+
+        @Override
+        public void release(String idempotencyKey) {
+            records.computeIfPresent(idempotencyKey, (key, record) -> record.getStatusCode() == null ? null : record);
+        }
+
+        @Override
+        public int deleteExpired(LocalDateTime now) {
+            return 0;
+        }
+    }
+
+    private static class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+        private final AtomicInteger commits = new AtomicInteger();
+        private final AtomicInteger rollbacks = new AtomicInteger();
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            commits.incrementAndGet();
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            rollbacks.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package service.job;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import model.entity.Account;
+import model.entity.Posting;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import repository.PostingRepository;
+import repository.impl.AccountRepositoryImpl;
+import utils.KeysetCursor;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MonthlyStatementJobTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2024, 2);
+
+    @TempDir
+    Path directory;
+
+    private final InMemoryAccountRepository accounts = new InMemoryAccountRepository(4);
+    private final CountingPostingRepository postings = new CountingPostingRepository();
+
+    @Test
+    void writesSuccessOnlyWhenNoAccountFailed() {
+        postings.failing.add(account(3));
+        MonthlyStatementJob job = job();
+
+        assertThat(job.generate(MONTH)).isFalse();
+        assertThat(monthDirectory().resolve("_SUCCESS")).doesNotExist();
+        assertThat(monthDirectory().resolve("_checkpoint")).exists();
+
+        postings.failing.clear();
+        assertThat(job.generate(MONTH)).isTrue();
+        assertThat(monthDirectory().resolve("_SUCCESS")).exists();
+        assertThat(monthDirectory().resolve("_checkpoint")).doesNotExist();
+    }
+
+    @Test
+    void resumesFromCheckpointWithoutDuplicatingStatements() throws IOException {
+        postings.failing.add(account(3));
+        MonthlyStatementJob job = job();
+        job.generate(MONTH);
+        assertThat(job.incompleteMonthsBefore(MONTH.plusMonths(1))).containsExactly(MONTH);
+
+        postings.failing.clear();
+        accounts.pagesAfter.clear();
+        MonthlyStatementJob restarted = job();
+        assertThat(restarted.generate(MONTH)).isTrue();
+
+        assertThat(accounts.pagesAfter.get(0)).isEqualTo(new KeysetCursor(createdAt(2), 2));
+        assertThat(postings.statements).containsOnlyKeys(account(1), account(2), account(3), account(4));
+        assertThat(postings.statements.values()).containsOnly(1);
+        try (Stream<Path> files = Files.list(monthDirectory())) {
+            assertThat(files.map(path -> path.getFileName().toString()).filter(name -> name.endsWith(".csv.gz")))
+                    .hasSize(4);
+        }
+        assertThat(restarted.incompleteMonthsBefore(MONTH.plusMonths(1))).isEmpty();
+    }
+
+    private MonthlyStatementJob job() {
+        return new MonthlyStatementJob(accounts, postings, new NoOpTransactionManager(), new SimpleMeterRegistry(),
+                directory.toString(), 1, 2);
+    }
+
+    private Path monthDirectory() {
+        return directory.resolve(MONTH.toString());
+    }
+
+    private static String account(int i) {
+        return "100000000" + i;
+    }
+
+    private static LocalDateTime createdAt(int i) {
+        return MONTH.atDay(1).atStartOfDay().minusDays(i);
+    }
+
+    private static class InMemoryAccountRepository extends AccountRepositoryImpl {
+        private final List<Account> accounts;
+        private final List<KeysetCursor> pagesAfter = new ArrayList<>();
+
+        InMemoryAccountRepository(int count) {
+            super(null, null);
+            this.accounts = IntStream.rangeClosed(1, count)
+                    .mapToObj(i -> Account.builder()
+                            .id((long) i)
+                            .accountNumber(account(i))
+                            .balance(BigDecimal.ZERO)
+                            .createdAt(createdAt(i))
+                            .isActive(true)
+                            .build())
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public synchronized List<Account> findPage(String accountType, Boolean active, KeysetCursor after, int limit) {
+            pagesAfter.add(after);
+            return accounts.stream()
+                    .sorted(Comparator.comparing(Account::getCreatedAt).thenComparing(Account::getId).reversed())
+                    .filter(account -> after == null || account.getCreatedAt().isBefore(after.getTimestamp())
+                            || (account.getCreatedAt().isEqual(after.getTimestamp()) && account.getId() < after.getId()))
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static class CountingPostingRepository implements PostingRepository {
+        private final Set<String> failing = ConcurrentHashMap.newKeySet();
+        private final Map<String, Integer> statements = new ConcurrentHashMap<>();
+
+        @Override
+        public Optional<BigDecimal> findBalanceBefore(String accountNumber, LocalDateTime endExclusive) {
+            if (failing.contains(accountNumber)) {
+                throw new IllegalStateException("Posting store unavailable");
+            }
+            statements.merge(accountNumber, 1, Integer::sum);
+            return Optional.of(new BigDecimal("100.00"));
+        }
+
+        @Override
+        public void streamByAccountAndDateRange(String accountNumber, LocalDateTime startInclusive,
+                                                LocalDateTime endExclusive, Consumer<Posting> consumer) {
+            consumer.accept(Posting.builder()
+                    .transactionId("TXN-" + accountNumber)
+                    .accountNumber(accountNumber)
+                    .direction(Posting.CREDIT)
+                    .amount(new BigDecimal("25.00"))
+                    .transactionType("DEPOSIT")
+                    .status("COMPLETED")
+                    .postedAt(startInclusive.plusDays(1))
+                    .build());
+        }
+
+        @Override
+        public void saveAll(List<Posting> postings) {
+        }
+
+        @Override
+        public List<Posting> transitionStatus(String transactionId, String status) {
+            return List.of();
+        }
+
+        @Override
+        public List<Posting> findHistoryPage(String accountNumber, KeysetCursor after, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public Optional<LocalDateTime> findOldestPostedAt() {
+            return Optional.empty();
+        }
+    }
+
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
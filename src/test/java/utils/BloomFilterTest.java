@@ -0,0 +1,25 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void hasNoFalseNegativesAndStaysNearTargetRate() {
+        BloomFilter filter = new BloomFilter(100_000, 0.01);
+        IntStream.range(0, 100_000).forEach(i -> filter.put("customer" + i + "@example.com"));
+
+        assertThat(IntStream.range(0, 100_000).allMatch(i -> filter.mightContain("customer" + i + "@example.com")))
+                .isTrue();
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("applicant" + i + "@example.org"))
+                .count();
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isLessThan(0.02);
+    }
+}
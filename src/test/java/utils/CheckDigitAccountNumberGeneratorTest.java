@@ -0,0 +1,62 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CheckDigitAccountNumberGeneratorTest {
+
+    @Test
+    void generatesUniqueMonotonicNumbersWithValidCheckDigits() {
+        CheckDigitAccountNumberGenerator generator = new CheckDigitAccountNumberGenerator(7, false);
+
+        String previous = generator.nextAccountNumber();
+        for (int i = 0; i < 10_000; i++) {
+            String next = generator.nextAccountNumber();
+            assertThat(next).hasSize(18);
+            assertThat(next.substring(14, 16)).isEqualTo("07");
+            assertThat(generator.isValid(next)).isTrue();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void generatesUniqueNumbersAcrossThreads() {
+        CheckDigitAccountNumberGenerator generator = new CheckDigitAccountNumberGenerator(0, false);
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 100_000).parallel()
+                .forEach(i -> numbers.add(generator.nextAccountNumber()));
+
+        assertThat(numbers).hasSize(100_000);
+    }
+
+    @Test
+    void rejectsMistypedAndMalformedNumbers() {
+        CheckDigitAccountNumberGenerator generator = new CheckDigitAccountNumberGenerator(1, false);
+        String valid = generator.nextAccountNumber();
+
+        char[] digits = valid.toCharArray();
+        digits[5] = digits[5] == '9' ? '0' : (char) (digits[5] + 1);
+        String singleDigitError = new String(digits);
+
+        char[] swapped = valid.toCharArray();
+        int i = IntStream.range(0, 15).filter(n -> swapped[n] != swapped[n + 1]).findFirst().orElseThrow();
+        char tmp = swapped[i];
+        swapped[i] = swapped[i + 1];
+        swapped[i + 1] = tmp;
+
+        assertThat(generator.isValid(singleDigitError)).isFalse();
+        assertThat(generator.isValid(new String(swapped))).isFalse();
+        assertThat(generator.isValid(null)).isFalse();
+        assertThat(generator.isValid("")).isFalse();
+        assertThat(generator.isValid("12345678901234567X")).isFalse();
+        assertThat(generator.isValid("1712345678901")).isFalse();
+        assertThat(new CheckDigitAccountNumberGenerator(1, true).isValid("1712345678901")).isTrue();
+    }
+}
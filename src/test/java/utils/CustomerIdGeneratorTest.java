@@ -0,0 +1,79 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomerIdGeneratorTest {
+
+    private static final int BLOCK_SIZE = 50;
+    private static final int THREADS = 16;
+    private static final int IDS_PER_THREAD = 5_000;
+
+    @Test
+    void generatesUniqueIdsAcrossThreads() throws Exception {
+        AtomicLong sequence = new AtomicLong(1 - BLOCK_SIZE);
+        AtomicInteger allocations = new AtomicInteger();
+        CustomerIdGenerator generator = new CustomerIdGenerator(() -> {
+            allocations.incrementAndGet();
+            return sequence.addAndGet(BLOCK_SIZE);
+        }, BLOCK_SIZE);
+
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                long previous = 0;
+                for (int n = 0; n < IDS_PER_THREAD; n++) {
+                    String id = generator.getNextId();
+                    long number = Long.parseLong(id.substring(4));
+                    if (!id.startsWith("CUST") || number <= previous || !ids.add(id)) {
+                        return false;
+                    }
+                    previous = number;
+                }
+                return true;
+            }));
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+
+        int total = THREADS * IDS_PER_THREAD;
+        assertThat(ids).hasSize(total);
+        assertThat(allocations.get()).isEqualTo(total / BLOCK_SIZE);
+    }
+
+    @Test
+    void keepsPrefixAndPaddingAndGrowsPastFourDigits() {
+        AtomicLong sequence = new AtomicLong(9_998 - BLOCK_SIZE);
+        CustomerIdGenerator generator = new CustomerIdGenerator(() -> sequence.addAndGet(BLOCK_SIZE), BLOCK_SIZE);
+
+        assertThat(generator.getNextId()).isEqualTo("CUST9998");
+        assertThat(generator.getNextId()).isEqualTo("CUST9999");
+        assertThat(generator.getNextId()).isEqualTo("CUST10000");
+
+        CustomerIdGenerator fresh = new CustomerIdGenerator(() -> 7, BLOCK_SIZE);
+        assertThat(fresh.getNextId()).isEqualTo("CUST0007");
+    }
+}
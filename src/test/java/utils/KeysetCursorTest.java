@@ -0,0 +1,34 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    void roundTripsTimestampAndId() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2024, 3, 1, 12, 30, 45, 123_456_000), 42L);
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void treatsMissingTokenAsFirstPage() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode("  ")).isNull();
+    }
+
+    @Test
+    void rejectsTamperedTokens() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode("%%%"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,89 @@
+package utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnabledIfSystemProperty(named = "benchmark.ids", matches = "true")
+@State(Scope.Benchmark)
+@Slf4j
+public class TransactionIdGeneratorBenchmark {
+
+    private TransactionIdGenerator generator;
+
+    @Setup
+    public void setUp() {
+        generator = new TransactionIdGenerator(0);
+    }
+
+    @Benchmark
+    public String millisWithUuidPrefix() {
+        return "TXN" + System.currentTimeMillis() + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    }
+
+    @Benchmark
+    public String randomUuid() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String millisOnly() {
+        return "TXN" + System.currentTimeMillis();
+    }
+
+    @Benchmark
+    public String transactionIdGenerator() {
+        return generator.nextId();
+    }
+
+    @Test
+    void generatorOutrunsRandomUuidSchemes() throws RunnerException {
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads : new int[]{1, cores}) {
+            Options options = new OptionsBuilder()
+                    .include(TransactionIdGeneratorBenchmark.class.getName() + "\\.")
+                    .mode(Mode.AverageTime)
+                    .timeUnit(TimeUnit.NANOSECONDS)
+                    .warmupIterations(3)
+                    .warmupTime(TimeValue.seconds(1))
+                    .measurementIterations(5)
+                    .measurementTime(TimeValue.seconds(1))
+                    .threads(threads)
+                    .forks(1)
+                    .build();
+            Collection<RunResult> results = new Runner(options).run();
+
+            Map<String, Double> nanos = new HashMap<>();
+            for (RunResult result : results) {
+                String scheme = result.getParams().getBenchmark();
+                scheme = scheme.substring(scheme.lastIndexOf('.') + 1);
+                nanos.put(scheme, result.getPrimaryResult().getScore());
+                log.info("Transaction ID cost - Scheme: {}, Threads: {}, Cost: {} ns/op, Error: {} ns/op",
+                        scheme, threads, String.format("%.1f", result.getPrimaryResult().getScore()),
+                        String.format("%.1f", result.getPrimaryResult().getScoreError()));
+            }
+            assertThat(nanos.get("transactionIdGenerator"))
+                    .isLessThan(nanos.get("randomUuid"))
+                    .isLessThan(nanos.get("millisWithUuidPrefix"));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionIdGeneratorTest {
+
+    @Test
+    void generatesTimeOrderedIdsOnOneThread() {
+        TransactionIdGenerator generator = new TransactionIdGenerator(3);
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            ids.add(generator.nextId());
+        }
+
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+        assertThat(ids).allSatisfy(id -> assertThat(id).hasSize(16).startsWith("TXN"));
+    }
+
+    @Test
+    void generatesUniqueIdsAcrossThreadsAndNodes() {
+        TransactionIdGenerator first = new TransactionIdGenerator(1);
+        TransactionIdGenerator second = new TransactionIdGenerator(2);
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 200_000).parallel()
+                .forEach(i -> ids.add((i % 2 == 0 ? first : second).nextId()));
+
+        assertThat(ids).hasSize(200_000);
+    }
+
+    @Test
+    void decodesIssueTimeFromId() {
+        Instant before = Instant.now();
+        String id = new TransactionIdGenerator(5).nextId();
+        Instant after = Instant.now();
+
+        assertThat(TransactionIdGenerator.issuedAt(id))
+                .hasValueSatisfying(issuedAt -> assertThat(issuedAt)
+                        .isBetween(before.minusMillis(1), after.plusMillis(1)));
+    }
+
+    @Test
+    void rejectsIdsItDidNotGenerate() {
+        assertThat(TransactionIdGenerator.issuedAt(null)).isEmpty();
+        assertThat(TransactionIdGenerator.issuedAt("TXN-12345")).isEmpty();
+        assertThat(TransactionIdGenerator.issuedAt("ABC0000000000000")).isEmpty();
+        assertThat(TransactionIdGenerator.issuedAt("TXNZ000000000000")).isEmpty();
+        assertThat(TransactionIdGenerator.issuedAt("TXN00000000000IL")).isEmpty();
+    }
+}
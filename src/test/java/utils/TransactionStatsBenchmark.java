@@ -0,0 +1,80 @@
+package utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnabledIfSystemProperty(named = "benchmark.stats", matches = "true")
+@State(Scope.Benchmark)
+@Slf4j
+public class TransactionStatsBenchmark {
+
+    private static final double MAX_NANOS_PER_RECORD = 1_000;
+    private static final String[] TYPES = {"TRANSFER", "DEPOSIT", "WITHDRAW"};
+    private static final BigDecimal[] AMOUNTS = {
+            new BigDecimal("12.34"), new BigDecimal("250.00"), new BigDecimal("0.99"), new BigDecimal("10000.00")
+    };
+
+    private TransactionStats stats;
+
+    @Setup
+    public void setUp() {
+        stats = new TransactionStats(900);
+    }
+
+    @Benchmark
+    public void record(Cursor cursor) {
+        int i = cursor.next();
+        stats.record(TYPES[i % TYPES.length], AMOUNTS[i & 3], (i & 31) != 0);
+    }
+
+    @Test
+    void recordCostsUnderAMicrosecond() throws RunnerException {
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads : new int[]{1, cores}) {
+            Options options = new OptionsBuilder()
+                    .include(TransactionStatsBenchmark.class.getName() + ".record$")
+                    .mode(Mode.AverageTime)
+                    .timeUnit(TimeUnit.NANOSECONDS)
+                    .warmupIterations(3)
+                    .warmupTime(TimeValue.seconds(1))
+                    .measurementIterations(5)
+                    .measurementTime(TimeValue.seconds(1))
+                    .threads(threads)
+                    .forks(1)
+                    .build();
+            RunResult result = new Runner(options).runSingle();
+
+            double nanos = result.getPrimaryResult().getScore();
+            log.info("TransactionStats.record cost - Threads: {}, Cost: {} ns/op, Error: {} ns/op",
+                    threads, String.format("%.1f", nanos),
+                    String.format("%.1f", result.getPrimaryResult().getScoreError()));
+            assertThat(nanos).isLessThan(MAX_NANOS_PER_RECORD);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        int next() {
+            return next++;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionStatsTest {
+
+    @Test
+    void aggregatesCompletedSecondsPerWindowAndType() {
+        AtomicLong clock = new AtomicLong(1_000);
+        TransactionStats stats = new TransactionStats(60, clock::get);
+
+        stats.record("TRANSFER", new BigDecimal("10.50"), true);
+        stats.record("TRANSFER", new BigDecimal("99.00"), false);
+        clock.set(1_001);
+        stats.record("DEPOSIT", new BigDecimal("5.25"), true);
+        stats.record("TRANSFER", new BigDecimal("1.00"), true);
+        clock.set(1_002);
+        stats.record("TRANSFER", new BigDecimal("7.00"), true);
+
+        TransactionStats.Window lastSecond = stats.window(1);
+        assertThat(lastSecond.events()).isEqualTo(2);
+        assertThat(lastSecond.byType().get("DEPOSIT").amount()).isEqualByComparingTo("5.25");
+
+        TransactionStats.Window lastMinute = stats.window(60);
+        assertThat(lastMinute.events()).isEqualTo(4);
+        assertThat(lastMinute.failureRatio()).isEqualTo(0.25);
+        assertThat(lastMinute.byType().get("TRANSFER").events()).isEqualTo(3);
+        assertThat(lastMinute.byType().get("TRANSFER").amount()).isEqualByComparingTo("11.50");
+    }
+
+    @Test
+    void recyclesBucketsOnceTheyFallOutOfTheHorizon() {
+        AtomicLong clock = new AtomicLong(5_000);
+        TransactionStats stats = new TransactionStats(10, clock::get);
+
+        stats.record("WITHDRAW", new BigDecimal("20.00"), true);
+        clock.set(5_012);
+        stats.record("WITHDRAW", new BigDecimal("3.00"), true);
+        clock.set(5_013);
+
+        TransactionStats.Window window = stats.window(10);
+        assertThat(window.events()).isEqualTo(1);
+        assertThat(window.byType().get("WITHDRAW").amount()).isEqualByComparingTo("3.00");
+        assertThat(window.eventsPerSecond()).isEqualTo(0.1);
+    }
+}